@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl;
+
+import static org.contextmapper.dsl.validation.ParallelValidationDiagnostician.PARALLEL_VALIDATION_PROPERTY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.tests.ContextMappingDSLInjectorProvider;
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.testing.InjectWith;
+import org.eclipse.xtext.testing.extensions.InjectionExtension;
+import org.eclipse.xtext.testing.util.ParseHelper;
+import org.eclipse.xtext.testing.validation.ValidationTestHelper;
+import org.eclipse.xtext.validation.Issue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+
+@ExtendWith(InjectionExtension.class)
+@InjectWith(ContextMappingDSLInjectorProvider.class)
+public class ParallelValidationTest {
+
+	@Inject
+	private ParseHelper<ContextMappingModel> parseHelper;
+
+	@Inject
+	private Provider<XtextResourceSet> resourceSetProvider;
+
+	private ValidationTestHelper validationTestHelper = new ValidationTestHelper();
+
+	@Test
+	public void parallelValidationReportsSameIssuesInSameOrder() throws Exception {
+		// given
+		ContextMappingModel model = parseHelper.parse(createModel(50));
+
+		// when
+		List<String> sequentialIssues = validate(model, false);
+		List<String> parallelIssues = validate(model, true);
+
+		// then
+		assertFalse(sequentialIssues.isEmpty());
+		assertEquals(sequentialIssues, parallelIssues);
+	}
+
+	@Test
+	public void parallelValidationOfFreshlyLoadedModelsReportsSameIssues() throws Exception {
+		// given
+		List<String> sequentialIssues = validate(parseWithImport(), false);
+
+		for (int round = 0; round < 10; round++) {
+			// when
+			ContextMappingModel model = parseWithImport();
+			List<String> parallelIssues = validate(model, true);
+
+			// then
+			assertEquals(sequentialIssues, parallelIssues);
+			assertAdaptersAreUnique(model.eResource().getResourceSet().eAdapters());
+			assertAdaptersAreUnique(model.eResource().eAdapters());
+		}
+	}
+
+	/**
+	 * Parses the model into a new resource set without validating it (all indices
+	 * are still cold).
+	 */
+	private ContextMappingModel parseWithImport() throws Exception {
+		ResourceSet resourceSet = resourceSetProvider.get();
+		parseHelper.parse("BoundedContext ImportedContext", URI.createURI("dummy:/imported.cml"), resourceSet);
+		return parseHelper.parse("import \"imported.cml\"" + System.lineSeparator() + createModel(50), URI.createURI("dummy:/main.cml"), resourceSet);
+	}
+
+	private void assertAdaptersAreUnique(List<Adapter> adapters) {
+		Map<Class<?>, Long> adapterCounts = adapters.stream().collect(Collectors.groupingBy(Object::getClass, Collectors.counting()));
+		adapterCounts.forEach((type, count) -> assertEquals(1L, count, type.getName()));
+	}
+
+	private List<String> validate(ContextMappingModel model, boolean parallel) {
+		System.setProperty(PARALLEL_VALIDATION_PROPERTY, Boolean.toString(parallel));
+		try {
+			List<Issue> issues = validationTestHelper.validate(model);
+			return issues.stream().map(i -> i.getSeverity() + ":" + i.getLineNumber() + ":" + i.getMessage()).collect(Collectors.toList());
+		} finally {
+			System.clearProperty(PARALLEL_VALIDATION_PROPERTY);
+		}
+	}
+
+	private String createModel(int numberOfContexts) {
+		StringBuilder cml = new StringBuilder();
+		cml.append("ContextMap {").append(System.lineSeparator());
+		cml.append("  contains Context0, Context1").append(System.lineSeparator());
+		cml.append("  Context0 -> UnknownContext").append(System.lineSeparator());
+		cml.append("}").append(System.lineSeparator());
+		for (int i = 0; i < numberOfContexts; i++) {
+			// every tenth context is a duplicate
+			int name = i % 10 == 9 ? i - 1 : i;
+			cml.append("BoundedContext Context").append(name).append(" {").append(System.lineSeparator());
+			cml.append("  Aggregate Aggregate").append(i).append(" {").append(System.lineSeparator());
+			cml.append("    Entity Entity").append(i).append(" {").append(System.lineSeparator());
+			cml.append("      - Entity").append(i + 1).append(" next").append(System.lineSeparator());
+			cml.append("    }").append(System.lineSeparator());
+			cml.append("  }").append(System.lineSeparator());
+			cml.append("}").append(System.lineSeparator());
+		}
+		cml.append("Domain Domain1 {").append(System.lineSeparator());
+		cml.append("  Subdomain Subdomain1").append(System.lineSeparator());
+		cml.append("}").append(System.lineSeparator());
+		cml.append("UseCase UseCase1").append(System.lineSeparator());
+		return cml.toString();
+	}
+
+}
@@ -1,12 +1,14 @@
 package org.contextmapper.dsl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLPackage;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.contextmapper.dsl.tests.ContextMappingDSLInjectorProvider;
 import org.contextmapper.dsl.validation.ProjectAwareVisibleContextMapsProvider;
@@ -79,6 +81,60 @@ public class ProjectAwareVisibleContextMapsProviderTest extends AbstractCMLInput
 	}
 
 
+	/**
+	 * Same setup as above, but the resource-descriptions are created with the
+	 * {@link ContextMapperResourceDescriptionStrategy}, which exports the context-map
+	 * membership as user data.
+	 * 
+	 * @throws IOException
+	 */
+	@Test
+	void canFindContextMapWithExportedUserData() throws IOException {
+		var resourceSet = getResourceSetOfTestCMLFiles("domain-object-validator-test-bounded-context.cml",
+				"domain-object-validator-test-context-map.cml");
+
+		// given
+		ContextMappingModel importedModel = new CMLResource(resourceSet.getResources().get(0)).getContextMappingModel();
+		ContextMappingModel mainModel = new CMLResource(resourceSet.getResources().get(1)).getContextMappingModel();
+		var strategy = new ContextMapperResourceDescriptionStrategy();
+		var data = prepareResourceDescriptionsData(strategy, importedModel, mainModel);
+		var testee = new ProjectAwareVisibleContextMapsProvider(prepareResourceDescriptionsProvider(data));
+		Entity entity = (Entity) importedModel.getBoundedContexts().get(0).getAggregates().get(0).getDomainObjects().get(0);
+
+		// when
+		var result = testee.get(entity.getReferences().get(0));
+
+		// then
+		assertEquals(1, result.size());
+		assertEquals("TestContextMap", result.iterator().next().getName());
+		var exportedContext = data.getResourceDescription(mainModel.eResource().getURI())
+				.getExportedObjectsByType(ContextMappingDSLPackage.Literals.BOUNDED_CONTEXT).iterator().next();
+		assertEquals(mainModel.eResource().getURIFragment(mainModel.getMap()),
+				exportedContext.getUserData(ContextMapperResourceDescriptionStrategy.CONTEXT_MAP_FRAGMENT));
+	}
+
+	@Test
+	void canUpdateCachedContextMapsIfIndexChanges() throws IOException {
+		var resourceSet = getResourceSetOfTestCMLFiles("domain-object-validator-test-bounded-context.cml",
+				"domain-object-validator-test-context-map.cml");
+
+		// given
+		ContextMappingModel importedModel = new CMLResource(resourceSet.getResources().get(0)).getContextMappingModel();
+		ContextMappingModel mainModel = new CMLResource(resourceSet.getResources().get(1)).getContextMappingModel();
+		var data = prepareResourceDescriptionsData(new ContextMapperResourceDescriptionStrategy(), importedModel, mainModel);
+		var testee = new ProjectAwareVisibleContextMapsProvider(prepareResourceDescriptionsProvider(data));
+		Entity entity = (Entity) importedModel.getBoundedContexts().get(0).getAggregates().get(0).getDomainObjects().get(0);
+		var reference = entity.getReferences().get(0);
+		assertEquals(1, testee.get(reference).size());
+
+		// when
+		data.removeDescription(mainModel.eResource().getURI());
+		var result = testee.get(reference);
+
+		// then
+		assertTrue(result.isEmpty());
+	}
+
 	/**
 	 * Simulates the {@link ResourceDescriptionsData} you get for a eclipse project with all files
 	 * underlying (eResrource) the given model objects. 
@@ -88,7 +144,16 @@ public class ProjectAwareVisibleContextMapsProviderTest extends AbstractCMLInput
 	 * @return
 	 */
 	private ResourceDescriptionsProvider prepareResourceDescriptionsProvider(EObject... activeModelObjects) {
-		var strategy = new DefaultResourceDescriptionStrategy();
+		return prepareResourceDescriptionsProvider(prepareResourceDescriptionsData(new DefaultResourceDescriptionStrategy(), activeModelObjects));
+	}
+
+	private ResourceDescriptionsProvider prepareResourceDescriptionsProvider(ResourceDescriptionsData data) {
+		var resourceDescriptionsProvider = new ResourceDescriptionsProvider();
+		resourceDescriptionsProvider.setResourceDescriptions(() -> data);
+		return resourceDescriptionsProvider;
+	}
+
+	private ResourceDescriptionsData prepareResourceDescriptionsData(DefaultResourceDescriptionStrategy strategy, EObject... activeModelObjects) {
 		strategy.setQualifiedNameProvider(simpleNameProvider);
 
 		List<IResourceDescription> resourceDescriptionList = new ArrayList<>();
@@ -97,10 +162,7 @@ public class ProjectAwareVisibleContextMapsProviderTest extends AbstractCMLInput
 					.create(new DefaultResourceDescription(activeModelObject.eResource(), strategy));
 			resourceDescriptionList.add(resourceDescription);
 		}
-		var data = new ResourceDescriptionsData(resourceDescriptionList);
-		var resourceDescriptionsProvider = new ResourceDescriptionsProvider();
-		resourceDescriptionsProvider.setResourceDescriptions(() -> data);
-		return resourceDescriptionsProvider;
+		return new ResourceDescriptionsData(resourceDescriptionList);
 	}
 
 	
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
+import org.contextmapper.dsl.generator.mdsl.MDSLDataTypeCreator;
+import org.contextmapper.dsl.generator.mdsl.MDSLDataTypeRegistry;
+import org.contextmapper.tactic.dsl.tacticdsl.ComplexType;
+import org.contextmapper.tactic.dsl.tacticdsl.DomainObject;
+import org.contextmapper.tactic.dsl.tacticdsl.TacticdslFactory;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+
+import com.google.inject.Injector;
+
+/**
+ * Compares the creation of the MDSL data types of the same domain objects for
+ * a growing number of service specifications: with a data type registry per
+ * specification (as before) and with one registry shared by all
+ * specifications. The domain objects extend each other in chains and
+ * reference the next chain.
+ *
+ * Run the main method manually; this class is not part of the test suite.
+ */
+public class MDSLDataTypeBenchmark {
+
+	private static final int[] NUMBERS_OF_SPECIFICATIONS = { 10, 50, 100, 200 };
+	private static final int CHAINS = 20;
+	private static final int CHAIN_LENGTH = 10;
+
+	private final List<DomainObject> domainObjects;
+
+	public MDSLDataTypeBenchmark() throws IOException {
+		Injector injector = new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration();
+		XtextResourceSet resourceSet = injector.getInstance(XtextResourceSet.class);
+		XtextResource resource = (XtextResource) resourceSet.createResource(URI.createURI("synthetic-data-types.cml"));
+		resource.load(new ByteArrayInputStream(createModel().getBytes(StandardCharsets.UTF_8)), resourceSet.getLoadOptions());
+		if (!resource.getErrors().isEmpty())
+			throw new IllegalStateException("The synthetic model contains syntax errors: " + resource.getErrors().get(0).getMessage());
+		EcoreUtil.resolveAll(resource);
+		this.domainObjects = EcoreUtil2.eAllOfType(resource.getContents().get(0), DomainObject.class);
+	}
+
+	public static void main(String[] args) throws IOException {
+		MDSLDataTypeBenchmark benchmark = new MDSLDataTypeBenchmark();
+
+		// warm up
+		benchmark.createDataTypes(NUMBERS_OF_SPECIFICATIONS[0], false);
+		benchmark.createDataTypes(NUMBERS_OF_SPECIFICATIONS[0], true);
+
+		System.out.println(String.format("%16s %18s %18s", "specifications", "per spec [ms]", "shared [ms]"));
+		for (int numberOfSpecifications : NUMBERS_OF_SPECIFICATIONS) {
+			long perSpecification = benchmark.createDataTypes(numberOfSpecifications, false);
+			long shared = benchmark.createDataTypes(numberOfSpecifications, true);
+			System.out.println(String.format("%16d %18d %18d", numberOfSpecifications, perSpecification / 1_000_000, shared / 1_000_000));
+		}
+	}
+
+	private long createDataTypes(int numberOfSpecifications, boolean sharedRegistry) {
+		MDSLDataTypeRegistry registry = new MDSLDataTypeRegistry();
+		long start = System.nanoTime();
+		for (int i = 0; i < numberOfSpecifications; i++) {
+			MDSLDataTypeCreator creator = sharedRegistry ? new MDSLDataTypeCreator(registry) : new MDSLDataTypeCreator();
+			for (DomainObject domainObject : domainObjects)
+				creator.createMDSLDataType(createComplexType(domainObject));
+			if (creator.getAllDataTypes().size() != domainObjects.size())
+				throw new IllegalStateException("Expected " + domainObjects.size() + " data types, but got " + creator.getAllDataTypes().size() + ".");
+		}
+		return System.nanoTime() - start;
+	}
+
+	private ComplexType createComplexType(DomainObject domainObject) {
+		ComplexType type = TacticdslFactory.eINSTANCE.createComplexType();
+		type.setDomainObjectType(domainObject);
+		return type;
+	}
+
+	private String createModel() {
+		StringBuilder cml = new StringBuilder();
+		cml.append("BoundedContext SharedKernel {").append(System.lineSeparator());
+		cml.append("  Aggregate SharedTypes {").append(System.lineSeparator());
+		for (int i = 0; i < CHAINS; i++) {
+			for (int j = 0; j < CHAIN_LENGTH; j++) {
+				String suffix = i + "_" + j;
+				cml.append("    ValueObject Type").append(suffix);
+				if (j > 0)
+					cml.append(" extends @Type").append(i).append("_").append(j - 1);
+				cml.append(" {").append(System.lineSeparator());
+				cml.append("      String name").append(suffix).append(System.lineSeparator());
+				cml.append("      int number").append(suffix).append(System.lineSeparator());
+				cml.append("      - Type").append((i + 1) % CHAINS).append("_").append(j).append(" next").append(suffix).append(System.lineSeparator());
+				cml.append("    }").append(System.lineSeparator());
+			}
+		}
+		cml.append("  }").append(System.lineSeparator());
+		cml.append("}").append(System.lineSeparator());
+		return cml.toString();
+	}
+
+}
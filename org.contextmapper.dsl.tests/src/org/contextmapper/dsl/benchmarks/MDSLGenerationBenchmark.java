@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
+import org.contextmapper.dsl.generator.MDSLContractsGenerator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.generator.GeneratorContext;
+import org.eclipse.xtext.generator.InMemoryFileSystemAccess;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+
+import com.google.inject.Injector;
+
+/**
+ * Measures the MDSL generation time for synthetic CML models with a growing
+ * number of upstream contexts (one API description per upstream context). The
+ * Freemarker template is compiled once and shared by all API description
+ * creators, so the time per API should stay roughly constant.
+ *
+ * Run the main method manually; this class is not part of the test suite.
+ */
+public class MDSLGenerationBenchmark {
+
+	private static final int[] NUMBERS_OF_APIS = { 50, 100, 250, 500 };
+
+	private final Injector injector;
+
+	public MDSLGenerationBenchmark() {
+		this.injector = new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration();
+	}
+
+	public static void main(String[] args) throws IOException {
+		MDSLGenerationBenchmark benchmark = new MDSLGenerationBenchmark();
+
+		// warm up
+		benchmark.generate(NUMBERS_OF_APIS[0]);
+
+		System.out.println(String.format("%10s %12s %14s", "APIs", "time [ms]", "time/API [us]"));
+		for (int numberOfAPIs : NUMBERS_OF_APIS) {
+			long nanos = benchmark.generate(numberOfAPIs);
+			System.out.println(String.format("%10d %12d %14d", numberOfAPIs, nanos / 1_000_000, nanos / 1_000 / numberOfAPIs));
+		}
+	}
+
+	private long generate(int numberOfAPIs) throws IOException {
+		XtextResourceSet resourceSet = injector.getInstance(XtextResourceSet.class);
+		XtextResource resource = (XtextResource) resourceSet.createResource(URI.createURI("synthetic-" + numberOfAPIs + ".cml"));
+		resource.load(new ByteArrayInputStream(createModel(numberOfAPIs).getBytes(StandardCharsets.UTF_8)), resourceSet.getLoadOptions());
+		if (!resource.getErrors().isEmpty())
+			throw new IllegalStateException("The synthetic model contains syntax errors: " + resource.getErrors().get(0).getMessage());
+		EcoreUtil.resolveAll(resource);
+
+		InMemoryFileSystemAccess fsa = new InMemoryFileSystemAccess();
+		long start = System.nanoTime();
+		new MDSLContractsGenerator().doGenerate(resource, fsa, new GeneratorContext());
+		long duration = System.nanoTime() - start;
+
+		if (fsa.getAllFiles().size() != numberOfAPIs)
+			throw new IllegalStateException("Expected " + numberOfAPIs + " MDSL files, but got " + fsa.getAllFiles().size() + ".");
+		return duration;
+	}
+
+	private String createModel(int numberOfAPIs) {
+		StringBuilder cml = new StringBuilder();
+		cml.append("ContextMap {").append(System.lineSeparator());
+		for (int i = 0; i < numberOfAPIs; i++) {
+			cml.append("  UpstreamContext").append(i).append(" -> DownstreamContext {").append(System.lineSeparator());
+			cml.append("    exposedAggregates = Aggregate").append(i).append(System.lineSeparator());
+			cml.append("  }").append(System.lineSeparator());
+		}
+		cml.append("}").append(System.lineSeparator());
+		cml.append("BoundedContext DownstreamContext").append(System.lineSeparator());
+		for (int i = 0; i < numberOfAPIs; i++) {
+			cml.append("BoundedContext UpstreamContext").append(i).append(" {").append(System.lineSeparator());
+			cml.append("  Aggregate Aggregate").append(i).append(" {").append(System.lineSeparator());
+			cml.append("    Entity Entity").append(i).append(" {").append(System.lineSeparator());
+			cml.append("      aggregateRoot").append(System.lineSeparator());
+			cml.append("      def void update").append(i).append("(String value);").append(System.lineSeparator());
+			cml.append("    }").append(System.lineSeparator());
+			cml.append("  }").append(System.lineSeparator());
+			cml.append("}").append(System.lineSeparator());
+		}
+		return cml.toString();
+	}
+
+}
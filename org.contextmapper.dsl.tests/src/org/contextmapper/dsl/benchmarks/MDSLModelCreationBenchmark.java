@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.generator.mdsl.MDSLModelCreator;
+import org.contextmapper.dsl.generator.mdsl.model.ServiceSpecification;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+
+import com.google.inject.Injector;
+
+/**
+ * Compares the sequential and the parallel creation of the MDSL service
+ * specifications for a synthetic Context Map with 1,000 upstream-downstream
+ * relationships (50 upstream contexts with 20 downstream contexts each; every
+ * relationship exposes all Aggregates of its upstream context).
+ *
+ * Run the main method manually; this class is not part of the test suite.
+ */
+public class MDSLModelCreationBenchmark {
+
+	private static final int UPSTREAM_CONTEXTS = 50;
+	private static final int DOWNSTREAM_CONTEXTS = 20;
+	private static final int AGGREGATES_PER_CONTEXT = 20;
+	private static final int RUNS = 10;
+
+	private final Injector injector;
+
+	public MDSLModelCreationBenchmark() {
+		this.injector = new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration();
+	}
+
+	public static void main(String[] args) throws IOException {
+		MDSLModelCreationBenchmark benchmark = new MDSLModelCreationBenchmark();
+
+		// warm up
+		benchmark.createServiceSpecifications(false);
+		benchmark.createServiceSpecifications(true);
+
+		System.out.println(String.format("%6s %16s %16s", "run", "sequential [ms]", "parallel [ms]"));
+		for (int run = 1; run <= RUNS; run++) {
+			long sequential = benchmark.createServiceSpecifications(false);
+			long parallel = benchmark.createServiceSpecifications(true);
+			System.out.println(String.format("%6d %16d %16d", run, sequential / 1_000_000, parallel / 1_000_000));
+		}
+	}
+
+	private long createServiceSpecifications(boolean parallel) throws IOException {
+		ContextMappingModel model = loadModel();
+		MDSLModelCreator creator = new MDSLModelCreator(model);
+		creator.setParallelGeneration(parallel);
+
+		long start = System.nanoTime();
+		List<ServiceSpecification> specifications = creator.createServiceSpecifications();
+		long duration = System.nanoTime() - start;
+
+		if (specifications.size() != UPSTREAM_CONTEXTS)
+			throw new IllegalStateException("Expected " + UPSTREAM_CONTEXTS + " service specifications, but got " + specifications.size() + ".");
+		return duration;
+	}
+
+	private ContextMappingModel loadModel() throws IOException {
+		XtextResourceSet resourceSet = injector.getInstance(XtextResourceSet.class);
+		XtextResource resource = (XtextResource) resourceSet.createResource(URI.createURI("synthetic-mdsl.cml"));
+		resource.load(new ByteArrayInputStream(createModel().getBytes(StandardCharsets.UTF_8)), resourceSet.getLoadOptions());
+		if (!resource.getErrors().isEmpty())
+			throw new IllegalStateException("The synthetic model contains syntax errors: " + resource.getErrors().get(0).getMessage());
+		EcoreUtil.resolveAll(resource);
+		return (ContextMappingModel) resource.getContents().get(0);
+	}
+
+	private String createModel() {
+		StringBuilder cml = new StringBuilder();
+		cml.append("ContextMap {").append(System.lineSeparator());
+		for (int i = 0; i < UPSTREAM_CONTEXTS; i++) {
+			for (int j = 0; j < DOWNSTREAM_CONTEXTS; j++) {
+				cml.append("  UpstreamContext").append(i).append(" -> DownstreamContext").append(j).append(" {").append(System.lineSeparator());
+				cml.append("    exposedAggregates = ");
+				for (int k = 0; k < AGGREGATES_PER_CONTEXT; k++)
+					cml.append(k > 0 ? ", " : "").append("Aggregate").append(i).append("_").append(k);
+				cml.append(System.lineSeparator());
+				cml.append("  }").append(System.lineSeparator());
+			}
+		}
+		cml.append("}").append(System.lineSeparator());
+		for (int j = 0; j < DOWNSTREAM_CONTEXTS; j++)
+			cml.append("BoundedContext DownstreamContext").append(j).append(System.lineSeparator());
+		for (int i = 0; i < UPSTREAM_CONTEXTS; i++) {
+			cml.append("BoundedContext UpstreamContext").append(i).append(" {").append(System.lineSeparator());
+			for (int k = 0; k < AGGREGATES_PER_CONTEXT; k++) {
+				String suffix = i + "_" + k;
+				cml.append("  Aggregate Aggregate").append(suffix).append(" {").append(System.lineSeparator());
+				cml.append("    Entity Entity").append(suffix).append(" {").append(System.lineSeparator());
+				cml.append("      aggregateRoot").append(System.lineSeparator());
+				cml.append("      String name").append(System.lineSeparator());
+				cml.append("      def Entity").append(suffix).append(" update").append(suffix).append("(String name);").append(System.lineSeparator());
+				cml.append("    }").append(System.lineSeparator());
+				cml.append("  }").append(System.lineSeparator());
+			}
+			cml.append("}").append(System.lineSeparator());
+		}
+		return cml.toString();
+	}
+
+}
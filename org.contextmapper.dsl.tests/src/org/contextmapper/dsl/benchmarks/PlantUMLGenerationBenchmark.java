@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
+import org.contextmapper.dsl.generator.PlantUMLGenerator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.generator.GeneratorContext;
+import org.eclipse.xtext.generator.InMemoryFileSystemAccess;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+
+import com.google.inject.Injector;
+
+/**
+ * Compares the sequential and the parallel PlantUML generation for synthetic
+ * CML models with a growing number of Bounded Contexts (five Aggregates per
+ * context, each one with a state diagram).
+ *
+ * Run the main method manually; this class is not part of the test suite.
+ */
+public class PlantUMLGenerationBenchmark {
+
+	private static final int[] NUMBERS_OF_CONTEXTS = { 100, 200, 400, 800 };
+	private static final int AGGREGATES_PER_CONTEXT = 5;
+
+	private final Injector injector;
+
+	public PlantUMLGenerationBenchmark() {
+		this.injector = new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration();
+	}
+
+	public static void main(String[] args) throws IOException {
+		PlantUMLGenerationBenchmark benchmark = new PlantUMLGenerationBenchmark();
+
+		// warm up
+		benchmark.generate(NUMBERS_OF_CONTEXTS[0], false);
+		benchmark.generate(NUMBERS_OF_CONTEXTS[0], true);
+
+		System.out.println(String.format("%10s %16s %16s", "contexts", "sequential [ms]", "parallel [ms]"));
+		for (int numberOfContexts : NUMBERS_OF_CONTEXTS) {
+			long sequential = benchmark.generate(numberOfContexts, false);
+			long parallel = benchmark.generate(numberOfContexts, true);
+			System.out.println(String.format("%10d %16d %16d", numberOfContexts, sequential / 1_000_000, parallel / 1_000_000));
+		}
+	}
+
+	private long generate(int numberOfContexts, boolean parallel) throws IOException {
+		XtextResourceSet resourceSet = injector.getInstance(XtextResourceSet.class);
+		XtextResource resource = (XtextResource) resourceSet.createResource(URI.createURI("synthetic-" + numberOfContexts + ".cml"));
+		resource.load(new ByteArrayInputStream(createModel(numberOfContexts).getBytes(StandardCharsets.UTF_8)), resourceSet.getLoadOptions());
+		if (!resource.getErrors().isEmpty())
+			throw new IllegalStateException("The synthetic model contains syntax errors: " + resource.getErrors().get(0).getMessage());
+		EcoreUtil.resolveAll(resource);
+
+		PlantUMLGenerator generator = new PlantUMLGenerator();
+		generator.setParallelGeneration(parallel);
+		InMemoryFileSystemAccess fsa = new InMemoryFileSystemAccess();
+		long start = System.nanoTime();
+		generator.doGenerate(resource, fsa, new GeneratorContext());
+		long duration = System.nanoTime() - start;
+
+		// context map + one class diagram per context + class and state diagram per aggregate
+		int expectedFiles = 1 + numberOfContexts * (1 + 2 * AGGREGATES_PER_CONTEXT);
+		if (fsa.getAllFiles().size() != expectedFiles)
+			throw new IllegalStateException("Expected " + expectedFiles + " PlantUML files, but got " + fsa.getAllFiles().size() + ".");
+		return duration;
+	}
+
+	private String createModel(int numberOfContexts) {
+		StringBuilder cml = new StringBuilder();
+		cml.append("ContextMap {").append(System.lineSeparator());
+		for (int i = 1; i < numberOfContexts; i++)
+			cml.append("  Context").append(i - 1).append(" -> Context").append(i).append(System.lineSeparator());
+		cml.append("}").append(System.lineSeparator());
+		for (int i = 0; i < numberOfContexts; i++) {
+			cml.append("BoundedContext Context").append(i).append(" {").append(System.lineSeparator());
+			for (int j = 0; j < AGGREGATES_PER_CONTEXT; j++) {
+				String suffix = i + "_" + j;
+				cml.append("  Aggregate Aggregate").append(suffix).append(" {").append(System.lineSeparator());
+				cml.append("    Entity Entity").append(suffix).append(" {").append(System.lineSeparator());
+				cml.append("      aggregateRoot").append(System.lineSeparator());
+				cml.append("      String name").append(System.lineSeparator());
+				cml.append("      def void submit").append(suffix).append("() : write [CREATED -> SUBMITTED];").append(System.lineSeparator());
+				cml.append("    }").append(System.lineSeparator());
+				cml.append("    enum States").append(suffix).append(" {").append(System.lineSeparator());
+				cml.append("      aggregateLifecycle").append(System.lineSeparator());
+				cml.append("      CREATED, SUBMITTED").append(System.lineSeparator());
+				cml.append("    }").append(System.lineSeparator());
+				cml.append("  }").append(System.lineSeparator());
+			}
+			cml.append("}").append(System.lineSeparator());
+		}
+		return cml.toString();
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.FileUtils;
+import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.refactoring.MergeAggregatesRefactoring;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.xtext.resource.SaveOptions;
+import org.eclipse.xtext.serializer.ISerializer;
+
+/**
+ * Compares the time to persist a refactored, large synthetic CML model: with a
+ * serialization dry run followed by a formatting 'save' (as before) and with
+ * 'persistChanges', which writes the formatted text of its serialization check.
+ *
+ * Run the main method manually; this class is not part of the test suite.
+ */
+public class RefactoringPersistenceBenchmark {
+
+	private static final int[] MODEL_SIZES = { 500, 1000, 2000, 4000 };
+	private static final File WORK_DIR = new File("./out/refactoring-persistence-benchmark");
+
+	private final ISerializer serializer;
+
+	public RefactoringPersistenceBenchmark() {
+		this.serializer = new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration().getInstance(ISerializer.class);
+	}
+
+	public static void main(String[] args) throws IOException {
+		RefactoringPersistenceBenchmark benchmark = new RefactoringPersistenceBenchmark();
+
+		// warm up
+		benchmark.run(MODEL_SIZES[0], false);
+		benchmark.run(MODEL_SIZES[0], true);
+
+		System.out.println(String.format("%10s %12s %20s %20s", "contexts", "size [KB]", "dry run+save [ms]", "single write [ms]"));
+		for (int size : MODEL_SIZES) {
+			long before = benchmark.run(size, false);
+			long after = benchmark.run(size, true);
+			System.out.println(String.format("%10d %12d %20d %20d", size, getModelFile(size).length() / 1024, before / 1_000_000, after / 1_000_000));
+		}
+	}
+
+	private long run(int numberOfContexts, boolean singleWrite) throws IOException {
+		FileUtils.deleteDirectory(WORK_DIR);
+		File modelFile = getModelFile(numberOfContexts);
+		FileUtils.writeStringToFile(modelFile, createModel(numberOfContexts), StandardCharsets.UTF_8);
+		CMLResource resource = new CMLResource(new ResourceSetImpl().getResource(URI.createFileURI(modelFile.getAbsolutePath()), true));
+		if (!resource.getErrors().isEmpty())
+			throw new IllegalStateException("The synthetic model contains errors: " + resource.getErrors().get(0).getMessage());
+		MergeAggregatesRefactoring refactoring = new MergeAggregatesRefactoring("AggregateA0", "AggregateB0");
+		refactoring.refactor(resource);
+
+		long start = System.nanoTime();
+		if (singleWrite) {
+			refactoring.persistChanges(serializer);
+		} else {
+			serializer.serialize(resource.getContextMappingModel());
+			resource.save(SaveOptions.newBuilder().format().getOptions().toOptionsMap());
+		}
+		return System.nanoTime() - start;
+	}
+
+	private static File getModelFile(int numberOfContexts) {
+		return new File(WORK_DIR, "synthetic-" + numberOfContexts + ".cml");
+	}
+
+	private String createModel(int numberOfContexts) {
+		StringBuilder cml = new StringBuilder();
+		for (int i = 0; i < numberOfContexts; i++) {
+			cml.append("BoundedContext Context").append(i).append(" {").append(System.lineSeparator());
+			for (String aggregate : new String[] { "A", "B" }) {
+				cml.append("  Aggregate Aggregate").append(aggregate).append(i).append(" {").append(System.lineSeparator());
+				cml.append("    Entity Entity").append(aggregate).append(i).append(" {").append(System.lineSeparator());
+				cml.append("      String name").append(System.lineSeparator());
+				cml.append("      int number").append(System.lineSeparator());
+				cml.append("      - Entity").append(aggregate).append(i).append(" parent").append(System.lineSeparator());
+				cml.append("    }").append(System.lineSeparator());
+				cml.append("  }").append(System.lineSeparator());
+			}
+			cml.append("}").append(System.lineSeparator());
+		}
+		return cml.toString();
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.FileUtils;
+import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.refactoring.MergeAggregatesRefactoring;
+import org.contextmapper.dsl.refactoring.RefactoringTransaction;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.xtext.serializer.ISerializer;
+
+/**
+ * Compares applying a chain of refactorings to a synthetic CML model with
+ * persisting the model after every refactoring (as 'applyRefactoring' does)
+ * and with persisting it once in a {@link RefactoringTransaction}. Every
+ * refactoring of the chain merges the two aggregates of one Bounded Context.
+ *
+ * Run the main method manually; this class is not part of the test suite.
+ */
+public class RefactoringTransactionBenchmark {
+
+	private static final int[] NUMBERS_OF_REFACTORINGS = { 10, 30, 50 };
+	private static final int NUMBER_OF_CONTEXTS = 200;
+	private static final File WORK_DIR = new File("./out/refactoring-transaction-benchmark");
+
+	private final ISerializer serializer;
+
+	public RefactoringTransactionBenchmark() {
+		this.serializer = new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration().getInstance(ISerializer.class);
+	}
+
+	public static void main(String[] args) throws IOException {
+		RefactoringTransactionBenchmark benchmark = new RefactoringTransactionBenchmark();
+
+		// warm up
+		benchmark.run(NUMBERS_OF_REFACTORINGS[0], false);
+		benchmark.run(NUMBERS_OF_REFACTORINGS[0], true);
+
+		System.out.println(String.format("%14s %20s %20s", "refactorings", "persist each [ms]", "transaction [ms]"));
+		for (int numberOfRefactorings : NUMBERS_OF_REFACTORINGS) {
+			long persistEach = benchmark.run(numberOfRefactorings, false);
+			long transaction = benchmark.run(numberOfRefactorings, true);
+			System.out.println(String.format("%14d %20d %20d", numberOfRefactorings, persistEach / 1_000_000, transaction / 1_000_000));
+		}
+	}
+
+	private long run(int numberOfRefactorings, boolean useTransaction) throws IOException {
+		FileUtils.deleteDirectory(WORK_DIR);
+		File modelFile = new File(WORK_DIR, "synthetic-" + NUMBER_OF_CONTEXTS + ".cml");
+		FileUtils.writeStringToFile(modelFile, createModel(), StandardCharsets.UTF_8);
+		CMLResource resource = new CMLResource(new ResourceSetImpl().getResource(URI.createFileURI(modelFile.getAbsolutePath()), true));
+		if (!resource.getErrors().isEmpty())
+			throw new IllegalStateException("The synthetic model contains errors: " + resource.getErrors().get(0).getMessage());
+
+		long start = System.nanoTime();
+		if (useTransaction) {
+			RefactoringTransaction transaction = new RefactoringTransaction(resource);
+			for (int i = 0; i < numberOfRefactorings; i++)
+				transaction.apply(createRefactoring(i));
+			transaction.commit(serializer);
+		} else {
+			for (int i = 0; i < numberOfRefactorings; i++) {
+				MergeAggregatesRefactoring refactoring = createRefactoring(i);
+				refactoring.refactor(resource);
+				refactoring.persistChanges(serializer);
+			}
+		}
+		return System.nanoTime() - start;
+	}
+
+	private MergeAggregatesRefactoring createRefactoring(int contextIndex) {
+		return new MergeAggregatesRefactoring("AggregateA" + contextIndex, "AggregateB" + contextIndex);
+	}
+
+	private String createModel() {
+		StringBuilder cml = new StringBuilder();
+		for (int i = 0; i < NUMBER_OF_CONTEXTS; i++) {
+			cml.append("BoundedContext Context").append(i).append(" {").append(System.lineSeparator());
+			for (String aggregate : new String[] { "A", "B" }) {
+				cml.append("  Aggregate Aggregate").append(aggregate).append(i).append(" {").append(System.lineSeparator());
+				cml.append("    Entity Entity").append(aggregate).append(i).append(" {").append(System.lineSeparator());
+				cml.append("      String name").append(System.lineSeparator());
+				cml.append("    }").append(System.lineSeparator());
+				cml.append("  }").append(System.lineSeparator());
+			}
+			cml.append("}").append(System.lineSeparator());
+		}
+		return cml.toString();
+	}
+
+}
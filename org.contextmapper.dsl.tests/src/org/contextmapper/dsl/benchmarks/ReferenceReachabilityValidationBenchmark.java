@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.validation.CheckMode;
+import org.eclipse.xtext.validation.Issue;
+
+import com.google.inject.Injector;
+
+/**
+ * Measures the validation time of synthetic CML models in which domain objects
+ * reference domain objects of upstream Bounded Contexts (inter-BC references
+ * that require a relationship on the context map). The largest model contains
+ * 1000 Bounded Contexts and 10000 references.
+ *
+ * Run the main method manually; this class is not part of the test suite.
+ */
+public class ReferenceReachabilityValidationBenchmark {
+
+	private static final int[] MODEL_SIZES = { 125, 250, 500, 1000 };
+	private static final int REFERENCES_PER_CONTEXT = 10;
+
+	private final Injector injector;
+
+	public ReferenceReachabilityValidationBenchmark() {
+		this.injector = new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration();
+	}
+
+	public static void main(String[] args) throws IOException {
+		ReferenceReachabilityValidationBenchmark benchmark = new ReferenceReachabilityValidationBenchmark();
+
+		// warm up
+		benchmark.validate(MODEL_SIZES[0]);
+
+		System.out.println(String.format("%10s %12s %12s %18s", "contexts", "references", "time [ms]", "time/reference [us]"));
+		for (int size : MODEL_SIZES) {
+			long nanos = benchmark.validate(size);
+			int references = size * REFERENCES_PER_CONTEXT;
+			System.out.println(String.format("%10d %12d %12d %18d", size, references, nanos / 1_000_000, nanos / 1_000 / references));
+		}
+	}
+
+	private long validate(int numberOfContexts) throws IOException {
+		XtextResourceSet resourceSet = injector.getInstance(XtextResourceSet.class);
+		XtextResource resource = (XtextResource) resourceSet.createResource(URI.createURI("synthetic-references-" + numberOfContexts + ".cml"));
+		resource.load(new ByteArrayInputStream(createModel(numberOfContexts).getBytes(StandardCharsets.UTF_8)), resourceSet.getLoadOptions());
+		if (!resource.getErrors().isEmpty())
+			throw new IllegalStateException("The synthetic model contains syntax errors: " + resource.getErrors().get(0).getMessage());
+		// link all references upfront; only the validation itself is measured
+		EcoreUtil.resolveAll(resource);
+
+		long start = System.nanoTime();
+		List<Issue> issues = resource.getResourceServiceProvider().getResourceValidator().validate(resource, CheckMode.ALL, CancelIndicator.NullImpl);
+		long duration = System.nanoTime() - start;
+
+		if (issues.stream().anyMatch(i -> i.getMessage().contains("not reachable")))
+			throw new IllegalStateException("All references of the synthetic model are expected to be reachable.");
+		return duration;
+	}
+
+	/**
+	 * Every context is downstream of its predecessor; its entities reference the
+	 * entities of the upstream context.
+	 */
+	private String createModel(int numberOfContexts) {
+		StringBuilder cml = new StringBuilder();
+		cml.append("ContextMap SyntheticMap {").append(System.lineSeparator());
+		cml.append("  contains Context0");
+		for (int i = 1; i < numberOfContexts; i++)
+			cml.append(", Context").append(i);
+		cml.append(System.lineSeparator());
+		for (int i = 1; i < numberOfContexts; i++)
+			cml.append("  Context").append(i - 1).append(" -> Context").append(i).append(System.lineSeparator());
+		cml.append("}").append(System.lineSeparator());
+
+		for (int i = 0; i < numberOfContexts; i++) {
+			cml.append("BoundedContext Context").append(i).append(" {").append(System.lineSeparator());
+			cml.append("  Aggregate Aggregate").append(i).append(" {").append(System.lineSeparator());
+			for (int j = 0; j < REFERENCES_PER_CONTEXT; j++) {
+				cml.append("    Entity Entity").append(i).append("_").append(j).append(" {").append(System.lineSeparator());
+				if (i > 0)
+					cml.append("      - @Entity").append(i - 1).append("_").append(j).append(" upstreamReference").append(System.lineSeparator());
+				else
+					cml.append("      - @Entity").append(i).append("_").append((j + 1) % REFERENCES_PER_CONTEXT).append(" localReference").append(System.lineSeparator());
+				cml.append("    }").append(System.lineSeparator());
+			}
+			cml.append("  }").append(System.lineSeparator());
+			cml.append("}").append(System.lineSeparator());
+		}
+		return cml.toString();
+	}
+
+}
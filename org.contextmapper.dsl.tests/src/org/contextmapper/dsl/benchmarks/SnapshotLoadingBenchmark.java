@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.FileUtils;
+import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
+import org.contextmapper.dsl.standalone.CMLSnapshotCache;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * Compares the time to load (and link) synthetic CML models by parsing them
+ * (cold) with the time to load them from their binary snapshots (warm).
+ *
+ * Run the main method manually; this class is not part of the test suite.
+ */
+public class SnapshotLoadingBenchmark {
+
+	private static final int[] MODEL_SIZES = { 250, 500, 1000, 2000, 4000 };
+	private static final File WORK_DIR = new File("./out/snapshot-benchmark");
+
+	public static void main(String[] args) throws IOException {
+		new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration();
+		SnapshotLoadingBenchmark benchmark = new SnapshotLoadingBenchmark();
+
+		// warm up
+		benchmark.run(MODEL_SIZES[0]);
+
+		System.out.println(String.format("%10s %14s %14s", "contexts", "parse [ms]", "snapshot [ms]"));
+		for (int size : MODEL_SIZES) {
+			long[] nanos = benchmark.run(size);
+			System.out.println(String.format("%10d %14d %14d", size, nanos[0] / 1_000_000, nanos[1] / 1_000_000));
+		}
+	}
+
+	private long[] run(int numberOfContexts) throws IOException {
+		FileUtils.deleteDirectory(WORK_DIR);
+		File modelFile = new File(WORK_DIR, "synthetic-" + numberOfContexts + ".cml");
+		FileUtils.writeStringToFile(modelFile, createModel(numberOfContexts), StandardCharsets.UTF_8);
+		File cacheDir = new File(WORK_DIR, "cache");
+
+		long start = System.nanoTime();
+		Resource parsed = new ResourceSetImpl().getResource(URI.createFileURI(modelFile.getAbsolutePath()), true);
+		EcoreUtil.resolveAll(parsed);
+		long parseDuration = System.nanoTime() - start;
+		if (!parsed.getErrors().isEmpty())
+			throw new IllegalStateException("The synthetic model contains errors: " + parsed.getErrors().get(0).getMessage());
+
+		// writes the snapshot
+		new CMLSnapshotCache(cacheDir).getResource(modelFile);
+
+		CMLSnapshotCache cache = new CMLSnapshotCache(cacheDir);
+		start = System.nanoTime();
+		Resource loaded = cache.getResource(modelFile);
+		EcoreUtil.resolveAll(loaded);
+		long snapshotDuration = System.nanoTime() - start;
+		if (cache.getHitCount() != 1)
+			throw new IllegalStateException("The model has not been loaded from its snapshot.");
+
+		return new long[] { parseDuration, snapshotDuration };
+	}
+
+	private String createModel(int numberOfContexts) {
+		StringBuilder cml = new StringBuilder();
+		cml.append("ContextMap {").append(System.lineSeparator());
+		for (int i = 1; i < numberOfContexts; i++)
+			cml.append("  Context").append(i - 1).append(" -> Context").append(i).append(System.lineSeparator());
+		cml.append("}").append(System.lineSeparator());
+		for (int i = 0; i < numberOfContexts; i++) {
+			cml.append("BoundedContext Context").append(i).append(" {").append(System.lineSeparator());
+			cml.append("  Aggregate Aggregate").append(i).append(" {").append(System.lineSeparator());
+			cml.append("    Entity Entity").append(i).append(" {").append(System.lineSeparator());
+			cml.append("      String name").append(System.lineSeparator());
+			cml.append("    }").append(System.lineSeparator());
+			cml.append("  }").append(System.lineSeparator());
+			cml.append("}").append(System.lineSeparator());
+		}
+		return cml.toString();
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.resource.XtextResourceSet;
+import org.eclipse.xtext.util.CancelIndicator;
+import org.eclipse.xtext.validation.CheckMode;
+import org.eclipse.xtext.validation.Issue;
+
+import com.google.inject.Injector;
+
+/**
+ * Measures the validation time of synthetic CML models with a growing number
+ * of Bounded Contexts, Modules, Aggregates, Domains, Subdomains and Use Cases.
+ * With the name index used by the uniqueness checks, the time per context
+ * should stay roughly constant (linear scaling).
+ *
+ * Run the main method manually; this class is not part of the test suite.
+ */
+public class UniquenessValidationBenchmark {
+
+	private static final int[] MODEL_SIZES = { 250, 500, 1000, 2000, 4000 };
+
+	private final Injector injector;
+
+	public UniquenessValidationBenchmark() {
+		this.injector = new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration();
+	}
+
+	public static void main(String[] args) throws IOException {
+		UniquenessValidationBenchmark benchmark = new UniquenessValidationBenchmark();
+
+		// warm up
+		benchmark.validate(MODEL_SIZES[0]);
+
+		System.out.println(String.format("%10s %12s %16s", "contexts", "time [ms]", "time/context [us]"));
+		for (int size : MODEL_SIZES) {
+			long nanos = benchmark.validate(size);
+			System.out.println(String.format("%10d %12d %16d", size, nanos / 1_000_000, nanos / 1_000 / size));
+		}
+	}
+
+	private long validate(int numberOfContexts) throws IOException {
+		XtextResourceSet resourceSet = injector.getInstance(XtextResourceSet.class);
+		XtextResource resource = (XtextResource) resourceSet.createResource(URI.createURI("synthetic-" + numberOfContexts + ".cml"));
+		resource.load(new ByteArrayInputStream(createModel(numberOfContexts).getBytes(StandardCharsets.UTF_8)), resourceSet.getLoadOptions());
+		if (!resource.getErrors().isEmpty())
+			throw new IllegalStateException("The synthetic model contains syntax errors: " + resource.getErrors().get(0).getMessage());
+
+		long start = System.nanoTime();
+		List<Issue> issues = resource.getResourceServiceProvider().getResourceValidator().validate(resource, CheckMode.ALL, CancelIndicator.NullImpl);
+		long duration = System.nanoTime() - start;
+
+		if (issues.stream().anyMatch(i -> i.getMessage().contains("not unique")))
+			throw new IllegalStateException("The synthetic model is not expected to contain duplicate names.");
+		return duration;
+	}
+
+	private String createModel(int numberOfContexts) {
+		StringBuilder cml = new StringBuilder();
+		for (int i = 0; i < numberOfContexts; i++) {
+			cml.append("BoundedContext Context").append(i).append(" {").append(System.lineSeparator());
+			cml.append("  Module Module").append(i).append(" {").append(System.lineSeparator());
+			cml.append("    Aggregate ModuleAggregate").append(i).append(System.lineSeparator());
+			cml.append("  }").append(System.lineSeparator());
+			cml.append("  Aggregate Aggregate").append(i).append(System.lineSeparator());
+			cml.append("}").append(System.lineSeparator());
+		}
+		for (int i = 0; i < numberOfContexts; i++) {
+			cml.append("Domain Domain").append(i).append(" {").append(System.lineSeparator());
+			cml.append("  Subdomain Subdomain").append(i).append(System.lineSeparator());
+			cml.append("}").append(System.lineSeparator());
+		}
+		for (int i = 0; i < numberOfContexts; i++) {
+			cml.append("UseCase UseCase").append(i).append(System.lineSeparator());
+		}
+		return cml.toString();
+	}
+
+}
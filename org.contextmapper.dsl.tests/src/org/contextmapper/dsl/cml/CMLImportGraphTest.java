@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.contextmapper.dsl.AbstractCMLInputFileTest;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.contextMappingDSL.Import;
+import org.junit.jupiter.api.Test;
+
+public class CMLImportGraphTest extends AbstractCMLInputFileTest {
+
+	@Test
+	public void canResolveTransitiveImports() throws IOException {
+		// given
+		CMLResource input = getOriginalResourceOfTestCML("transitive-import-test.cml");
+
+		// when
+		CMLImportGraph graph = CMLImportGraph.get(input.getResourceSet());
+		Set<CMLResource> directImports = graph.getDirectImports(input);
+		Set<CMLResource> transitiveImports = graph.getTransitiveImports(input);
+
+		// then
+		assertEquals(1, directImports.size());
+		assertEquals(2, transitiveImports.size());
+		Set<String> fileNames = transitiveImports.stream().map(r -> r.getURI().lastSegment()).collect(Collectors.toSet());
+		assertTrue(fileNames.contains("simple-import-test.cml"));
+		assertTrue(fileNames.contains("other-contexts.cml"));
+		assertFalse(graph.hasImportCycle(input));
+	}
+
+	@Test
+	public void canDetectImportCycle() throws IOException {
+		// given
+		CMLResource input = getOriginalResourceOfTestCML("cyclic-import-test-a.cml");
+
+		// when
+		CMLImportGraph graph = CMLImportGraph.get(input.getResourceSet());
+		Set<CMLResource> transitiveImports = graph.getTransitiveImports(input);
+
+		// then
+		assertTrue(graph.hasImportCycle(input));
+		assertEquals(1, transitiveImports.size());
+		assertEquals("cyclic-import-test-b.cml", transitiveImports.iterator().next().getURI().lastSegment());
+	}
+
+	@Test
+	public void canShareGraphWithinResourceSet() throws IOException {
+		// given
+		CMLResource input = getOriginalResourceOfTestCML("simple-import-test.cml");
+
+		// when
+		Set<CMLResource> imports1 = CMLImportGraph.get(input.getResourceSet()).getTransitiveImports(input);
+		Set<CMLResource> imports2 = CMLImportGraph.get(input.getResourceSet()).getTransitiveImports(input);
+
+		// then
+		assertSame(CMLImportGraph.get(input.getResourceSet()), CMLImportGraph.get(resourceSet));
+		assertEquals(imports1, imports2);
+	}
+
+	@Test
+	public void canUpdateGraphIfImportsChange() throws IOException {
+		// given
+		CMLResource input = getOriginalResourceOfTestCML("transitive-import-test.cml");
+		CMLImportGraph graph = CMLImportGraph.get(input.getResourceSet());
+		Set<CMLResource> importsBefore = graph.getTransitiveImports(input);
+
+		// when
+		Import otherImport = ContextMappingDSLFactory.eINSTANCE.createImport();
+		otherImport.setImportURI("./empty.cml");
+		input.getContextMappingModel().getImports().clear();
+		input.getContextMappingModel().getImports().add(otherImport);
+		Set<CMLResource> importsAfter = graph.getTransitiveImports(input);
+
+		// then
+		assertEquals(2, importsBefore.size());
+		assertNotSame(importsBefore, importsAfter);
+		assertTrue(importsAfter.isEmpty());
+	}
+
+	@Test
+	public void canInvalidateGraphIfResourceIsRemoved() throws IOException {
+		// given
+		CMLResource input = getOriginalResourceOfTestCML("simple-import-test.cml");
+		CMLImportGraph graph = CMLImportGraph.get(input.getResourceSet());
+		CMLResource importedResource = graph.getDirectImports(input).iterator().next();
+
+		// when
+		resourceSet.getResources().remove(resourceSet.getResource(importedResource.getURI(), false));
+		Set<CMLResource> imports = graph.getDirectImports(input);
+
+		// then
+		assertEquals(1, imports.size());
+		assertNotSame(importedResource.getContents().get(0), imports.iterator().next().getContents().get(0));
+		assertEquals("other-contexts.cml", imports.iterator().next().getURI().lastSegment());
+	}
+
+	@Override
+	protected String getTestFileDirectory() {
+		return "/integ-test-files/imports/";
+	}
+
+}
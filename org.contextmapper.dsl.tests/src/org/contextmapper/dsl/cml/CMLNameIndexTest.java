@@ -0,0 +1,248 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.contextMappingDSL.DomainPart;
+import org.contextmapper.dsl.contextMappingDSL.Subdomain;
+import org.contextmapper.dsl.contextMappingDSL.UseCase;
+import org.contextmapper.dsl.contextMappingDSL.UserRequirement;
+import org.contextmapper.tactic.dsl.tacticdsl.Entity;
+import org.contextmapper.tactic.dsl.tacticdsl.SimpleDomainObject;
+import org.contextmapper.tactic.dsl.tacticdsl.TacticdslFactory;
+import org.contextmapper.tactic.dsl.tacticdsl.ValueObject;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CMLNameIndexTest {
+
+	private ResourceSet resourceSet;
+	private Resource resource;
+	private ContextMappingModel model;
+
+	@BeforeEach
+	public void prepare() {
+		resourceSet = new ResourceSetImpl();
+		resource = new ResourceImpl(URI.createURI("testresource"));
+		resourceSet.getResources().add(resource);
+		model = ContextMappingDSLFactory.eINSTANCE.createContextMappingModel();
+		resource.getContents().add(model);
+	}
+
+	@Test
+	public void canCountElementsByTypeAndName() {
+		// given
+		model.getBoundedContexts().add(createBoundedContext("ContextA"));
+		model.getBoundedContexts().add(createBoundedContext("ContextA"));
+		model.getBoundedContexts().add(createBoundedContext("ContextB"));
+
+		// when
+		CMLNameIndex index = CMLNameIndex.get(resourceSet);
+
+		// then
+		assertEquals(2, index.countElements(resource, BoundedContext.class, "ContextA"));
+		assertEquals(1, index.countElements(resource, BoundedContext.class, "ContextB"));
+		assertEquals(0, index.countElements(resource, BoundedContext.class, "ContextC"));
+		assertEquals(0, index.countElements(resource, Aggregate.class, "ContextA"));
+	}
+
+	@Test
+	public void canFindElementsOfSubtypes() {
+		// given
+		UseCase useCase = ContextMappingDSLFactory.eINSTANCE.createUseCase();
+		useCase.setName("MyUseCase");
+		model.getUserRequirements().add(useCase);
+		Subdomain subdomain = ContextMappingDSLFactory.eINSTANCE.createSubdomain();
+		subdomain.setName("MySubdomain");
+		model.getDomains().add(ContextMappingDSLFactory.eINSTANCE.createDomain());
+		model.getDomains().get(0).getSubdomains().add(subdomain);
+
+		// when
+		CMLNameIndex index = CMLNameIndex.get(resourceSet);
+		List<UserRequirement> requirements = index.findElements(resource, UserRequirement.class, "MyUseCase");
+		List<DomainPart> domainParts = index.findElements(resource, DomainPart.class, "MySubdomain");
+
+		// then
+		assertEquals(1, requirements.size());
+		assertSame(useCase, requirements.get(0));
+		assertEquals(1, domainParts.size());
+		assertSame(subdomain, domainParts.get(0));
+	}
+
+	@Test
+	public void canCountDomainObjectsInResourceOfContextObject() {
+		// given
+		BoundedContext bc = createBoundedContext("ContextA");
+		Aggregate aggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+		aggregate.setName("AggregateA");
+		Entity entity = TacticdslFactory.eINSTANCE.createEntity();
+		entity.setName("Customer");
+		ValueObject valueObject = TacticdslFactory.eINSTANCE.createValueObject();
+		valueObject.setName("Customer");
+		aggregate.getDomainObjects().add(entity);
+		aggregate.getDomainObjects().add(valueObject);
+		bc.getAggregates().add(aggregate);
+		model.getBoundedContexts().add(bc);
+
+		// when
+		int count = CMLNameIndex.countElementsInResourceOf(entity, SimpleDomainObject.class, "Customer");
+
+		// then
+		assertEquals(2, count);
+	}
+
+	@Test
+	public void canCountDomainObjectsInResourceWithoutResourceSet() {
+		// given
+		Resource standaloneResource = new ResourceImpl(URI.createURI("standaloneresource"));
+		ContextMappingModel standaloneModel = ContextMappingDSLFactory.eINSTANCE.createContextMappingModel();
+		standaloneResource.getContents().add(standaloneModel);
+		Entity entity = addEntitiesWithSameName(standaloneModel, "Customer");
+
+		// when
+		int count = CMLNameIndex.countElementsInResourceOf(entity, SimpleDomainObject.class, "Customer");
+
+		// then
+		assertEquals(2, count);
+	}
+
+	@Test
+	public void canCountDomainObjectsOfModelWithoutResource() {
+		// given
+		ContextMappingModel detachedModel = ContextMappingDSLFactory.eINSTANCE.createContextMappingModel();
+		Entity entity = addEntitiesWithSameName(detachedModel, "Customer");
+
+		// when
+		int count = CMLNameIndex.countElementsInResourceOf(entity, SimpleDomainObject.class, "Customer");
+
+		// then
+		assertEquals(2, count);
+	}
+
+	@Test
+	public void isSameIndexForSameResourceSet() {
+		// when
+		CMLNameIndex index1 = CMLNameIndex.get(resourceSet);
+		CMLNameIndex index2 = CMLNameIndex.get(resourceSet);
+
+		// then
+		assertSame(index1, index2);
+	}
+
+	@Test
+	public void updatesIndexIfElementIsAdded() {
+		// given
+		BoundedContext bc = createBoundedContext("ContextA");
+		Aggregate aggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+		aggregate.setName("AggregateA");
+		bc.getAggregates().add(aggregate);
+		CMLNameIndex index = CMLNameIndex.get(resourceSet);
+		assertEquals(0, index.countElements(resource, Aggregate.class, "AggregateA"));
+
+		// when
+		model.getBoundedContexts().add(bc);
+
+		// then
+		assertEquals(1, index.countElements(resource, BoundedContext.class, "ContextA"));
+		assertEquals(1, index.countElements(resource, Aggregate.class, "AggregateA"));
+	}
+
+	@Test
+	public void updatesIndexIfElementIsRemoved() {
+		// given
+		BoundedContext bc = createBoundedContext("ContextA");
+		Aggregate aggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+		aggregate.setName("AggregateA");
+		bc.getAggregates().add(aggregate);
+		model.getBoundedContexts().add(bc);
+		CMLNameIndex index = CMLNameIndex.get(resourceSet);
+		assertEquals(1, index.countElements(resource, Aggregate.class, "AggregateA"));
+
+		// when
+		model.getBoundedContexts().remove(bc);
+
+		// then
+		assertEquals(0, index.countElements(resource, BoundedContext.class, "ContextA"));
+		assertEquals(0, index.countElements(resource, Aggregate.class, "AggregateA"));
+	}
+
+	@Test
+	public void updatesIndexIfElementIsRenamed() {
+		// given
+		BoundedContext bc = createBoundedContext("ContextA");
+		model.getBoundedContexts().add(bc);
+		CMLNameIndex index = CMLNameIndex.get(resourceSet);
+		assertEquals(1, index.countElements(resource, BoundedContext.class, "ContextA"));
+
+		// when
+		bc.setName("ContextB");
+
+		// then
+		assertEquals(0, index.countElements(resource, BoundedContext.class, "ContextA"));
+		assertEquals(1, index.countElements(resource, BoundedContext.class, "ContextB"));
+	}
+
+	@Test
+	public void dropsIndexIfResourceIsRemovedFromResourceSet() {
+		// given
+		model.getBoundedContexts().add(createBoundedContext("ContextA"));
+		CMLNameIndex index = CMLNameIndex.get(resourceSet);
+		index.countElements(resource, BoundedContext.class, "ContextA");
+
+		// when
+		resourceSet.getResources().remove(resource);
+
+		// then
+		assertTrue(resource.eAdapters().isEmpty());
+		assertTrue(model.eAdapters().isEmpty());
+	}
+
+	private BoundedContext createBoundedContext(String name) {
+		BoundedContext bc = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		bc.setName(name);
+		return bc;
+	}
+
+	private Entity addEntitiesWithSameName(ContextMappingModel model, String name) {
+		Aggregate aggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+		aggregate.setName("AggregateA");
+		Entity entity = TacticdslFactory.eINSTANCE.createEntity();
+		entity.setName(name);
+		ValueObject valueObject = TacticdslFactory.eINSTANCE.createValueObject();
+		valueObject.setName(name);
+		aggregate.getDomainObjects().add(entity);
+		aggregate.getDomainObjects().add(valueObject);
+		BoundedContext bc = createBoundedContext("ContextA");
+		bc.getAggregates().add(aggregate);
+		model.getBoundedContexts().add(bc);
+		return entity;
+	}
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMap;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.contextMappingDSL.Partnership;
+import org.contextmapper.dsl.contextMappingDSL.SculptorModule;
+import org.contextmapper.dsl.contextMappingDSL.UpstreamDownstreamRelationship;
+import org.contextmapper.tactic.dsl.tacticdsl.Entity;
+import org.contextmapper.tactic.dsl.tacticdsl.TacticdslFactory;
+import org.junit.jupiter.api.Test;
+
+public class CMLReachabilityIndexTest {
+
+	@Test
+	public void canSeeOwnDomainObjects() {
+		// given
+		BoundedContext context = createBoundedContext("ContextA", "EntityA");
+
+		// when
+		CMLReachabilityIndex index = new CMLReachabilityIndex(Set.of());
+
+		// then
+		assertTrue(index.isDomainObjectVisible(context, "EntityA"));
+		assertFalse(index.isDomainObjectVisible(context, "EntityB"));
+	}
+
+	@Test
+	public void canSeeUpstreamDomainObjectsAsDownstream() {
+		// given
+		BoundedContext upstream = createBoundedContext("Upstream", "UpstreamEntity");
+		BoundedContext downstream = createBoundedContext("Downstream", "DownstreamEntity");
+		ContextMap contextMap = ContextMappingDSLFactory.eINSTANCE.createContextMap();
+		contextMap.getRelationships().add(createUpstreamDownstreamRelationship(upstream, downstream));
+
+		// when
+		CMLReachabilityIndex index = new CMLReachabilityIndex(Set.of(contextMap));
+
+		// then
+		assertEquals(Set.of("UpstreamEntity", "DownstreamEntity"), index.getVisibleDomainObjectNames(downstream));
+		assertEquals(Set.of("UpstreamEntity"), index.getVisibleDomainObjectNames(upstream));
+	}
+
+	@Test
+	public void canSeeOnlyExposedAggregatesIfDefined() {
+		// given
+		BoundedContext upstream = createBoundedContext("Upstream", "ExposedEntity");
+		Aggregate hiddenAggregate = createAggregate("HiddenAggregate", "HiddenEntity");
+		upstream.getAggregates().add(hiddenAggregate);
+		BoundedContext downstream = createBoundedContext("Downstream", "DownstreamEntity");
+		UpstreamDownstreamRelationship relationship = createUpstreamDownstreamRelationship(upstream, downstream);
+		relationship.getUpstreamExposedAggregates().add(upstream.getAggregates().get(0));
+		ContextMap contextMap = ContextMappingDSLFactory.eINSTANCE.createContextMap();
+		contextMap.getRelationships().add(relationship);
+
+		// when
+		CMLReachabilityIndex index = new CMLReachabilityIndex(Set.of(contextMap));
+
+		// then
+		assertTrue(index.isDomainObjectVisible(downstream, "ExposedEntity"));
+		assertFalse(index.isDomainObjectVisible(downstream, "HiddenEntity"));
+	}
+
+	@Test
+	public void canSeeDomainObjectsOfBothParticipantsInSymmetricRelationship() {
+		// given
+		BoundedContext context1 = createBoundedContext("Context1", "Entity1");
+		BoundedContext context2 = createBoundedContext("Context2", "Entity2");
+		Partnership partnership = ContextMappingDSLFactory.eINSTANCE.createPartnership();
+		partnership.setParticipant1(context1);
+		partnership.setParticipant2(context2);
+		ContextMap contextMap = ContextMappingDSLFactory.eINSTANCE.createContextMap();
+		contextMap.getRelationships().add(partnership);
+
+		// when
+		CMLReachabilityIndex index = new CMLReachabilityIndex(Set.of(contextMap));
+
+		// then
+		assertTrue(index.isDomainObjectVisible(context1, "Entity2"));
+		assertTrue(index.isDomainObjectVisible(context2, "Entity1"));
+	}
+
+	@Test
+	public void cannotSeeDomainObjectsOnModuleLevel() {
+		// given
+		BoundedContext upstream = createBoundedContext("Upstream", "UpstreamEntity");
+		upstream.getModules().add(createModule("UpstreamModule", "UpstreamModuleEntity", "UpstreamModuleAggregateEntity"));
+		BoundedContext downstream = createBoundedContext("Downstream", "DownstreamEntity");
+		downstream.getModules().add(createModule("DownstreamModule", "DownstreamModuleEntity", "DownstreamModuleAggregateEntity"));
+		ContextMap contextMap = ContextMappingDSLFactory.eINSTANCE.createContextMap();
+		contextMap.getRelationships().add(createUpstreamDownstreamRelationship(upstream, downstream));
+
+		// when
+		CMLReachabilityIndex index = new CMLReachabilityIndex(Set.of(contextMap));
+
+		// then
+		assertEquals(Set.of("UpstreamEntity", "UpstreamModuleAggregateEntity", "DownstreamEntity", "DownstreamModuleAggregateEntity"),
+				index.getVisibleDomainObjectNames(downstream));
+		assertFalse(index.isDomainObjectVisible(downstream, "DownstreamModuleEntity"));
+		assertFalse(index.isDomainObjectVisible(downstream, "UpstreamModuleEntity"));
+	}
+
+	@Test
+	public void canTellWhetherIndexIsBuiltFromContextMaps() {
+		// given
+		ContextMap contextMap1 = ContextMappingDSLFactory.eINSTANCE.createContextMap();
+		ContextMap contextMap2 = ContextMappingDSLFactory.eINSTANCE.createContextMap();
+
+		// when
+		CMLReachabilityIndex index = new CMLReachabilityIndex(Set.of(contextMap1));
+
+		// then
+		assertTrue(index.isBuiltFrom(Set.of(contextMap1)));
+		assertFalse(index.isBuiltFrom(Set.of(contextMap2)));
+		assertFalse(index.isBuiltFrom(Set.of(contextMap1, contextMap2)));
+	}
+
+	private BoundedContext createBoundedContext(String name, String entityName) {
+		BoundedContext bc = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		bc.setName(name);
+		bc.getAggregates().add(createAggregate(name + "Aggregate", entityName));
+		return bc;
+	}
+
+	private Aggregate createAggregate(String name, String entityName) {
+		Aggregate aggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+		aggregate.setName(name);
+		Entity entity = TacticdslFactory.eINSTANCE.createEntity();
+		entity.setName(entityName);
+		aggregate.getDomainObjects().add(entity);
+		return aggregate;
+	}
+
+	private SculptorModule createModule(String name, String moduleEntityName, String aggregateEntityName) {
+		SculptorModule module = ContextMappingDSLFactory.eINSTANCE.createSculptorModule();
+		module.setName(name);
+		Entity entity = TacticdslFactory.eINSTANCE.createEntity();
+		entity.setName(moduleEntityName);
+		module.getDomainObjects().add(entity);
+		module.getAggregates().add(createAggregate(name + "Aggregate", aggregateEntityName));
+		return module;
+	}
+
+	private UpstreamDownstreamRelationship createUpstreamDownstreamRelationship(BoundedContext upstream, BoundedContext downstream) {
+		UpstreamDownstreamRelationship relationship = ContextMappingDSLFactory.eINSTANCE.createUpstreamDownstreamRelationship();
+		relationship.setUpstream(upstream);
+		relationship.setDownstream(downstream);
+		return relationship;
+	}
+
+}
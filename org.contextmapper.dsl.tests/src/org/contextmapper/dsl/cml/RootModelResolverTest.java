@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.servicecutter.dsl.scl.SCLResourceContainer;
+import org.contextmapper.servicecutter.dsl.serviceCutterConfigurationDSL.ServiceCutterConfigurationDSLFactory;
+import org.contextmapper.servicecutter.dsl.serviceCutterConfigurationDSL.ServiceCutterUserRepresentationsModel;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.junit.jupiter.api.Test;
+
+public class RootModelResolverTest {
+
+	@Test
+	public void canResolveRootOfLargeModel() {
+		// given
+		ContextMappingModel model = createLargeModel(5000);
+		Resource resource = new ResourceImpl(URI.createURI("large-model.cml"));
+		resource.getContents().add(model);
+
+		// when
+		ContextMappingModel root = RootModelResolver.getRootModel(resource, ContextMappingModel.class);
+
+		// then
+		assertSame(model, root);
+		assertSame(model, new CMLResource(resource).getContextMappingModel());
+	}
+
+	@Test
+	public void canResolveSCLRoot() {
+		// given
+		ServiceCutterUserRepresentationsModel model = ServiceCutterConfigurationDSLFactory.eINSTANCE.createServiceCutterUserRepresentationsModel();
+		Resource resource = new ResourceImpl(URI.createURI("model.scl"));
+		resource.getContents().add(model);
+
+		// when
+		ServiceCutterUserRepresentationsModel root = new SCLResourceContainer(resource).getServiceCutterConfigurationModel();
+
+		// then
+		assertSame(model, root);
+	}
+
+	@Test
+	public void returnNullIfResourceIsEmpty() {
+		// given
+		Resource resource = new ResourceImpl(URI.createURI("empty.cml"));
+
+		// when
+		ContextMappingModel root = RootModelResolver.getRootModel(resource, ContextMappingModel.class);
+
+		// then
+		assertNull(root);
+	}
+
+	@Test
+	public void returnNullIfRootHasOtherType() {
+		// given
+		Resource resource = new ResourceImpl(URI.createURI("model.scl"));
+		resource.getContents().add(ServiceCutterConfigurationDSLFactory.eINSTANCE.createServiceCutterUserRepresentationsModel());
+
+		// when
+		ContextMappingModel root = RootModelResolver.getRootModel(resource, ContextMappingModel.class);
+
+		// then
+		assertNull(root);
+	}
+
+	private ContextMappingModel createLargeModel(int numberOfContexts) {
+		ContextMappingModel model = ContextMappingDSLFactory.eINSTANCE.createContextMappingModel();
+		for (int i = 0; i < numberOfContexts; i++) {
+			BoundedContext bc = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+			bc.setName("Context" + i);
+			for (int j = 0; j < 10; j++) {
+				Aggregate aggregate = ContextMappingDSLFactory.eINSTANCE.createAggregate();
+				aggregate.setName("Aggregate" + i + "_" + j);
+				bc.getAggregates().add(aggregate);
+			}
+			model.getBoundedContexts().add(bc);
+		}
+		return model;
+	}
+
+}
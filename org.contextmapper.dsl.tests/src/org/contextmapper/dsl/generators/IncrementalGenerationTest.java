@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generators;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+
+import org.contextmapper.dsl.AbstractCMLInputFileTest;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.generator.AbstractContextMappingModelGenerator;
+import org.contextmapper.dsl.generator.PlantUMLGenerator;
+import org.contextmapper.dsl.generators.mocks.IGeneratorContextMock;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.generator.IFileSystemAccess2;
+import org.eclipse.xtext.generator.JavaIoFileSystemAccess;
+import org.junit.jupiter.api.Test;
+
+public class IncrementalGenerationTest extends AbstractCMLInputFileTest {
+
+	private static final String INPUT_FILE_NAME = "class-diagram-generation-aggregate-test-1";
+	private static final String OTHER_OUTPUT = "OTHER_OUTPUT";
+
+	@Test
+	public void canSkipUnchangedFiles() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML(INPUT_FILE_NAME + ".cml");
+		generate(input);
+		File contextDiagram = getOutputFile("_BC_InsuranceQuotes.puml");
+		contextDiagram.setLastModified(1000L);
+
+		// when
+		generate(input);
+
+		// then
+		assertTrue(contextDiagram.exists());
+		assertEquals(1000L, contextDiagram.lastModified());
+		assertTrue(new File(testDir, "src-gen/." + INPUT_FILE_NAME + ".PlantUMLGenerator.manifest").exists());
+	}
+
+	@Test
+	public void canRewriteChangedFilesAndDeleteOrphanedFiles() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML(INPUT_FILE_NAME + ".cml");
+		generate(input);
+		File contextDiagram = getOutputFile("_BC_InsuranceQuotes.puml");
+		File removedAggregateDiagram = getOutputFile("_BC_InsuranceQuotes_AnotherAggregateThatMustBeIgnored.puml");
+		contextDiagram.setLastModified(1000L);
+		assertTrue(removedAggregateDiagram.exists());
+
+		// when
+		BoundedContext boundedContext = input.getContextMappingModel().getBoundedContexts().get(0);
+		boundedContext.getAggregates().removeIf(aggregate -> aggregate.getName().equals("AnotherAggregateThatMustBeIgnored"));
+		generate(input);
+
+		// then
+		assertNotEquals(1000L, contextDiagram.lastModified());
+		assertFalse(removedAggregateDiagram.exists());
+		assertTrue(getOutputFile("_BC_InsuranceQuotes_QuoteRequest.puml").exists());
+	}
+
+	@Test
+	public void canSkipAndDeleteBinaryFilesAndFilesOfOtherOutputConfigurations() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML(INPUT_FILE_NAME + ".cml");
+		JavaIoFileSystemAccess fsa = getFileSystemAccess();
+		fsa.setOutputPath(OTHER_OUTPUT, new File(testDir, "other-gen").getAbsolutePath());
+		BinaryAndOtherOutputGenerator generator = new BinaryAndOtherOutputGenerator(true);
+		generator.doGenerate(input, fsa, new IGeneratorContextMock());
+		File binaryFile = new File(testDir, "src-gen/diagram.bin");
+		File otherFile = new File(testDir, "other-gen/other.txt");
+		binaryFile.setLastModified(1000L);
+		otherFile.setLastModified(1000L);
+
+		// when
+		generator.doGenerate(input, fsa, new IGeneratorContextMock());
+		long binaryFileModifiedAfterUnchangedRun = binaryFile.lastModified();
+		long otherFileModifiedAfterUnchangedRun = otherFile.lastModified();
+		new BinaryAndOtherOutputGenerator(false).doGenerate(input, fsa, new IGeneratorContextMock());
+
+		// then
+		assertEquals(1000L, binaryFileModifiedAfterUnchangedRun);
+		assertEquals(1000L, otherFileModifiedAfterUnchangedRun);
+		assertFalse(binaryFile.exists());
+		assertFalse(otherFile.exists());
+	}
+
+	private void generate(CMLResource input) {
+		PlantUMLGenerator generator = new PlantUMLGenerator();
+		generator.setIncrementalGeneration(true);
+		generator.doGenerate(input, getFileSystemAccess(), new IGeneratorContextMock());
+	}
+
+	private File getOutputFile(String suffix) {
+		return new File(testDir, "src-gen/" + INPUT_FILE_NAME + suffix);
+	}
+
+	private static class BinaryAndOtherOutputGenerator extends AbstractContextMappingModelGenerator {
+
+		private final boolean generateFiles;
+
+		BinaryAndOtherOutputGenerator(boolean generateFiles) {
+			this.generateFiles = generateFiles;
+			setIncrementalGeneration(true);
+		}
+
+		@Override
+		protected void generateFromContextMappingModel(ContextMappingModel model, IFileSystemAccess2 fsa, URI inputFileURI) {
+			if (!generateFiles)
+				return;
+			fsa.generateFile("diagram.bin", new ByteArrayInputStream(new byte[] { 1, 2, 3 }));
+			fsa.generateFile("other.txt", OTHER_OUTPUT, "other content");
+		}
+
+	}
+
+	@Override
+	protected String getTestFileDirectory() {
+		return "/integ-test-files/generators/plantuml/";
+	}
+
+}
@@ -20,15 +20,31 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.io.IOUtils;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContextType;
 import org.contextmapper.dsl.contextMappingDSL.ContextMap;
+import org.contextmapper.dsl.contextMappingDSL.ContextMapType;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.contextMappingDSL.Partnership;
+import org.contextmapper.dsl.contextMappingDSL.UpstreamDownstreamRelationship;
 import org.contextmapper.dsl.generator.ContextMapGenerator;
 import org.contextmapper.dsl.generator.contextmap.ContextMapFormat;
+import org.contextmapper.dsl.generator.contextmap.GraphvizRenderingService;
 import org.contextmapper.dsl.generator.exception.NoContextMapDefinedException;
 import org.contextmapper.dsl.generators.mocks.ContextMappingModelResourceMock;
 import org.contextmapper.dsl.generators.mocks.IFileSystemAccess2Mock;
 import org.contextmapper.dsl.generators.mocks.IGeneratorContextMock;
+import org.eclipse.xtext.util.RuntimeIOException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -89,6 +105,112 @@ class ContextMapGeneratorTest {
 		assertTrue(filesystem.getGeneratedFilesSet().contains("testmodel_ContextMap.gv"));
 	}
 
+	@Test
+	void canGenerateAllFormatsFromSingleLayout() {
+		// given
+		ContextMappingModel model = ContextMappingDSLFactory.eINSTANCE.createContextMappingModel();
+		ContextMap contextMap = ContextMappingDSLFactory.eINSTANCE.createContextMap();
+		model.setMap(contextMap);
+
+		// when
+		IFileSystemAccess2Mock filesystem = new IFileSystemAccess2Mock();
+		this.generator.layoutOnce(true);
+		this.generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), filesystem, new IGeneratorContextMock());
+
+		// then
+		assertTrue(generator.layoutOnce());
+		assertTrue(filesystem.getGeneratedFilesSet().contains("testmodel_ContextMap.png"));
+		assertTrue(filesystem.getGeneratedFilesSet().contains("testmodel_ContextMap.svg"));
+		assertTrue(filesystem.getGeneratedFilesSet().contains("testmodel_ContextMap.gv"));
+	}
+
+	@Test
+	void canGenerateFilesWithRenderingService() {
+		// given
+		ContextMappingModel model = ContextMappingDSLFactory.eINSTANCE.createContextMappingModel();
+		ContextMap contextMap = ContextMappingDSLFactory.eINSTANCE.createContextMap();
+		model.setMap(contextMap);
+
+		// when
+		IFileSystemAccess2Mock filesystem = new IFileSystemAccess2Mock();
+		try (GraphvizRenderingService renderingService = GraphvizRenderingService.createDefault(null)) {
+			this.generator.setRenderingService(renderingService);
+			this.generator.layoutOnce(true);
+			this.generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), filesystem, new IGeneratorContextMock());
+		}
+
+		// then
+		assertTrue(filesystem.getGeneratedFilesSet().contains("testmodel_ContextMap.png"));
+		assertTrue(filesystem.getGeneratedFilesSet().contains("testmodel_ContextMap.svg"));
+		assertTrue(filesystem.getGeneratedFilesSet().contains("testmodel_ContextMap.gv"));
+	}
+
+	@Test
+	void canRenderImagesWithPositionsOfSingleLayout() {
+		// given
+		ContextMappingModel model = ContextMappingDSLFactory.eINSTANCE.createContextMappingModel();
+		ContextMap contextMap = ContextMappingDSLFactory.eINSTANCE.createContextMap();
+		model.setMap(contextMap);
+		BoundedContext customers = createBoundedContext(contextMap, "CustomerManagement");
+		BoundedContext contracts = createBoundedContext(contextMap, "ContractManagement");
+		BoundedContext policies = createBoundedContext(contextMap, "PolicyManagement");
+		BoundedContext printing = createBoundedContext(contextMap, "Printing");
+		Partnership partnership = ContextMappingDSLFactory.eINSTANCE.createPartnership();
+		partnership.setParticipant1(customers);
+		partnership.setParticipant2(contracts);
+		contextMap.getRelationships().add(partnership);
+		contextMap.getRelationships().add(createUpstreamDownstreamRelationship(contracts, policies));
+		contextMap.getRelationships().add(createUpstreamDownstreamRelationship(printing, policies));
+		contextMap.getRelationships().add(createUpstreamDownstreamRelationship(printing, customers));
+		ContentCapturingFileSystemAccess filesystem = new ContentCapturingFileSystemAccess();
+
+		// when
+		this.generator.setContextMapFormats(ContextMapFormat.DOT, ContextMapFormat.SVG);
+		this.generator.layoutOnce(true);
+		this.generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), filesystem, new IGeneratorContextMock());
+
+		// then
+		Map<String, double[]> layoutPositions = getNodePositionsOfLayout(filesystem.getContent("testmodel_ContextMap.gv"));
+		Map<String, double[]> svgPositions = getNodePositionsOfSVG(filesystem.getContent("testmodel_ContextMap.svg"));
+		assertEquals(4, layoutPositions.size());
+		assertEquals(layoutPositions.keySet(), svgPositions.keySet());
+		for (Map.Entry<String, double[]> layoutPosition : layoutPositions.entrySet()) {
+			double[] svgPosition = svgPositions.get(layoutPosition.getKey());
+			assertEquals(layoutPosition.getValue()[0], svgPosition[0], 1.5, "x position of " + layoutPosition.getKey());
+			assertEquals(layoutPosition.getValue()[1], -svgPosition[1], 1.5, "y position of " + layoutPosition.getKey());
+		}
+	}
+
+	@Test
+	void canRenderTeamClustersFromSingleLayout() {
+		// given
+		ContextMappingModel model = ContextMappingDSLFactory.eINSTANCE.createContextMappingModel();
+		ContextMap contextMap = ContextMappingDSLFactory.eINSTANCE.createContextMap();
+		contextMap.setType(ContextMapType.ORGANIZATIONAL);
+		model.setMap(contextMap);
+		BoundedContext customers = createBoundedContext(contextMap, "CustomerManagementContext");
+		BoundedContext policies = createBoundedContext(contextMap, "PolicyManagementContext");
+		BoundedContext customersTeam = createTeam(contextMap, "CustomersTeam", customers);
+		BoundedContext contractsTeam = createTeam(contextMap, "ContractsTeam", policies);
+		contextMap.getRelationships().add(createUpstreamDownstreamRelationship(customersTeam, contractsTeam));
+		contextMap.getRelationships().add(createUpstreamDownstreamRelationship(customers, policies));
+		ContentCapturingFileSystemAccess filesystem = new ContentCapturingFileSystemAccess();
+
+		// when
+		this.generator.setContextMapFormats(ContextMapFormat.DOT, ContextMapFormat.SVG);
+		this.generator.layoutOnce(true);
+		this.generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), filesystem, new IGeneratorContextMock());
+
+		// then
+		assertTrue(generator.clusterTeams());
+		String layout = filesystem.getContent("testmodel_ContextMap.gv");
+		String svg = filesystem.getContent("testmodel_ContextMap.svg");
+		int clustersInLayout = countMatches(layout, "subgraph\\s+\"?cluster");
+		assertTrue(clustersInLayout > 0);
+		assertEquals(clustersInLayout, countMatches(svg, "class=\"cluster\""));
+		assertEquals(countMatches(layout, "\\s(->|--)\\s"), countMatches(svg, "class=\"edge\""));
+	}
+
 	@Test
 	void canChangeLabelSpacingFactor() {
 		// given
@@ -245,6 +367,101 @@ class ContextMapGeneratorTest {
 		assertTrue(generator.isGraphvizInstalled());
 	}
 
+	private BoundedContext createBoundedContext(ContextMap contextMap, String name) {
+		BoundedContext boundedContext = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		boundedContext.setName(name);
+		contextMap.getBoundedContexts().add(boundedContext);
+		return boundedContext;
+	}
+
+	private BoundedContext createTeam(ContextMap contextMap, String name, BoundedContext realizedContext) {
+		BoundedContext team = createBoundedContext(contextMap, name);
+		team.setType(BoundedContextType.TEAM);
+		team.getRealizedBoundedContexts().add(realizedContext);
+		return team;
+	}
+
+	private int countMatches(String content, String regex) {
+		int count = 0;
+		Matcher matcher = Pattern.compile(regex).matcher(content);
+		while (matcher.find())
+			count++;
+		return count;
+	}
+
+	private UpstreamDownstreamRelationship createUpstreamDownstreamRelationship(BoundedContext upstream, BoundedContext downstream) {
+		UpstreamDownstreamRelationship relationship = ContextMappingDSLFactory.eINSTANCE.createUpstreamDownstreamRelationship();
+		relationship.setUpstream(upstream);
+		relationship.setDownstream(downstream);
+		return relationship;
+	}
+
+	/**
+	 * Reads the "pos" attributes (center, in points) of the nodes in the DOT
+	 * layout.
+	 */
+	private Map<String, double[]> getNodePositionsOfLayout(String layout) {
+		Map<String, double[]> positions = new HashMap<>();
+		Matcher node = Pattern.compile("^\\s*\"?(\\w+)\"?\\s*\\[([^\\]]*)\\]", Pattern.MULTILINE).matcher(layout);
+		while (node.find()) {
+			Matcher position = Pattern.compile("\\bpos=\"(-?[\\d.]+),(-?[\\d.]+)\"").matcher(node.group(2));
+			if (position.find())
+				positions.put(node.group(1), new double[] { Double.parseDouble(position.group(1)), Double.parseDouble(position.group(2)) });
+		}
+		return positions;
+	}
+
+	/**
+	 * Calculates the centers of the node shapes in the SVG (y axis inverted).
+	 */
+	private Map<String, double[]> getNodePositionsOfSVG(String svg) {
+		Map<String, double[]> positions = new HashMap<>();
+		Matcher node = Pattern.compile("<g id=\"[^\"]*\" class=\"node\">\\s*<title>([^<]*)</title>(.*?)</g>", Pattern.DOTALL).matcher(svg);
+		while (node.find()) {
+			Matcher ellipse = Pattern.compile("<ellipse[^>]*\\scx=\"(-?[\\d.]+)\"[^>]*\\scy=\"(-?[\\d.]+)\"").matcher(node.group(2));
+			if (ellipse.find()) {
+				positions.put(node.group(1), new double[] { Double.parseDouble(ellipse.group(1)), Double.parseDouble(ellipse.group(2)) });
+				continue;
+			}
+			Matcher polygon = Pattern.compile("<polygon[^>]*\\spoints=\"([^\"]*)\"").matcher(node.group(2));
+			if (polygon.find())
+				positions.put(node.group(1), getCenter(polygon.group(1)));
+		}
+		return positions;
+	}
+
+	private double[] getCenter(String points) {
+		double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE, maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+		for (String point : points.trim().split("\\s+")) {
+			String[] coordinates = point.split(",");
+			double x = Double.parseDouble(coordinates[0]);
+			double y = Double.parseDouble(coordinates[1]);
+			minX = Math.min(minX, x);
+			maxX = Math.max(maxX, x);
+			minY = Math.min(minY, y);
+			maxY = Math.max(maxY, y);
+		}
+		return new double[] { (minX + maxX) / 2, (minY + maxY) / 2 };
+	}
+
+	private class ContentCapturingFileSystemAccess extends IFileSystemAccess2Mock {
+		private Map<String, String> contents = new HashMap<>();
+
+		@Override
+		public void generateFile(String fileName, InputStream content) {
+			super.generateFile(fileName, content);
+			try {
+				contents.put(fileName, IOUtils.toString(content, StandardCharsets.UTF_8));
+			} catch (IOException e) {
+				throw new RuntimeIOException(e);
+			}
+		}
+
+		String getContent(String fileName) {
+			return contents.get(fileName);
+		}
+	}
+
 	private class TestContextMapGenerator extends ContextMapGenerator {
 		private TestGraphvizContextMapGenerator generator;
 
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generators.contextmap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.FileUtils;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+import org.contextmapper.dsl.generator.contextmap.GraphvizRenderingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import guru.nidi.graphviz.engine.Format;
+
+public class GraphvizRenderingServiceTest {
+
+	private static final File CACHE_DIR = new File("./out/graphviz-rendering-service-test/cache");
+	private static final String DOT = "digraph G { A -> B }";
+
+	@BeforeEach
+	public void deleteCache() throws IOException {
+		FileUtils.deleteDirectory(CACHE_DIR);
+	}
+
+	@Test
+	public void canRenderDOT() {
+		// given
+		try (GraphvizRenderingService service = new GraphvizRenderingService(1, 1, 1, TimeUnit.MINUTES, null)) {
+			// when
+			byte[] svg = service.render(DOT, Format.SVG, -1, -1);
+
+			// then
+			assertTrue(new String(svg, StandardCharsets.UTF_8).contains("<svg"));
+		}
+	}
+
+	@Test
+	public void canTakeRenderingFromCache() {
+		// given
+		try (GraphvizRenderingService service = new GraphvizRenderingService(1, 1, 1, TimeUnit.MINUTES, CACHE_DIR)) {
+			byte[] firstRendering = service.render(DOT, Format.SVG, -1, -1);
+
+			// when
+			byte[] secondRendering = service.render(DOT, Format.SVG, -1, -1);
+
+			// then
+			assertArrayEquals(firstRendering, secondRendering);
+			assertEquals(1, service.getCacheHitCount());
+		}
+	}
+
+	@Test
+	public void canCancelJobThatExceedsTimeout() {
+		// given
+		try (GraphvizRenderingService service = new GraphvizRenderingService(1, 1, 100, TimeUnit.MILLISECONDS, null)) {
+			// when, then
+			assertThrows(ContextMapperApplicationException.class, () -> {
+				service.execute(() -> {
+					Thread.sleep(10_000);
+					return null;
+				});
+			});
+		}
+	}
+
+	@Test
+	public void canBlockSubmitIfQueueIsFull() throws Exception {
+		// given
+		CountDownLatch runningJobCanFinish = new CountDownLatch(1);
+		AtomicBoolean submitted = new AtomicBoolean();
+
+		try (GraphvizRenderingService service = new GraphvizRenderingService(1, 1, 1, TimeUnit.MINUTES, null)) {
+			Future<Object> runningJob = service.submit(() -> {
+				runningJobCanFinish.await();
+				return null;
+			});
+			Future<Object> queuedJob = service.submit(() -> null);
+
+			// when
+			Thread submitter = new Thread(() -> {
+				service.getResult(service.submit(() -> null));
+				submitted.set(true);
+			});
+			submitter.start();
+			submitter.join(300);
+
+			// then
+			assertTrue(submitter.isAlive());
+			assertFalse(submitted.get());
+			runningJobCanFinish.countDown();
+			service.getResult(runningJob);
+			service.getResult(queuedJob);
+			submitter.join(10_000);
+			assertTrue(submitted.get());
+		}
+	}
+
+	@Test
+	public void keepsPlaceOfCancelledJobUntilWorkerIsReleased() throws Exception {
+		// given
+		CountDownLatch cancelledJobCanFinish = new CountDownLatch(1);
+		AtomicBoolean submitted = new AtomicBoolean();
+
+		try (GraphvizRenderingService service = new GraphvizRenderingService(1, 0, 100, TimeUnit.MILLISECONDS, null)) {
+			Future<Object> cancelledJob = service.submit(() -> {
+				// ignores the interruption of the timeout
+				while (cancelledJobCanFinish.getCount() > 0) {
+					try {
+						cancelledJobCanFinish.await();
+					} catch (InterruptedException e) {
+						// keep blocking the worker
+					}
+				}
+				return null;
+			});
+			assertThrows(ContextMapperApplicationException.class, () -> service.getResult(cancelledJob));
+
+			// when
+			Thread submitter = new Thread(() -> {
+				service.getResult(service.submit(() -> null));
+				submitted.set(true);
+			});
+			submitter.start();
+			submitter.join(300);
+
+			// then
+			assertTrue(cancelledJob.isCancelled());
+			assertFalse(submitted.get());
+			cancelledJobCanFinish.countDown();
+			submitter.join(10_000);
+			assertTrue(submitted.get());
+		}
+	}
+
+	@Test
+	public void canLimitParallelJobs() {
+		// given
+		AtomicInteger runningJobs = new AtomicInteger();
+		AtomicInteger maxRunningJobs = new AtomicInteger();
+		List<Future<Object>> jobs = new ArrayList<>();
+
+		try (GraphvizRenderingService service = new GraphvizRenderingService(2, 0, 1, TimeUnit.MINUTES, null)) {
+			// when
+			for (int i = 0; i < 8; i++) {
+				jobs.add(service.submit(() -> {
+					maxRunningJobs.accumulateAndGet(runningJobs.incrementAndGet(), Math::max);
+					Thread.sleep(50);
+					runningJobs.decrementAndGet();
+					return null;
+				}));
+			}
+			jobs.forEach(service::getResult);
+		}
+
+		// then
+		assertTrue(maxRunningJobs.get() <= 2);
+	}
+
+}
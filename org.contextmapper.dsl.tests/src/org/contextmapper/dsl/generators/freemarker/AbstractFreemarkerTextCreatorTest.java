@@ -16,11 +16,14 @@
 package org.contextmapper.dsl.generators.freemarker;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.IOException;
 import java.util.Map;
 
 import org.contextmapper.dsl.generator.AbstractFreemarkerTextCreator;
+import org.contextmapper.dsl.generator.FreemarkerTemplateRegistry;
 import org.junit.jupiter.api.Test;
 
 public class AbstractFreemarkerTextCreatorTest {
@@ -37,6 +40,20 @@ public class AbstractFreemarkerTextCreatorTest {
 		assertEquals("Hello Tester!", text);
 	}
 
+	@Test
+	public void canReuseCompiledTemplate() throws IOException {
+		// given
+		new SimpleTextCreator().createText("Tester1");
+
+		// when
+		String text = new SimpleTextCreator().createText("Tester2");
+
+		// then
+		assertEquals("Hello Tester2!", text);
+		assertSame(FreemarkerTemplateRegistry.getTemplate(AbstractFreemarkerTextCreatorTest.class, "hello.ftl"),
+				FreemarkerTemplateRegistry.getTemplate(AbstractFreemarkerTextCreatorTest.class, "hello.ftl"));
+	}
+
 	@Test
 	public void cannotGenerateTextIfClassIsWrong() {
 		assertThrows(RuntimeException.class, () -> {
@@ -16,18 +16,28 @@
 package org.contextmapper.dsl.generators.freemarker;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import org.contextmapper.dsl.AbstractCMLInputFileTest;
 import org.contextmapper.dsl.exception.ContextMapperApplicationException;
 import org.contextmapper.dsl.generator.GenericContentGenerator;
 import org.contextmapper.dsl.generator.exception.GeneratorInputException;
 import org.contextmapper.dsl.generators.mocks.IFileSystemAccess2Mock;
 import org.contextmapper.dsl.generators.mocks.IGeneratorContextMock;
+import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.xtext.util.RuntimeIOException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -149,6 +159,78 @@ public class GenericContentGeneratorTest extends AbstractCMLInputFileTest {
 		assertEquals("ContextMapper-Testproject", filesystem.readTextFile("output.txt"));
 	}
 
+	@Test
+	public void canStreamOutputIntoFile() throws IOException {
+		// given
+		GenericContentGenerator generator = new GenericContentGenerator();
+		generator.setFreemarkerTemplateFile(getCopyOfTestInputFile("simple-template.ftl"));
+		generator.setTargetFileName("streamed/output.txt");
+		generator.setStreamOutput(true);
+
+		// when
+		generator.doGenerate(getSimpleCMLResource(), getFileSystemAccess(), new IGeneratorContextMock());
+
+		// then
+		File outputFile = new File(testDir, "src-gen/streamed/output.txt");
+		assertTrue(outputFile.exists());
+		assertEquals("testMap", FileUtils.readFileToString(outputFile, StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void canStreamOutputThroughFileSystemAccess() throws IOException {
+		// given
+		GenericContentGenerator generator = new GenericContentGenerator();
+		generator.setFreemarkerTemplateFile(getCopyOfTestInputFile("simple-template.ftl"));
+		generator.setTargetFileName("streamed/output.txt");
+		generator.setStreamOutput(true);
+		File targetFile = new File(testDir, "not-written/streamed/output.txt");
+		Map<String, String> streamedFiles = new HashMap<>();
+		IFileSystemAccess2Mock filesystem = new IFileSystemAccess2Mock() {
+			@Override
+			public URI getURI(String path) {
+				return URI.createFileURI(new File(targetFile.getParentFile().getParentFile(), path).getAbsolutePath());
+			}
+
+			@Override
+			public void generateFile(String fileName, InputStream content) {
+				try {
+					streamedFiles.put(fileName, IOUtils.toString(content, Charset.defaultCharset()));
+				} catch (IOException e) {
+					throw new RuntimeIOException(e);
+				}
+			}
+		};
+
+		// when
+		generator.doGenerate(getSimpleCMLResource(), filesystem, new IGeneratorContextMock());
+
+		// then
+		assertEquals("testMap", streamedFiles.get("streamed/output.txt"));
+		assertFalse(targetFile.exists());
+	}
+
+	@Test
+	public void canRecompileCachedTemplateIfModified() throws IOException {
+		// given
+		File templateFile = getCopyOfTestInputFile("simple-template.ftl");
+		GenericContentGenerator generator = new GenericContentGenerator();
+		generator.setFreemarkerTemplateFile(templateFile);
+		generator.setTargetFileName("output.txt");
+		generator.setCacheTemplate(true);
+		IFileSystemAccess2Mock filesystem = new IFileSystemAccess2Mock();
+		generator.doGenerate(getSimpleCMLResource(), filesystem, new IGeneratorContextMock());
+		String firstOutput = filesystem.readTextFile("output.txt").toString();
+
+		// when
+		FileUtils.writeStringToFile(templateFile, "Map: ${contextMap.name}", StandardCharsets.UTF_8);
+		templateFile.setLastModified(templateFile.lastModified() + 2000);
+		generator.doGenerate(getSimpleCMLResource(), filesystem, new IGeneratorContextMock());
+
+		// then
+		assertEquals("testMap", firstOutput);
+		assertEquals("Map: testMap", filesystem.readTextFile("output.txt"));
+	}
+
 	private void testGenericFreemarkerGeneration(String template, String inputCML, String expectedOutput) throws IOException {
 		// given
 		GenericContentGenerator generator = new GenericContentGenerator();
@@ -90,6 +90,26 @@ class MDSLContractsGeneratorTest extends AbstractCMLInputFileTest {
 		assertTrue(ids.contains("MyPreservedDataType"));
 	}
 
+	@Test
+	void canPreserveProtectedRegionOfLocalFile() throws IOException {
+		// given
+		String inputModelName = "overwrite-with-preserving-protected-region-test.cml";
+		CMLResource input = getResourceCopyOfTestCML(inputModelName);
+		ContextMappingModel model = input.getContextMappingModel();
+		File existingMDSLFile = new File(Paths.get("").toAbsolutePath().toString(), "/integ-test-files/mdsl/overwrite-with-preserving-protected-region-test.mdsl");
+		File mdslFile = new File(testDir, "src-gen/testmodel_CustomerManagementContextAPI.mdsl");
+		FileUtils.copyFile(existingMDSLFile, mdslFile);
+
+		// when
+		new MDSLContractsGenerator().doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), getFileSystemAccess(), new IGeneratorContextMock());
+
+		// then
+		ProtectedRegionReader reader = new ProtectedRegionReader();
+		String protectedSection = reader.getProtectedRegionContent(FileUtils.readFileToString(mdslFile, Charset.defaultCharset()), ProtectedRegionIdentifier.DATA_TYPE_REGION);
+		Set<String> ids = reader.getIdentifiersInProtectedRegion(protectedSection, ProtectedRegionIdentifier.DATA_TYPE_REGION);
+		assertTrue(ids.contains("MyPreservedDataType"));
+	}
+
 	@Override
 	protected String getTestFileDirectory() {
 		return "/integ-test-files/mdsl/";
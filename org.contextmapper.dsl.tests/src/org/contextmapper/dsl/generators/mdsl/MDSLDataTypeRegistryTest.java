@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generators.mdsl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Collectors;
+
+import org.contextmapper.dsl.AbstractCMLInputFileTest;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.generator.mdsl.MDSLDataTypeCreator;
+import org.contextmapper.dsl.generator.mdsl.MDSLDataTypeRegistry;
+import org.contextmapper.dsl.generator.mdsl.MDSLDataTypeRegistry.RegisteredDataType;
+import org.contextmapper.dsl.generator.mdsl.model.DataType;
+import org.contextmapper.dsl.generator.mdsl.model.DataTypeAttribute;
+import org.contextmapper.tactic.dsl.tacticdsl.ComplexType;
+import org.contextmapper.tactic.dsl.tacticdsl.SimpleDomainObject;
+import org.contextmapper.tactic.dsl.tacticdsl.TacticdslFactory;
+import org.eclipse.xtext.EcoreUtil2;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Lists;
+
+public class MDSLDataTypeRegistryTest extends AbstractCMLInputFileTest {
+
+	@Test
+	void canShareDataTypesAcrossCreators() throws IOException {
+		// given
+		SimpleDomainObject address = getDomainObject("mdsl-entity-extending-other-entity.cml", "Address");
+		MDSLDataTypeRegistry registry = new MDSLDataTypeRegistry();
+		MDSLDataTypeCreator creator1 = new MDSLDataTypeCreator(registry);
+		MDSLDataTypeCreator creator2 = new MDSLDataTypeCreator(registry);
+
+		// when
+		DataType dataType1 = creator1.createMDSLDataType(createComplexType(address));
+		DataType dataType2 = creator2.createMDSLDataType(createComplexType(address));
+
+		// then
+		assertSame(dataType1, dataType2);
+		assertTrue(creator1.getAllDataTypes().contains(dataType1));
+		assertTrue(creator2.getAllDataTypes().contains(dataType2));
+	}
+
+	@Test
+	void canCreateDataTypeWithAttributesOfExtendedType() throws IOException {
+		// given
+		SimpleDomainObject address = getDomainObject("mdsl-entity-extending-other-entity.cml", "Address");
+
+		// when
+		DataType dataType = new MDSLDataTypeRegistry().getDataType(address).getDataType();
+
+		// then
+		List<String> attributeNames = dataType.getAttributes().stream().map(DataTypeAttribute::getName).collect(Collectors.toList());
+		assertEquals(Lists.newArrayList("identifier", "street", "houseNumber"), attributeNames);
+	}
+
+	@Test
+	void canHandleCyclicReferences() throws IOException {
+		// given
+		SimpleDomainObject cyclicVO = getDomainObject("mdsl-cyclic-reference.cml", "CyclicVO");
+
+		// when
+		RegisteredDataType dataType = new MDSLDataTypeRegistry().getDataType(cyclicVO);
+
+		// then
+		assertEquals(2, dataType.getDataType().getAttributes().size());
+		assertEquals("CyclicVO", dataType.getDataType().getAttributes().get(1).getType());
+		assertSame(dataType, dataType.getReferencedTypes().get(0));
+	}
+
+	@Test
+	void canCreateDataTypesInParallel() throws IOException {
+		// given
+		SimpleDomainObject address = getDomainObject("mdsl-entity-extending-other-entity.cml", "Address");
+		MDSLDataTypeRegistry registry = new MDSLDataTypeRegistry();
+
+		// when
+		List<ForkJoinTask<RegisteredDataType>> tasks = Lists.newArrayList();
+		for (int i = 0; i < 8; i++)
+			tasks.add(ForkJoinPool.commonPool().submit(() -> registry.getDataType(address)));
+
+		// then
+		RegisteredDataType dataType = tasks.get(0).join();
+		for (ForkJoinTask<RegisteredDataType> task : tasks)
+			assertSame(dataType, task.join());
+	}
+
+	private SimpleDomainObject getDomainObject(String inputCML, String name) throws IOException {
+		ContextMappingModel model = getResourceCopyOfTestCML(inputCML).getContextMappingModel();
+		return EcoreUtil2.eAllOfType(model, SimpleDomainObject.class).stream().filter(o -> name.equals(o.getName())).findFirst().get();
+	}
+
+	private ComplexType createComplexType(SimpleDomainObject domainObject) {
+		ComplexType type = TacticdslFactory.eINSTANCE.createComplexType();
+		type.setDomainObjectType(domainObject);
+		return type;
+	}
+
+	@Override
+	protected String getTestFileDirectory() {
+		return "/integ-test-files/mdsl/";
+	}
+
+}
@@ -20,11 +20,14 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.contextmapper.dsl.AbstractCMLInputFileTest;
 import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.generator.exception.GeneratorInputException;
 import org.contextmapper.dsl.generator.mdsl.MDSLModelCreator;
+import org.contextmapper.dsl.generator.mdsl.ProtectedRegionContextFactory;
 import org.contextmapper.dsl.generator.mdsl.model.DataType;
 import org.contextmapper.dsl.generator.mdsl.model.EndpointClient;
 import org.contextmapper.dsl.generator.mdsl.model.EndpointContract;
@@ -36,6 +39,8 @@ import org.contextmapper.dsl.generator.mdsl.model.OrchestrationFlow;
 import org.contextmapper.dsl.generator.mdsl.model.ServiceSpecification;
 import org.contextmapper.dsl.generator.mdsl.model.Story;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 public class MDSLModelCreatorTest extends AbstractCMLInputFileTest {
 
@@ -257,6 +262,45 @@ public class MDSLModelCreatorTest extends AbstractCMLInputFileTest {
 		});
 	}
 	
+	@Test
+	void assignsDistinctPortsToEndpointsOfAllAPIs() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("mdsl-no-operation-in-one-api.cml");
+		MDSLModelCreator mdslCreator = new MDSLModelCreator(input.getContextMappingModel());
+
+		// when
+		List<ServiceSpecification> serviceSpecifications = mdslCreator.createServiceSpecifications();
+		Set<String> locations = serviceSpecifications.stream().flatMap(spec -> spec.getProviders().stream()).flatMap(provider -> provider.getEndpointOffers().stream())
+				.map(EndpointOffer::getLocation).collect(Collectors.toSet());
+
+		// then
+		assertEquals(2, serviceSpecifications.size());
+		assertEquals(Set.of("http://localhost:8000", "http://localhost:8001"), locations);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = { "mdsl-no-operation-in-one-api.cml", "context-is-upstream-in-multiple-relationships.cml", "application-flow-example.cml",
+			"mdsl-use-application-commands-1.cml", "mdsl-protected-regions.cml" })
+	void canCreateSameSpecificationsInParallel(String inputCML) throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML(inputCML);
+		List<String> serialSpecifications = createMDSLTexts(new MDSLModelCreator(input.getContextMappingModel()));
+
+		// when
+		MDSLModelCreator parallelCreator = new MDSLModelCreator(reloadResource(input).getContextMappingModel());
+		parallelCreator.setParallelGeneration(true);
+		List<String> parallelSpecifications = createMDSLTexts(parallelCreator);
+
+		// then
+		assertEquals(serialSpecifications, parallelSpecifications);
+	}
+
+	private List<String> createMDSLTexts(MDSLModelCreator mdslCreator) {
+		return mdslCreator.createServiceSpecifications().stream()
+				.map(spec -> new TestMDSLAPIDescriptionCreator(new ProtectedRegionContextFactory().createProtectedRegionContextForNewMDSLFile(), "test.cml").createText(spec))
+				.collect(Collectors.toList());
+	}
+
 	@Test
 	void canCreateUpdateAndReadModelWithScenarioAndStory() {
 		// given 
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generators.mdsl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.contextmapper.dsl.generator.exception.GeneratorInputException;
+import org.contextmapper.dsl.generator.mdsl.ProtectedRegionContext;
+import org.contextmapper.dsl.generator.mdsl.ProtectedRegionScanner;
+import org.junit.jupiter.api.Test;
+
+public class ProtectedRegionScannerTest {
+
+	@Test
+	void canScanAllRegionsOfFile() {
+		// given
+		File mdslFile = new File(Paths.get("").toAbsolutePath().toString(), "/integ-test-files/mdsl/protected-region-identifier-test.mdsl");
+
+		// when
+		ProtectedRegionContext context = new ProtectedRegionScanner().scan(mdslFile, StandardCharsets.UTF_8);
+
+		// then
+		assertEquals("data type Address P" + System.lineSeparator() + "data type Parameter1Type P", context.getProtectedDataTypeRegion());
+		assertEquals("API client ContractManagementContextClient" + System.lineSeparator() + "	consumes Customers", context.getProtectedClientRegion());
+		assertEquals(2, context.getDataTypeIdentifiers().size());
+		assertTrue(context.getDataTypeIdentifiers().contains("Address"));
+		assertTrue(context.getEndpointIdentifiers().contains("Customers"));
+		assertTrue(context.getProviderIdentifiers().contains("CustomerManagementContextProvider"));
+		assertTrue(context.getClientIdentifiers().contains("ContractManagementContextClient"));
+	}
+
+	@Test
+	void canScanFileWithEncodingOfGenerator() throws IOException {
+		// given
+		String mdsl = String.join("\n", "API description TestAPI", "// ** BEGIN PROTECTED REGION for data types", "data type Adresse P // Stra\u00dfe und Ort",
+				"// ** END PROTECTED REGION for data types");
+		Path mdslFile = Files.createTempFile("protected-region-encoding-test", ".mdsl");
+		Files.write(mdslFile, mdsl.getBytes(StandardCharsets.ISO_8859_1));
+
+		try {
+			// when
+			ProtectedRegionContext isoContext = new ProtectedRegionScanner().scan(mdslFile.toFile(), StandardCharsets.ISO_8859_1);
+			ProtectedRegionContext utf8Context = new ProtectedRegionScanner().scan(mdslFile.toFile(), StandardCharsets.UTF_8);
+
+			// then
+			assertEquals("data type Adresse P // Stra\u00dfe und Ort", isoContext.getProtectedDataTypeRegion());
+			assertTrue(utf8Context.getDataTypeIdentifiers().contains("Adresse"));
+		} finally {
+			Files.delete(mdslFile);
+		}
+	}
+
+	@Test
+	void canKeepEmptyLinesInRegion() throws IOException {
+		// given
+		String mdsl = String.join("\n", "API description TestAPI", "// ** BEGIN PROTECTED REGION for data types", "", "data type Address P", "",
+				"// ** END PROTECTED REGION for data types", "data type ReturnType P");
+
+		// when
+		ProtectedRegionContext context = new ProtectedRegionScanner().scan(new BufferedReader(new StringReader(mdsl)));
+
+		// then
+		assertEquals(System.lineSeparator() + "data type Address P" + System.lineSeparator(), context.getProtectedDataTypeRegion());
+		assertEquals(1, context.getDataTypeIdentifiers().size());
+		assertNull(context.getProtectedEndpointRegion());
+	}
+
+	@Test
+	void throwExceptionIfRegionIsNotClosed() {
+		// given
+		String mdsl = String.join("\n", "API description TestAPI", "// ** BEGIN PROTECTED REGION for data types", "data type Address P");
+
+		// when -> then throw exception
+		assertThrows(GeneratorInputException.class, () -> {
+			new ProtectedRegionScanner().scan(new BufferedReader(new StringReader(mdsl)));
+		});
+	}
+
+}
@@ -15,13 +15,18 @@
  */
 package org.contextmapper.dsl.generators.plantuml;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
+import org.apache.commons.io.FileUtils;
 import org.contextmapper.dsl.AbstractCMLInputFileTest;
+import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.ContextMap;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
@@ -37,6 +42,8 @@ import org.contextmapper.tactic.dsl.tacticdsl.Entity;
 import org.contextmapper.tactic.dsl.tacticdsl.TacticdslFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class PlantUMLGeneratorTest extends AbstractCMLInputFileTest {
 
@@ -274,6 +281,49 @@ class PlantUMLGeneratorTest extends AbstractCMLInputFileTest {
 		});
 	}
 
+	@ParameterizedTest
+	@ValueSource(strings = { "state-diagram-generation-aggregate-test-1.cml", "state-diagram-generation-flow-test.cml",
+			"class-diagram-generation-module-test-1.cml", "use-case-diagram-generation-test-1.cml",
+			"stakeholder-diagram-generation-test-1.cml", "value-impact-map-diagram-generation-test-1.cml" })
+	void canCreateSameDiagramsInParallel(String inputCML) throws IOException {
+		// given
+		ContextMappingModel model = getOriginalResourceOfTestCML(inputCML).getContextMappingModel();
+		IFileSystemAccess2Mock serialFilesystem = new IFileSystemAccess2Mock();
+		this.generator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), serialFilesystem,
+				new IGeneratorContextMock());
+
+		// when
+		PlantUMLGenerator parallelGenerator = new PlantUMLGenerator();
+		parallelGenerator.setParallelGeneration(true);
+		IFileSystemAccess2Mock parallelFilesystem = new IFileSystemAccess2Mock();
+		parallelGenerator.doGenerate(new ContextMappingModelResourceMock(model, "testmodel", "cml"), parallelFilesystem,
+				new IGeneratorContextMock());
+
+		// then
+		assertEquals(serialFilesystem.getGeneratedFilesSet(), parallelFilesystem.getGeneratedFilesSet());
+		for (String file : serialFilesystem.getGeneratedFilesSet())
+			assertEquals(serialFilesystem.readTextFile(file).toString(), parallelFilesystem.readTextFile(file).toString());
+	}
+
+	@Test
+	void canStreamDiagramsIntoFiles() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("state-diagram-generation-aggregate-test-1.cml");
+		IFileSystemAccess2Mock inMemoryFilesystem = new IFileSystemAccess2Mock();
+		this.generator.doGenerate(input, inMemoryFilesystem, new IGeneratorContextMock());
+
+		// when
+		PlantUMLGenerator streamingGenerator = new PlantUMLGenerator();
+		streamingGenerator.setStreamOutput(true);
+		streamingGenerator.doGenerate(input, getFileSystemAccess(), new IGeneratorContextMock());
+
+		// then
+		assertFalse(inMemoryFilesystem.getGeneratedFilesSet().isEmpty());
+		for (String file : inMemoryFilesystem.getGeneratedFilesSet())
+			assertEquals(inMemoryFilesystem.readTextFile(file).toString(),
+					FileUtils.readFileToString(new File(testDir, "src-gen/" + file), StandardCharsets.UTF_8));
+	}
+
 	private Entity createTestEntity(String name) {
 		Entity testEntity = TacticdslFactory.eINSTANCE.createEntity();
 		testEntity.setName(name);
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.junit.jupiter.api.Test;
+
+public class AbstractRefactoringNameIndexTest extends AbstractRefactoringTest {
+
+	@Test
+	void canFindBoundedContextsOfImportedResources() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("merge-bounded-contexts-multiple-files-test-3.cml");
+		getResourceSetOfTestCMLFiles("merge-bounded-contexts-multiple-files-test-1.cml", "merge-bounded-contexts-multiple-files-test-2.cml");
+		NameIndexRefactoring refactoring = new NameIndexRefactoring();
+
+		// when
+		refactoring.refactor(input);
+
+		// then
+		BoundedContext customerManagement = refactoring.findBoundedContext("CustomerManagement").get();
+		assertEquals("CustomerManagement", customerManagement.getName());
+		assertSame(customerManagement, refactoring.getBoundedContexts("CustomerManagement").get(0));
+		assertEquals(1, refactoring.getBoundedContexts("AnotherContext").size());
+		assertTrue(refactoring.getResource(customerManagement).getURI().toString().endsWith("merge-bounded-contexts-multiple-files-test-1.cml"));
+		assertFalse(refactoring.findBoundedContext("NotExistingContext").isPresent());
+		assertTrue(refactoring.getBoundedContexts("NotExistingContext").isEmpty());
+	}
+
+	@Test
+	void canFindDomainsAndUserRequirements() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("derive-subdomain-from-user-story-test-1-input.cml");
+		NameIndexRefactoring refactoring = new NameIndexRefactoring();
+
+		// when
+		refactoring.refactor(input);
+
+		// then
+		assertTrue(refactoring.findDomain("InsuranceDomain").isPresent());
+		assertTrue(refactoring.findUserRequirement("US1_Create").isPresent());
+		assertFalse(refactoring.findUserRequirement("NotExistingStory").isPresent());
+	}
+
+	@Test
+	void cannotModifyRootElements() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("merge-bounded-contexts-multiple-files-test-3.cml");
+		getResourceSetOfTestCMLFiles("merge-bounded-contexts-multiple-files-test-1.cml", "merge-bounded-contexts-multiple-files-test-2.cml");
+		NameIndexRefactoring refactoring = new NameIndexRefactoring();
+
+		// when
+		refactoring.refactor(input);
+
+		// then
+		assertEquals(2, refactoring.getAllBoundedContexts().size());
+		assertThrows(UnsupportedOperationException.class, () -> refactoring.getAllBoundedContexts().clear());
+		assertThrows(UnsupportedOperationException.class, () -> refactoring.getBoundedContexts("AnotherContext").clear());
+	}
+
+	private class NameIndexRefactoring extends AbstractRefactoring {
+
+		@Override
+		protected void doRefactor() {
+			// only resolves the root elements
+		}
+
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import org.apache.commons.io.FileUtils;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.tactic.dsl.tacticdsl.Entity;
+import org.contextmapper.tactic.dsl.tacticdsl.Reference;
+import org.contextmapper.tactic.dsl.tacticdsl.TacticdslFactory;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.resource.SaveOptions;
+import org.eclipse.xtext.resource.XtextResource;
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Sets;
+
+public class CMLResourceWriterTest extends AbstractRefactoringTest {
+
+	@Test
+	void canPersistSameTextAsFormattedSave() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("merge-aggregates-test-1-input.cml");
+		MergeAggregatesRefactoring refactoring = new MergeAggregatesRefactoring("Customers", "Addresses");
+		refactoring.refactor(input);
+		ByteArrayOutputStream savedCML = new ByteArrayOutputStream();
+		input.save(savedCML, SaveOptions.newBuilder().format().getOptions().toOptionsMap());
+
+		// when
+		refactoring.persistChanges(serializer);
+
+		// then
+		assertEquals(savedCML.toString(StandardCharsets.UTF_8.name()), FileUtils.readFileToString(new File(input.getURI().toFileString()), StandardCharsets.UTF_8));
+		assertFalse(input.isModified());
+	}
+
+	@Test
+	void canWriteResourceWithoutResourceServiceProvider() throws IOException {
+		// given
+		File targetFile = new File(testDir, "resource-without-language.cml");
+		XtextResource resource = new XtextResource(URI.createFileURI(targetFile.getAbsolutePath()));
+		String cml = "BoundedContext Kundenverwaltung // Stra\u00dfe";
+
+		// when
+		new CMLResourceWriter(serializer).write(resource, cml);
+
+		// then
+		assertEquals(cml, FileUtils.readFileToString(targetFile, StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void canReportSerializationErrors() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("merge-aggregates-test-1-input.cml");
+		Entity entity = TacticdslFactory.eINSTANCE.createEntity();
+		entity.setName("UnknownEntity");
+		Reference reference = TacticdslFactory.eINSTANCE.createReference();
+		reference.setName("unknown");
+		reference.setDomainObjectType(entity);
+		((Entity) input.getContextMappingModel().getBoundedContexts().get(0).getAggregates().get(0).getDomainObjects().get(0)).getReferences().add(reference);
+		Set<String> errors = Sets.newHashSet();
+
+		// when
+		String cml = new CMLResourceWriter(serializer).serialize(input, errors);
+
+		// then
+		assertNull(cml);
+		assertEquals(1, errors.size());
+	}
+
+}
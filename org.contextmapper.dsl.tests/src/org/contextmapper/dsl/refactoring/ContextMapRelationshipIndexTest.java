@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMap;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.contextMappingDSL.Partnership;
+import org.contextmapper.dsl.contextMappingDSL.Relationship;
+import org.contextmapper.dsl.contextMappingDSL.UpstreamDownstreamRelationship;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ContextMapRelationshipIndexTest {
+
+	private ContextMap contextMap;
+	private BoundedContext customers;
+	private BoundedContext contracts;
+	private BoundedContext policies;
+	private Partnership partnership;
+	private UpstreamDownstreamRelationship upstreamDownstream;
+
+	@BeforeEach
+	void prepare() {
+		contextMap = ContextMappingDSLFactory.eINSTANCE.createContextMap();
+		customers = createBoundedContext("CustomerManagement");
+		contracts = createBoundedContext("ContractManagement");
+		policies = createBoundedContext("PolicyManagement");
+		contextMap.getBoundedContexts().add(customers);
+		contextMap.getBoundedContexts().add(contracts);
+
+		partnership = ContextMappingDSLFactory.eINSTANCE.createPartnership();
+		partnership.setParticipant1(customers);
+		partnership.setParticipant2(contracts);
+		upstreamDownstream = createUpstreamDownstreamRelationship(contracts, policies);
+		contextMap.getRelationships().add(partnership);
+		contextMap.getRelationships().add(upstreamDownstream);
+	}
+
+	@Test
+	void canFindRelationshipsOfContext() {
+		// when
+		ContextMappingModelHelper helper = new ContextMappingModelHelper(contextMap);
+
+		// then
+		assertEquals(2, helper.findAnyRelationshipsInvolvingContext(contracts).size());
+		assertEquals(1, helper.findAnyRelationshipsInvolvingContext(customers).size());
+		List<Relationship> relationships = helper.findAnyRelationshipsBetweenTwoContexts(policies, contracts);
+		assertEquals(1, relationships.size());
+		assertSame(upstreamDownstream, relationships.get(0));
+		assertTrue(helper.findAnyRelationshipsBetweenTwoContexts(customers, policies).isEmpty());
+	}
+
+	@Test
+	void canUpdateIndexWhenRelationshipsAreAddedAndRemoved() {
+		// given
+		ContextMappingModelHelper helper = new ContextMappingModelHelper(contextMap);
+		helper.findAnyRelationshipsInvolvingContext(customers);
+
+		// when
+		UpstreamDownstreamRelationship newRelationship = createUpstreamDownstreamRelationship(customers, policies);
+		contextMap.getRelationships().add(newRelationship);
+		contextMap.getRelationships().remove(partnership);
+
+		// then
+		List<Relationship> relationships = helper.findAnyRelationshipsInvolvingContext(customers);
+		assertEquals(1, relationships.size());
+		assertSame(newRelationship, relationships.get(0));
+		assertEquals(1, helper.findAnyRelationshipsInvolvingContext(contracts).size());
+	}
+
+	@Test
+	void canUpdateIndexWhenListIsReplaced() {
+		// given
+		ContextMappingModelHelper helper = new ContextMappingModelHelper(contextMap);
+		helper.findAnyRelationshipsInvolvingContext(customers);
+
+		// when
+		contextMap.getRelationships().clear();
+		contextMap.getRelationships().add(upstreamDownstream);
+
+		// then
+		assertTrue(helper.findAnyRelationshipsInvolvingContext(customers).isEmpty());
+		assertEquals(1, helper.findAnyRelationshipsInvolvingContext(policies).size());
+	}
+
+	@Test
+	void canReplaceBoundedContextInRelationships() {
+		// given
+		ContextMappingModelHelper helper = new ContextMappingModelHelper(contextMap);
+
+		// when
+		boolean replaced = helper.replaceBCInAllRelationships(contracts, policies);
+
+		// then
+		assertTrue(replaced);
+		assertSame(policies, partnership.getParticipant2());
+		assertSame(policies, upstreamDownstream.getUpstream());
+		assertTrue(helper.findAnyRelationshipsInvolvingContext(contracts).isEmpty());
+		assertEquals(2, helper.findAnyRelationshipsInvolvingContext(policies).size());
+		assertTrue(contextMap.getBoundedContexts().contains(policies));
+		assertFalse(helper.replaceBCInAllRelationships(contracts, customers));
+	}
+
+	@Test
+	void canUpdateIndexWhenBoundedContextIsRenamed() {
+		// given
+		ContextMappingModelHelper helper = new ContextMappingModelHelper(contextMap);
+		helper.findAnyRelationshipsInvolvingContext(customers);
+
+		// when
+		customers.setName("CustomerSelfService");
+
+		// then
+		assertEquals(1, ContextMapRelationshipIndex.get(contextMap).getRelationships("CustomerSelfService").size());
+		assertTrue(ContextMapRelationshipIndex.get(contextMap).getRelationships("CustomerManagement").isEmpty());
+		assertTrue(ContextMapRelationshipIndex.get(contextMap).containsBoundedContext("CustomerSelfService"));
+	}
+
+	@Test
+	void doesNotMatchContextsByNameSuffix() {
+		// given
+		BoundedContext management = createBoundedContext("Management");
+		Partnership otherPartnership = ContextMappingDSLFactory.eINSTANCE.createPartnership();
+		otherPartnership.setParticipant1(customers);
+		otherPartnership.setParticipant2(policies);
+		contextMap.getRelationships().add(otherPartnership);
+
+		// when
+		List<Relationship> relationships = new ContextMappingModelHelper(contextMap).findAnyRelationshipsInvolvingContext(management);
+
+		// then
+		assertTrue(relationships.isEmpty());
+	}
+
+	@Test
+	void canDetachFromRemovedRelationshipsAndBoundedContexts() {
+		// given
+		ContextMapRelationshipIndex index = ContextMapRelationshipIndex.get(contextMap);
+		index.getRelationships("CustomerManagement");
+		index.containsBoundedContext("CustomerManagement");
+
+		// when
+		contextMap.getRelationships().remove(partnership);
+		contextMap.getBoundedContexts().remove(customers);
+
+		// then
+		assertFalse(partnership.eAdapters().contains(index));
+		assertFalse(customers.eAdapters().contains(index));
+		assertTrue(contracts.eAdapters().contains(index));
+		assertTrue(upstreamDownstream.eAdapters().contains(index));
+	}
+
+	@Test
+	void canDetachFromReplacedParticipant() {
+		// given
+		ContextMapRelationshipIndex index = ContextMapRelationshipIndex.get(contextMap);
+		index.getRelationships("PolicyManagement");
+
+		// when
+		upstreamDownstream.setDownstream(customers);
+
+		// then
+		assertFalse(policies.eAdapters().contains(index));
+		assertTrue(index.getRelationships("PolicyManagement").isEmpty());
+		assertEquals(2, index.getRelationships("CustomerManagement").size());
+	}
+
+	@Test
+	void canReturnRelationshipsInOrderOfContextMap() {
+		// given
+		ContextMappingModelHelper helper = new ContextMappingModelHelper(contextMap);
+		helper.findAnyRelationshipsInvolvingContext(contracts);
+
+		// when
+		UpstreamDownstreamRelationship newRelationship = createUpstreamDownstreamRelationship(policies, contracts);
+		contextMap.getRelationships().add(0, newRelationship);
+		contextMap.getRelationships().move(2, partnership);
+
+		// then
+		List<Relationship> relationships = helper.findAnyRelationshipsInvolvingContext(contracts);
+		assertEquals(3, relationships.size());
+		assertSame(newRelationship, relationships.get(0));
+		assertSame(upstreamDownstream, relationships.get(1));
+		assertSame(partnership, relationships.get(2));
+	}
+
+	private BoundedContext createBoundedContext(String name) {
+		BoundedContext bc = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
+		bc.setName(name);
+		return bc;
+	}
+
+	private UpstreamDownstreamRelationship createUpstreamDownstreamRelationship(BoundedContext upstream, BoundedContext downstream) {
+		UpstreamDownstreamRelationship relationship = ContextMappingDSLFactory.eINSTANCE.createUpstreamDownstreamRelationship();
+		relationship.setUpstream(upstream);
+		relationship.setDownstream(downstream);
+		return relationship;
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import static org.contextmapper.dsl.refactoring.ContextSplittingIntegrationType.ACL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.contextMappingDSL.Domain;
+import org.contextmapper.dsl.contextMappingDSL.Relationship;
+import org.contextmapper.dsl.contextMappingDSL.Subdomain;
+import org.contextmapper.dsl.contextMappingDSL.Volatility;
+import org.contextmapper.tactic.dsl.tacticdsl.SimpleDomainObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.EcoreUtil2;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.google.common.collect.Sets;
+
+/**
+ * Checks that the models changed with the list helpers of
+ * {@link AbstractRefactoring} are persisted completely: the persisted model
+ * contains the same elements as the refactored model in memory.
+ */
+public class EListHelperRegressionTest extends AbstractRefactoringTest {
+
+	@ParameterizedTest
+	@MethodSource("createRefactorings")
+	void canPersistRefactoredModel(String inputFile, SemanticCMLRefactoring refactoring) throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML(inputFile);
+
+		// when
+		refactoring.refactor(input);
+		refactoring.persistChanges(serializer);
+
+		// then
+		CMLResource reloaded = reloadResource(input);
+		EcoreUtil.resolveAll(reloaded);
+		assertTrue(reloaded.getErrors().isEmpty());
+		assertEquals(getElementNames(input.getContextMappingModel()), getElementNames(reloaded.getContextMappingModel()));
+	}
+
+	private static Stream<Arguments> createRefactorings() {
+		return Stream.of(Arguments.of("switch-from-partnership-to-sharedkernel-test-1-input.cml", new SwitchFromPartnershipToSharedKernelRefactoring("CustomerManagement", "AnotherContext")),
+				Arguments.of("switch-from-sharedkernel-to-partnership-test-1-input.cml", new SwitchFromSharedKernelToPartnershipRefactoring("CustomerManagement", "AnotherContext")),
+				Arguments.of("change-partnership-to-upstream-downstream-test-1-input.cml", new ChangePartnershipToUpstreamDownstreamRefactoring("CustomerManagement", "AnotherContext")),
+				Arguments.of("derive-bc-from-subdomain-test-1-input.cml", new DeriveBoundedContextFromSubdomains("NewTestBC", Sets.newHashSet("CustomerDomain"))),
+				Arguments.of("derive-frontend-backend-from-feature-test-6-input.cml", new DeriveFrontendAndBackendSystemsFromFeature("TestSystem", ACL)),
+				Arguments.of("derive-subdomain-from-user-story-test-1-input.cml",
+						new DeriveSubdomainFromUserRequirements("InsuranceDomain", "Customers", Sets.newHashSet("US1_Create", "Story_to_be_Ignored", "UseCase_to_be_Ignored"))),
+				Arguments.of("extract-aggregates-by-nfr-test-1-input.cml",
+						new ExtractAggregatesByCohesion("CustomerManagement", "CustomerManagement_Extracted", Arrays.asList("Customers", "Addresses"))),
+				Arguments.of("extract-aggregates-likely-to-change-test-1-input.cml", new ExtractAggregatesByVolatility("CustomerManagement", Volatility.OFTEN)),
+				Arguments.of("extract-partnership-test-1-input.cml", new ExtractPartnershipRefactoring("CustomerManagement", "AnotherContext")),
+				Arguments.of("extract-shared-kernel-test-1-input.cml", new ExtractSharedKernelRefactoring("CustomerManagement", "AnotherContext")),
+				Arguments.of("merge-aggregates-test-1-input.cml", new MergeAggregatesRefactoring("Customers", "Addresses")),
+				Arguments.of("merge-bounded-contexts-test-1-input.cml", new MergeBoundedContextsRefactoring("CustomerManagement", "AnotherContext")),
+				Arguments.of("split-agg-by-entities-test-1-input.cml", new SplitAggregateByEntitiesRefactoring("Customers")),
+				Arguments.of("split-bc-by-owner-test-1-input.cml", new SplitBoundedContextByOwner("CustomerManagement")),
+				Arguments.of("split-system-tier-test-1-input.cml", new SplitSystemIntoSubsystems("TestBackend", "TestBackendLogic", "TestBackendDatabase")));
+	}
+
+	private List<String> getElementNames(ContextMappingModel model) {
+		Stream<String> boundedContexts = EcoreUtil2.eAllOfType(model, BoundedContext.class).stream().map(bc -> "BoundedContext " + bc.getName());
+		Stream<String> aggregates = EcoreUtil2.eAllOfType(model, Aggregate.class).stream().map(agg -> "Aggregate " + agg.getName());
+		Stream<String> domainObjects = EcoreUtil2.eAllOfType(model, SimpleDomainObject.class).stream().map(obj -> "DomainObject " + obj.getName());
+		Stream<String> domains = EcoreUtil2.eAllOfType(model, Domain.class).stream().map(domain -> "Domain " + domain.getName());
+		Stream<String> subdomains = EcoreUtil2.eAllOfType(model, Subdomain.class).stream().map(subdomain -> "Subdomain " + subdomain.getName());
+		Stream<String> relationships = EcoreUtil2.eAllOfType(model, Relationship.class).stream().map(relationship -> "Relationship " + relationship.eClass().getName());
+		return Stream.of(boundedContexts, aggregates, domainObjects, domains, subdomains, relationships).flatMap(names -> names).sorted().collect(Collectors.toList());
+	}
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.refactoring.exception.RefactoringInputException;
+import org.junit.jupiter.api.Test;
+
+public class RefactoringTransactionTest extends AbstractRefactoringTest {
+
+	@Test
+	void canApplyMultipleRefactoringsAndPersistThemOnce() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("merge-bounded-contexts-test-1-input.cml");
+		RefactoringTransaction transaction = new RefactoringTransaction(input);
+
+		// when
+		transaction.apply(new MergeAggregatesRefactoring("Customers", "Addresses"));
+		transaction.apply(new MergeBoundedContextsRefactoring("CustomerManagement", "AnotherContext"));
+		transaction.commit(serializer);
+
+		// then
+		ContextMappingModel model = reloadResource(input).getContextMappingModel();
+		assertEquals(1, model.getBoundedContexts().size());
+		BoundedContext bc = model.getBoundedContexts().get(0);
+		assertEquals("CustomerManagement", bc.getName());
+		List<String> aggregateNames = bc.getAggregates().stream().map(a -> a.getName()).collect(Collectors.toList());
+		assertEquals(2, aggregateNames.size());
+		assertTrue(aggregateNames.contains("Customers"));
+		assertTrue(aggregateNames.contains("AnotherAggregate"));
+		assertFalse(input.isModified());
+	}
+
+	@Test
+	void doesNotPersistChangesBeforeCommit() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("merge-bounded-contexts-test-1-input.cml");
+		RefactoringTransaction transaction = new RefactoringTransaction(input);
+
+		// when
+		transaction.apply(new MergeAggregatesRefactoring("Customers", "Addresses"));
+
+		// then
+		assertEquals(1, input.getContextMappingModel().getBoundedContexts().get(0).getAggregates().size());
+		assertEquals(2, reloadResource(input).getContextMappingModel().getBoundedContexts().get(0).getAggregates().size());
+	}
+
+	@Test
+	void canRollBackIfRefactoringFails() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("merge-bounded-contexts-test-1-input.cml");
+		RefactoringTransaction transaction = new RefactoringTransaction(input);
+		transaction.apply(new MergeAggregatesRefactoring("Customers", "Addresses"));
+
+		// when
+		assertThrows(RefactoringInputException.class, () -> {
+			transaction.apply(new AbstractRefactoring() {
+				@Override
+				protected void doRefactor() {
+					model.getBoundedContexts().get(0).setName("RenamedContext");
+					throw new RefactoringInputException("Refactoring failed after changing the model.");
+				}
+			});
+		});
+
+		// then
+		ContextMappingModel model = input.getContextMappingModel();
+		assertEquals("CustomerManagement", model.getBoundedContexts().get(0).getName());
+		assertEquals(2, model.getBoundedContexts().get(0).getAggregates().size());
+		assertFalse(input.isModified());
+	}
+
+	@Test
+	void canRollBackManually() throws IOException {
+		// given
+		CMLResource input = getResourceCopyOfTestCML("merge-bounded-contexts-test-1-input.cml");
+		RefactoringTransaction transaction = new RefactoringTransaction(input);
+		transaction.apply(new MergeBoundedContextsRefactoring("CustomerManagement", "AnotherContext"));
+
+		// when
+		transaction.rollback();
+
+		// then
+		assertEquals(2, input.getContextMappingModel().getBoundedContexts().size());
+		assertThrows(IllegalStateException.class, () -> {
+			transaction.commit(serializer);
+		});
+	}
+
+}
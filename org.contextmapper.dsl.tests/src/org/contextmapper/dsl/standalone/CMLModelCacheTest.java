@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.standalone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.FileUtils;
+import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
+import org.contextmapper.dsl.cml.CMLImportResolver;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+public class CMLModelCacheTest {
+
+	@BeforeAll
+	public static void registerDSL() {
+		new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration();
+	}
+
+	@Test
+	public void canServeRepeatedLoadsFromCache() {
+		// given
+		CMLModelCache cache = new CMLModelCache();
+		File file = new File("./integ-test-files/standalone/hello-world.cml");
+
+		// when
+		Resource resource1 = cache.getResource(file);
+		Resource resource2 = cache.getResource(file);
+
+		// then
+		assertSame(resource1, resource2);
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void canParseSharedImportOnlyOnce() {
+		// given
+		CMLModelCache cache = new CMLModelCache();
+		CMLImportResolver importResolver = new CMLImportResolver();
+
+		// when
+		CMLResource resource1 = new CMLResource(cache.getResource(new File("./integ-test-files/imports/simple-import-test.cml")));
+		CMLResource import1 = importResolver.resolveImportedResources(resource1).iterator().next();
+		CMLResource resource2 = new CMLResource(cache.getResource(new File("./integ-test-files/imports/uniqueness-validation-test.cml")));
+		CMLResource import2 = importResolver.resolveImportedResources(resource2).iterator().next();
+
+		// then
+		assertSame(import1.getContextMappingModel(), import2.getContextMappingModel());
+		assertEquals(3, cache.getMissCount());
+		assertEquals(1, cache.getHitCount());
+	}
+
+	@Test
+	public void canReloadChangedFile() throws IOException {
+		// given
+		CMLModelCache cache = new CMLModelCache();
+		File file = new File("./out/model-cache-test.cml");
+		FileUtils.writeStringToFile(file, "BoundedContext ContextA", StandardCharsets.UTF_8);
+		Resource resource1 = cache.getResource(file);
+		ContextMappingModel model1 = (ContextMappingModel) resource1.getContents().get(0);
+
+		// when
+		FileUtils.writeStringToFile(file, "BoundedContext ContextA BoundedContext ContextB", StandardCharsets.UTF_8);
+		Resource resource2 = cache.getResource(file);
+		ContextMappingModel model2 = (ContextMappingModel) resource2.getContents().get(0);
+
+		// then
+		assertNotSame(model1, model2);
+		assertEquals(2, model2.getBoundedContexts().size());
+		assertEquals(2, cache.getMissCount());
+		assertEquals(0, cache.getHitCount());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void canClearCache() {
+		// given
+		CMLModelCache cache = new CMLModelCache();
+		Resource resource = cache.getResource(new File("./integ-test-files/standalone/hello-world.cml"));
+
+		// when
+		cache.clear();
+
+		// then
+		assertFalse(resource.isLoaded());
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getMissCount());
+		assertEquals(0, cache.getResourceSet().getResources().size());
+	}
+
+	@Test
+	public void canLoadCMLThroughModelCache() {
+		// given
+		StandaloneContextMapperAPI contextMapper = ContextMapperStandaloneSetup.getStandaloneAPIWithModelCache();
+
+		// when
+		CMLResource cml1 = contextMapper.loadCML("./integ-test-files/standalone/hello-world.cml");
+		CMLResource cml2 = contextMapper.loadCML(new File("./integ-test-files/standalone/hello-world.cml"));
+
+		// then
+		assertSame(cml1.getContextMappingModel(), cml2.getContextMappingModel());
+		assertEquals("HelloWorldContext", cml1.getContextMappingModel().getBoundedContexts().get(0).getName());
+	}
+
+	@Test
+	public void canLoadFileURIThroughModelCache() {
+		// given
+		StandaloneContextMapperAPI contextMapper = ContextMapperStandaloneSetup.getStandaloneAPIWithModelCache();
+		File file = new File("./integ-test-files/standalone/hello-world.cml");
+
+		// when
+		CMLResource cml1 = contextMapper.loadCML(file.getPath());
+		CMLResource cml2 = contextMapper.loadCML(URI.createFileURI(file.getAbsolutePath()).toString());
+
+		// then
+		assertSame(cml1.getContextMappingModel(), cml2.getContextMappingModel());
+	}
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.standalone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.FileUtils;
+import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.eclipse.emf.common.util.URI;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CMLSnapshotCacheTest {
+
+	private static final File MODEL_DIR = new File("./out/snapshot-cache-test/models");
+	private static final File CACHE_DIR = new File("./out/snapshot-cache-test/cache");
+
+	@BeforeAll
+	public static void registerDSL() {
+		new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration();
+	}
+
+	@BeforeEach
+	public void prepareModels() throws IOException {
+		FileUtils.deleteDirectory(MODEL_DIR.getParentFile());
+		FileUtils.writeStringToFile(new File(MODEL_DIR, "root.cml"),
+				"import \"./imported.cml\"\n" + "ContextMap {\n" + "  contains ContextA, ImportedContext\n" + "  ContextA -> ImportedContext\n" + "}\n" + "BoundedContext ContextA\n",
+				StandardCharsets.UTF_8);
+		FileUtils.writeStringToFile(new File(MODEL_DIR, "imported.cml"), "BoundedContext ImportedContext", StandardCharsets.UTF_8);
+	}
+
+	@Test
+	public void canLoadModelFromSnapshot() {
+		// given
+		new CMLSnapshotCache(CACHE_DIR).getResource(new File(MODEL_DIR, "root.cml"));
+		CMLSnapshotCache cache = new CMLSnapshotCache(CACHE_DIR);
+
+		// when
+		ContextMappingModel model = new CMLResource(cache.getResource(new File(MODEL_DIR, "root.cml"))).getContextMappingModel();
+
+		// then
+		assertEquals(1, cache.getHitCount());
+		assertEquals(0, cache.getMissCount());
+		assertEquals("ContextA", model.getBoundedContexts().get(0).getName());
+		assertNotNull(model.getMap());
+	}
+
+	@Test
+	public void canLoadModelIfSnapshotCannotBeWritten() throws IOException {
+		// given
+		File blockingFile = new File(MODEL_DIR.getParentFile(), "not-a-directory");
+		FileUtils.writeStringToFile(blockingFile, "", StandardCharsets.UTF_8);
+		CMLSnapshotCache cache = new CMLSnapshotCache(new File(blockingFile, "cache"));
+
+		// when
+		ContextMappingModel model = new CMLResource(cache.getResource(new File(MODEL_DIR, "root.cml"))).getContextMappingModel();
+
+		// then
+		assertEquals("ContextA", model.getBoundedContexts().get(0).getName());
+		assertNotNull(model.getMap());
+		assertEquals(2, cache.getMissCount());
+		assertFalse(new File(blockingFile, "cache").exists());
+	}
+
+	@Test
+	public void canResolveImportedModelFromSnapshot() {
+		// given
+		new CMLSnapshotCache(CACHE_DIR).getResource(new File(MODEL_DIR, "root.cml"));
+		CMLSnapshotCache cache = new CMLSnapshotCache(CACHE_DIR);
+
+		// when
+		ContextMappingModel model = new CMLResource(cache.getResource(new File(MODEL_DIR, "root.cml"))).getContextMappingModel();
+		List<String> contextNames = model.getMap().getBoundedContexts().stream().map(BoundedContext::getName).collect(Collectors.toList());
+
+		// then
+		assertEquals(2, contextNames.size());
+		assertEquals("ImportedContext", contextNames.get(1));
+		assertEquals(2, cache.getHitCount());
+		assertEquals(0, cache.getMissCount());
+	}
+
+	@Test
+	public void canReparseModelIfImportChanged() throws IOException {
+		// given
+		new CMLSnapshotCache(CACHE_DIR).getResource(new File(MODEL_DIR, "root.cml"));
+		FileUtils.writeStringToFile(new File(MODEL_DIR, "imported.cml"), "BoundedContext ImportedContext BoundedContext AnotherContext", StandardCharsets.UTF_8);
+		CMLSnapshotCache cache = new CMLSnapshotCache(CACHE_DIR);
+
+		// when
+		ContextMappingModel model = new CMLResource(cache.getResource(new File(MODEL_DIR, "root.cml"))).getContextMappingModel();
+
+		// then
+		assertEquals("ContextA", model.getBoundedContexts().get(0).getName());
+		assertEquals(0, cache.getHitCount());
+		assertEquals(2, cache.getMissCount());
+	}
+
+	@Test
+	public void canLoadCMLThroughSnapshotCache() {
+		// given
+		ContextMapperStandaloneSetup.getStandaloneAPIWithSnapshotCache(CACHE_DIR).loadCML(new File(MODEL_DIR, "root.cml"));
+		StandaloneContextMapperAPI contextMapper = ContextMapperStandaloneSetup.getStandaloneAPIWithSnapshotCache(CACHE_DIR);
+
+		// when
+		CMLResource cml = contextMapper.loadCML(new File(MODEL_DIR, "root.cml").getPath());
+
+		// then
+		assertEquals("ContextA", cml.getContextMappingModel().getBoundedContexts().get(0).getName());
+		assertEquals("ImportedContext", cml.getContextMappingModel().getMap().getBoundedContexts().get(1).getName());
+	}
+
+	@Test
+	public void canLoadModelFromSnapshotByFileURI() {
+		// given
+		new CMLSnapshotCache(CACHE_DIR).getResource(new File(MODEL_DIR, "root.cml"));
+		CMLSnapshotCache cache = new CMLSnapshotCache(CACHE_DIR);
+
+		// when
+		ContextMappingModel model = new CMLResource(cache.getResource(URI.createFileURI(new File(MODEL_DIR, "root.cml").getAbsolutePath()))).getContextMappingModel();
+
+		// then
+		assertEquals(1, cache.getHitCount());
+		assertEquals(0, cache.getMissCount());
+		assertEquals("ContextA", model.getBoundedContexts().get(0).getName());
+	}
+
+}
@@ -17,13 +17,19 @@ package org.contextmapper.dsl.standalone;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.apache.commons.io.FileUtils;
+import org.contextmapper.dsl.cml.CMLImportResolver;
 import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
@@ -65,6 +71,52 @@ public class StandaloneAPITest {
 		assertEquals("HelloWorldContext", cml.getContextMappingModel().getBoundedContexts().get(0).getName());
 	}
 
+	@Test
+	public void canLoadMultipleCMLResources() {
+		// given
+		StandaloneContextMapperAPI contextMapper = ContextMapperStandaloneSetup.getStandaloneAPI();
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		// when
+		List<CMLResource> cmls;
+		try {
+			cmls = contextMapper.loadAll(Arrays.asList(new File("./integ-test-files/standalone/hello-world.cml"),
+					new File("./integ-test-files/standalone/simple-context-map.cml")), executor);
+		} finally {
+			executor.shutdown();
+		}
+
+		// then
+		assertEquals(2, cmls.size());
+		assertEquals("HelloWorldContext", cmls.get(0).getContextMappingModel().getBoundedContexts().get(0).getName());
+		assertTrue(cmls.get(1).getURI().toFileString().endsWith("simple-context-map.cml"));
+		assertNotNull(cmls.get(1).getContextMappingModel().getMap());
+	}
+
+	@Test
+	public void canLinkImportsBetweenBatchLoadedResources() {
+		// given
+		StandaloneContextMapperAPI contextMapper = ContextMapperStandaloneSetup.getStandaloneAPI();
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+
+		// when
+		List<CMLResource> cmls;
+		try {
+			cmls = contextMapper.loadAll(Arrays.asList(new File("./integ-test-files/imports/simple-import-test.cml"),
+					new File("./integ-test-files/imports/uniqueness-validation-test.cml"), new File("./integ-test-files/imports/other-contexts.cml")),
+					executor);
+		} finally {
+			executor.shutdown();
+		}
+
+		// then
+		CMLImportResolver importResolver = new CMLImportResolver();
+		CMLResource import1 = importResolver.resolveImportedResources(cmls.get(0)).iterator().next();
+		CMLResource import2 = importResolver.resolveImportedResources(cmls.get(1)).iterator().next();
+		assertSame(cmls.get(2).getContextMappingModel(), import1.getContextMappingModel());
+		assertSame(cmls.get(2).getContextMappingModel(), import2.getContextMappingModel());
+	}
+
 	@Test
 	public void canCreateNewCMLModel() throws IOException {
 		// given
@@ -1,9 +1,9 @@
 package org.contextmapper.dsl.ui.handler;
 
-import java.util.List;
 import java.util.Set;
 
 import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.cml.RootModelResolver;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.contextmapper.dsl.contextMappingDSL.Import;
 import org.contextmapper.dsl.exception.ContextMapperApplicationException;
@@ -32,9 +32,7 @@ import org.eclipse.xtext.serializer.ISerializer;
 import org.eclipse.xtext.ui.editor.XtextEditor;
 import org.eclipse.xtext.ui.editor.utils.EditorUtils;
 import org.eclipse.xtext.ui.resource.XtextLiveScopeResourceSetProvider;
-import org.eclipse.xtext.xbase.lib.IteratorExtensions;
 
-import com.google.common.collect.Iterators;
 import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 
@@ -94,13 +92,7 @@ public abstract class AbstractRefactoringHandler extends AbstractHandler impleme
 	protected ContextMappingModel getCurrentContextMappingModel() {
 		Resource resource = currentResource == null ? getCurrentResource() : currentResource;
 
-		List<ContextMappingModel> contextMappingModels = IteratorExtensions.<ContextMappingModel>toList(
-				Iterators.<ContextMappingModel>filter(resource.getAllContents(), ContextMappingModel.class));
-
-		if (contextMappingModels.size() > 0) {
-			return contextMappingModels.get(0);
-		}
-		return null;
+		return RootModelResolver.getRootModel(resource, ContextMappingModel.class);
 	}
 
 	protected ResourceSet getAllResources() {
@@ -120,11 +112,9 @@ public abstract class AbstractRefactoringHandler extends AbstractHandler impleme
 			ResourceSet rs = currentResource.getResourceSet();
 			URI importURI = URI.createURI(cmlImport.getImportURI());
 			Resource resource = rs.getResource(importURI.resolve(currentResource.getURI()), true);
-			if (resource != null) {
-				List<ContextMappingModel> contextMappingModels = IteratorExtensions.<ContextMappingModel>toList(
-						Iterators.<ContextMappingModel>filter(resource.getAllContents(), ContextMappingModel.class));
-				models.addAll(contextMappingModels);
-			}
+			ContextMappingModel model = RootModelResolver.getRootModel(resource, ContextMappingModel.class);
+			if (model != null)
+				models.add(model);
 		}
 		return models;
 	}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMap;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.resource.EObjectDescription;
+import org.eclipse.xtext.resource.IEObjectDescription;
+import org.eclipse.xtext.resource.impl.DefaultResourceDescriptionStrategy;
+import org.eclipse.xtext.util.IAcceptor;
+
+/**
+ * Exports the context map membership of Bounded Contexts and Context Maps as
+ * user data. With this information, the context maps of a project can be found
+ * in the index without resolving the exported objects (and loading their
+ * resources) first.
+ */
+public class ContextMapperResourceDescriptionStrategy extends DefaultResourceDescriptionStrategy {
+
+	/**
+	 * User data key containing the URI fragment of the context map of the model
+	 * that contains the exported object. The value is empty if the model does
+	 * not contain a context map.
+	 */
+	public static final String CONTEXT_MAP_FRAGMENT = "contextMapFragment";
+
+	@Override
+	public boolean createEObjectDescriptions(EObject eObject, IAcceptor<IEObjectDescription> acceptor) {
+		if (!(eObject instanceof BoundedContext || eObject instanceof ContextMap))
+			return super.createEObjectDescriptions(eObject, acceptor);
+
+		Map<String, String> userData = Collections.singletonMap(CONTEXT_MAP_FRAGMENT, getContextMapFragment(eObject));
+		return super.createEObjectDescriptions(eObject,
+				description -> acceptor.accept(EObjectDescription.create(description.getName(), description.getEObjectOrProxy(), userData)));
+	}
+
+	private String getContextMapFragment(EObject eObject) {
+		EObject rootContainer = EcoreUtil2.getRootContainer(eObject);
+		if (!(rootContainer instanceof ContextMappingModel) || eObject.eResource() == null)
+			return "";
+		ContextMap contextMap = ((ContextMappingModel) rootContainer).getMap();
+		if (contextMap == null)
+			return "";
+		return eObject.eResource().getURIFragment(contextMap);
+	}
+
+}
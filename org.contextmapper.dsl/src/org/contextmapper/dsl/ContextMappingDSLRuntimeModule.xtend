@@ -16,7 +16,10 @@
 package org.contextmapper.dsl
 
 import com.google.inject.Binder
+import org.contextmapper.dsl.validation.ParallelValidationDiagnostician
 import org.contextmapper.dsl.validation.ProjectAwareVisibleContextMapsProvider
+import org.eclipse.emf.ecore.util.Diagnostician
+import org.eclipse.xtext.resource.IDefaultResourceDescriptionStrategy
 import org.eclipse.xtext.serializer.tokens.ICrossReferenceSerializer
 import org.eclipse.xtext.util.formallang.PdaUtil
 
@@ -33,6 +36,14 @@ class ContextMappingDSLRuntimeModule extends AbstractContextMappingDSLRuntimeMod
 		return ContextMapperGlobalScopeProvider
 	}
 
+	def Class<? extends IDefaultResourceDescriptionStrategy> bindIDefaultResourceDescriptionStrategy() {
+		return ContextMapperResourceDescriptionStrategy
+	}
+
+	override Class<? extends Diagnostician> bindDiagnostician() {
+		return ParallelValidationDiagnostician
+	}
+
 	override configure(Binder binder) {
 		super.configure(binder)
 		binder.bind(ICrossReferenceSerializer).to(ContextMapperCrossReferenceSerializer);
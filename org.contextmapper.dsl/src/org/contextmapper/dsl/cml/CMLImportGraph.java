@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.contextMappingDSL.Import;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * Import graph of the CML resources within a resource set.
+ *
+ * The direct imports of a resource are resolved once and reused as long as the
+ * import statements of the resource do not change. The transitive import
+ * closures (and whether they contain cycles) are memoized per root resource.
+ * Adding or removing resources to/from the resource set invalidates the whole
+ * graph.
+ */
+public class CMLImportGraph extends AdapterImpl {
+
+	private final Map<Resource, ImportNode> nodes = new HashMap<>();
+	private final Map<Resource, ImportClosure> closures = new HashMap<>();
+	private boolean resolvingImports = false;
+
+	/**
+	 * Returns the import graph of the given resource set. Creates and registers
+	 * the graph if the resource set has none yet.
+	 */
+	public static synchronized CMLImportGraph get(ResourceSet resourceSet) {
+		CMLImportGraph graph = (CMLImportGraph) EcoreUtil.getExistingAdapter(resourceSet, CMLImportGraph.class);
+		if (graph == null) {
+			graph = new CMLImportGraph();
+			resourceSet.eAdapters().add(graph);
+		}
+		return graph;
+	}
+
+	/**
+	 * Returns the CML resources directly imported by the given resource.
+	 */
+	public synchronized Set<CMLResource> getDirectImports(Resource resource) {
+		return Collections.unmodifiableSet(getNode(unwrap(resource)).importedResources);
+	}
+
+	/**
+	 * Returns the CML resources imported by the given resource, directly or
+	 * indirectly. The given resource itself is not part of the result (even if
+	 * it is imported through a cycle).
+	 */
+	public synchronized Set<CMLResource> getTransitiveImports(Resource resource) {
+		return Collections.unmodifiableSet(getClosure(unwrap(resource)).importedResources);
+	}
+
+	/**
+	 * Checks whether the imports reachable from the given resource contain a
+	 * cycle.
+	 */
+	public synchronized boolean hasImportCycle(Resource resource) {
+		return getClosure(unwrap(resource)).cyclic;
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == CMLImportGraph.class;
+	}
+
+	@Override
+	public synchronized void notifyChanged(Notification notification) {
+		if (notification.getFeatureID(ResourceSet.class) != ResourceSet.RESOURCE_SET__RESOURCES || notification.isTouch())
+			return;
+		// imported resources loaded by the graph itself do not invalidate it
+		if (resolvingImports)
+			return;
+		nodes.clear();
+		closures.clear();
+	}
+
+	private ImportNode getNode(Resource resource) {
+		List<String> importURIs = getImportURIs(resource);
+		ImportNode node = nodes.get(resource);
+		if (node != null && node.importURIs.equals(importURIs))
+			return node;
+
+		// the imports of this resource changed; all memoized closures might be affected
+		closures.clear();
+		node = new ImportNode(importURIs, resolveImports(resource, importURIs));
+		nodes.put(resource, node);
+		return node;
+	}
+
+	private ImportClosure getClosure(Resource root) {
+		ImportClosure closure = closures.get(root);
+		if (closure != null && closure.isUpToDate())
+			return closure;
+
+		closure = new ImportClosure();
+		closure.collect(root, new HashSet<>());
+		closure.importedResources.removeIf(r -> unwrap(r) == root);
+		closures.put(root, closure);
+		return closure;
+	}
+
+	private Set<CMLResource> resolveImports(Resource resource, List<String> importURIs) {
+		Set<CMLResource> importedResources = new LinkedHashSet<>();
+		ResourceSet resourceSet = resource.getResourceSet();
+		resolvingImports = true;
+		try {
+			for (String importURI : importURIs) {
+				Resource importedResource = resourceSet.getResource(URI.createURI(importURI).resolve(resource.getURI()), true);
+				if (isResourceCMLModel(importedResource))
+					importedResources.add(new CMLResource(importedResource));
+			}
+		} finally {
+			resolvingImports = false;
+		}
+		return importedResources;
+	}
+
+	private List<String> getImportURIs(Resource resource) {
+		if (!isResourceCMLModel(resource))
+			return Collections.emptyList();
+		List<String> importURIs = new ArrayList<>();
+		for (Import cmlImport : ((ContextMappingModel) resource.getContents().get(0)).getImports())
+			importURIs.add(cmlImport.getImportURI());
+		return importURIs;
+	}
+
+	private boolean isResourceCMLModel(Resource resource) {
+		if (resource == null || resource.getContents().isEmpty())
+			return false;
+		return resource.getContents().get(0) instanceof ContextMappingModel;
+	}
+
+	private Resource unwrap(Resource resource) {
+		if (resource instanceof CMLResource)
+			return resource.getContents().get(0).eResource();
+		return resource;
+	}
+
+	private static class ImportNode {
+
+		private final List<String> importURIs;
+		private final Set<CMLResource> importedResources;
+
+		ImportNode(List<String> importURIs, Set<CMLResource> importedResources) {
+			this.importURIs = importURIs;
+			this.importedResources = importedResources;
+		}
+
+	}
+
+	private class ImportClosure {
+
+		private final Set<CMLResource> importedResources = new LinkedHashSet<>();
+		private final Map<Resource, ImportNode> visitedNodes = new HashMap<>();
+		private boolean cyclic = false;
+
+		/**
+		 * Depth-first traversal; a resource that is imported again while it is on
+		 * the current path closes a cycle.
+		 */
+		void collect(Resource resource, Set<Resource> path) {
+			if (!path.add(resource)) {
+				cyclic = true;
+				return;
+			}
+			if (!visitedNodes.containsKey(resource)) {
+				ImportNode node = getNode(resource);
+				visitedNodes.put(resource, node);
+				for (CMLResource importedResource : node.importedResources) {
+					importedResources.add(importedResource);
+					collect(unwrap(importedResource), path);
+				}
+			}
+			path.remove(resource);
+		}
+
+		boolean isUpToDate() {
+			for (Map.Entry<Resource, ImportNode> visitedNode : visitedNodes.entrySet()) {
+				if (nodes.get(visitedNode.getKey()) != visitedNode.getValue() || !visitedNode.getValue().importURIs.equals(getImportURIs(visitedNode.getKey())))
+					return false;
+			}
+			return true;
+		}
+
+	}
+
+}
@@ -17,12 +17,6 @@ package org.contextmapper.dsl.cml;
 
 import java.util.Set;
 
-import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
-import org.contextmapper.dsl.contextMappingDSL.Import;
-import org.eclipse.emf.common.util.URI;
-import org.eclipse.emf.ecore.resource.Resource;
-import org.eclipse.emf.ecore.resource.ResourceSet;
-
 import com.google.common.collect.Sets;
 
 /**
@@ -33,26 +27,13 @@ import com.google.common.collect.Sets;
  */
 public class CMLImportResolver {
 
+	/**
+	 * Resolves the resources directly imported by the given root resource. The
+	 * imports are resolved through the {@link CMLImportGraph} of the resource set
+	 * and are therefore only resolved once.
+	 */
 	public Set<CMLResource> resolveImportedResources(CMLResource rootResource) {
-		Set<CMLResource> importedResources = Sets.newHashSet();
-		Resource resource = rootResource;
-		ResourceSet rs = resource.getResourceSet();
-		ContextMappingModel cmlModel = (ContextMappingModel) resource.getContents().get(0);
-		for (Import cmlImport : cmlModel.getImports()) {
-			URI importURI = URI.createURI(cmlImport.getImportURI()).resolve(resource.getURI());
-			Resource importedResource = rs.getResource(importURI, true);
-			if (isResourceCMLModel(importedResource))
-				importedResources.add(new CMLResource(importedResource));
-		}
-		return importedResources;
-	}
-
-	private boolean isResourceCMLModel(Resource resource) {
-		if (resource.getContents().isEmpty())
-			return false;
-		if (!(resource.getContents().get(0) instanceof ContextMappingModel))
-			return false;
-		return true;
+		return Sets.newHashSet(CMLImportGraph.get(rootResource.getResourceSet()).getDirectImports(rootResource));
 	}
 
 }
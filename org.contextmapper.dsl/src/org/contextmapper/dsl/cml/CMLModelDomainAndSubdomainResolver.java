@@ -24,6 +24,7 @@ import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.contextmapper.dsl.contextMappingDSL.Domain;
 import org.contextmapper.dsl.contextMappingDSL.Subdomain;
+import org.eclipse.emf.ecore.resource.Resource;
 
 public class CMLModelDomainAndSubdomainResolver {
 
@@ -83,8 +84,8 @@ public class CMLModelDomainAndSubdomainResolver {
 	private void initAllDeclaredSubdomainsIncludingImportedOnes() {
 		addDeclaredSubdomains(this.model);
 		if (this.model.eResource() != null) {
-			for (CMLResource cmlResource : new CMLImportResolver()
-					.resolveImportedResources(new CMLResource(this.model.eResource()))) {
+			Resource resource = this.model.eResource();
+			for (CMLResource cmlResource : CMLImportGraph.get(resource.getResourceSet()).getDirectImports(resource)) {
 				addDeclaredSubdomains(cmlResource.getContextMappingModel());
 			}
 		}
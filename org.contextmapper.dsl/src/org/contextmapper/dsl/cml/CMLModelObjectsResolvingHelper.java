@@ -41,6 +41,7 @@ import org.contextmapper.tactic.dsl.tacticdsl.Service;
 import org.contextmapper.tactic.dsl.tacticdsl.ServiceOperation;
 import org.contextmapper.tactic.dsl.tacticdsl.SimpleDomainObject;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.xbase.lib.IteratorExtensions;
 
@@ -56,8 +57,8 @@ public class CMLModelObjectsResolvingHelper {
 	}
 
 	private Set<ContextMappingModel> resolveImportedModels() {
-		Set<CMLResource> importedResources = new CMLImportResolver()
-				.resolveImportedResources(new CMLResource(rootModel.eResource()));
+		Resource rootResource = rootModel.eResource();
+		Set<CMLResource> importedResources = CMLImportGraph.get(rootResource.getResourceSet()).getDirectImports(rootResource);
 		return importedResources.stream().map(r -> r.getContextMappingModel()).collect(Collectors.toSet());
 	}
 
@@ -70,6 +71,19 @@ public class CMLModelObjectsResolvingHelper {
 		return resultSet;
 	}
 
+	/**
+	 * Counts the objects of the given type with the given name in the root model
+	 * and its imported models. Uses the {@link CMLNameIndex} of the resource set,
+	 * so that the models do not have to be traversed.
+	 */
+	public int countObjectsOfTypeWithName(Class<? extends EObject> type, String name) {
+		Resource rootResource = rootModel.eResource();
+		CMLNameIndex nameIndex = CMLNameIndex.get(rootResource.getResourceSet());
+		Set<Resource> resources = Sets.newHashSet(rootResource);
+		resolveImportedModels().forEach(m -> resources.add(m.eResource()));
+		return resources.stream().mapToInt(r -> nameIndex.countElements(r, type, name)).sum();
+	}
+
 	public BoundedContext resolveBoundedContext(Aggregate aggregate) {
 		if (aggregate.eContainer() != null && aggregate.eContainer() instanceof SculptorModule)
 			return resolveBoundedContext((SculptorModule) aggregate.eContainer());
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * Index of all named model elements (type -> name -> elements) within the
+ * resources of a resource set.
+ *
+ * The index of a resource is built lazily with the first query and then kept
+ * up to date incrementally through an EMF content adapter. This allows
+ * validators to check the uniqueness of names with a hash lookup instead of
+ * walking the whole model for every element.
+ */
+public class CMLNameIndex extends AdapterImpl {
+
+	private static final Map<EClass, Optional<EAttribute>> NAME_ATTRIBUTES = new ConcurrentHashMap<>();
+
+	private final Map<Resource, ResourceNameIndex> resourceIndices = new HashMap<>();
+
+	/**
+	 * Returns the index of the given resource set. Creates and registers the index
+	 * if the resource set has none yet.
+	 */
+	public static synchronized CMLNameIndex get(ResourceSet resourceSet) {
+		CMLNameIndex index = (CMLNameIndex) EcoreUtil.getExistingAdapter(resourceSet, CMLNameIndex.class);
+		if (index == null) {
+			index = new CMLNameIndex();
+			resourceSet.eAdapters().add(index);
+		}
+		return index;
+	}
+
+	/**
+	 * Counts the elements of the given type (including subtypes) with the given
+	 * name within the resource of the given context object.
+	 * 
+	 * Resources without a resource set get an index of their own; models that are
+	 * not contained in a resource at all are scanned directly.
+	 */
+	public static int countElementsInResourceOf(EObject context, Class<? extends EObject> type, String name) {
+		if (name == null)
+			return 0;
+		Resource resource = context.eResource();
+		if (resource == null)
+			return countElementsInTree(EcoreUtil.getRootContainer(context), type, name);
+		if (resource.getResourceSet() == null)
+			return ResourceNameIndex.get(resource).countElements(type, name);
+		return get(resource.getResourceSet()).countElements(resource, type, name);
+	}
+
+	/**
+	 * Builds the index of the given resource now instead of with the first
+	 * query; for example before the resource is queried concurrently.
+	 */
+	public static void buildIndexOf(Resource resource) {
+		if (resource.getResourceSet() == null)
+			ResourceNameIndex.get(resource).build();
+		else
+			get(resource.getResourceSet()).getResourceIndex(resource).build();
+	}
+
+	/**
+	 * Counts the elements of the given type (including subtypes) with the given
+	 * name within the given resource.
+	 */
+	public int countElements(Resource resource, Class<? extends EObject> type, String name) {
+		if (name == null)
+			return 0;
+		return getResourceIndex(resource).countElements(type, name);
+	}
+
+	/**
+	 * Finds all elements of the given type (including subtypes) with the given
+	 * name within the given resource.
+	 */
+	public <T extends EObject> List<T> findElements(Resource resource, Class<T> type, String name) {
+		if (name == null)
+			return Collections.emptyList();
+		return getResourceIndex(resource).findElements(type, name);
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == CMLNameIndex.class;
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		if (notification.getFeatureID(ResourceSet.class) != ResourceSet.RESOURCE_SET__RESOURCES)
+			return;
+
+		if (notification.getEventType() == Notification.REMOVE) {
+			removeResourceIndex((Resource) notification.getOldValue());
+		} else if (notification.getEventType() == Notification.REMOVE_MANY) {
+			for (Object resource : (Collection<?>) notification.getOldValue())
+				removeResourceIndex((Resource) resource);
+		}
+	}
+
+	private synchronized ResourceNameIndex getResourceIndex(Resource resource) {
+		return resourceIndices.computeIfAbsent(resource, ResourceNameIndex::get);
+	}
+
+	private synchronized void removeResourceIndex(Resource resource) {
+		ResourceNameIndex index = resourceIndices.remove(resource);
+		if (index != null)
+			resource.eAdapters().remove(index);
+	}
+
+	private static int countElementsInTree(EObject root, Class<? extends EObject> type, String name) {
+		int count = 0;
+		if (type.isInstance(root) && name.equals(getName(root)))
+			count++;
+		TreeIterator<EObject> iterator = root.eAllContents();
+		while (iterator.hasNext()) {
+			EObject eObject = iterator.next();
+			if (type.isInstance(eObject) && name.equals(getName(eObject)))
+				count++;
+		}
+		return count;
+	}
+
+	private static String getName(EObject eObject) {
+		Optional<EAttribute> nameAttribute = getNameAttribute(eObject.eClass());
+		return nameAttribute.isPresent() ? (String) eObject.eGet(nameAttribute.get()) : null;
+	}
+
+	private static Optional<EAttribute> getNameAttribute(EClass eClass) {
+		return NAME_ATTRIBUTES.computeIfAbsent(eClass, c -> {
+			EStructuralFeature feature = c.getEStructuralFeature("name");
+			if (feature instanceof EAttribute && String.class.equals(feature.getEType().getInstanceClass()) && !feature.isMany())
+				return Optional.of((EAttribute) feature);
+			return Optional.empty();
+		});
+	}
+
+	/**
+	 * Name index of a single resource. Attached to the resource and all its
+	 * contents, so that added, removed and renamed elements are re-indexed
+	 * immediately.
+	 */
+	private static class ResourceNameIndex extends EContentAdapter {
+
+		private final Resource resource;
+		private final Map<EClass, Map<String, List<EObject>>> elements = new HashMap<>();
+		private boolean built = false;
+
+		private ResourceNameIndex(Resource resource) {
+			this.resource = resource;
+		}
+
+		/**
+		 * Returns the name index attached to the given resource. Creates and
+		 * attaches the index if the resource has none yet.
+		 */
+		static synchronized ResourceNameIndex get(Resource resource) {
+			ResourceNameIndex index = (ResourceNameIndex) EcoreUtil.getExistingAdapter(resource, ResourceNameIndex.class);
+			if (index == null) {
+				index = new ResourceNameIndex(resource);
+				resource.eAdapters().add(index);
+			}
+			return index;
+		}
+
+		@Override
+		public boolean isAdapterForType(Object type) {
+			return type == ResourceNameIndex.class;
+		}
+
+		synchronized void build() {
+			ensureBuilt();
+		}
+
+		synchronized int countElements(Class<? extends EObject> type, String name) {
+			ensureBuilt();
+			int count = 0;
+			for (Map.Entry<EClass, Map<String, List<EObject>>> entry : elements.entrySet()) {
+				if (!type.isAssignableFrom(entry.getKey().getInstanceClass()))
+					continue;
+				List<EObject> namedElements = entry.getValue().get(name);
+				if (namedElements != null)
+					count += namedElements.size();
+			}
+			return count;
+		}
+
+		synchronized <T extends EObject> List<T> findElements(Class<T> type, String name) {
+			ensureBuilt();
+			List<T> result = new ArrayList<>();
+			for (Map.Entry<EClass, Map<String, List<EObject>>> entry : elements.entrySet()) {
+				if (!type.isAssignableFrom(entry.getKey().getInstanceClass()))
+					continue;
+				List<EObject> namedElements = entry.getValue().get(name);
+				if (namedElements != null)
+					namedElements.forEach(e -> result.add(type.cast(e)));
+			}
+			return result;
+		}
+
+		@Override
+		public synchronized void notifyChanged(Notification notification) {
+			super.notifyChanged(notification);
+			if (!built || notification.isTouch())
+				return;
+
+			Object notifier = notification.getNotifier();
+			if (notifier instanceof Resource) {
+				int featureID = notification.getFeatureID(Resource.class);
+				if (featureID == Resource.RESOURCE__CONTENTS)
+					updateContainment(notification);
+				else if (featureID == Resource.RESOURCE__IS_LOADED)
+					invalidate();
+			} else if (notifier instanceof EObject) {
+				Object feature = notification.getFeature();
+				if (feature instanceof EReference && ((EReference) feature).isContainment())
+					updateContainment(notification);
+				else if (feature instanceof EAttribute && getNameAttribute(((EObject) notifier).eClass()).orElse(null) == feature)
+					rename((EObject) notifier, notification.getOldStringValue(), notification.getNewStringValue());
+			}
+		}
+
+		private void ensureBuilt() {
+			if (built)
+				return;
+			elements.clear();
+			TreeIterator<EObject> iterator = resource.getAllContents();
+			while (iterator.hasNext())
+				add(iterator.next());
+			built = true;
+		}
+
+		private void invalidate() {
+			elements.clear();
+			built = false;
+		}
+
+		private void updateContainment(Notification notification) {
+			switch (notification.getEventType()) {
+			case Notification.ADD:
+				addTree(notification.getNewValue());
+				break;
+			case Notification.ADD_MANY:
+				((Collection<?>) notification.getNewValue()).forEach(this::addTree);
+				break;
+			case Notification.REMOVE:
+				removeTree(notification.getOldValue());
+				break;
+			case Notification.REMOVE_MANY:
+				((Collection<?>) notification.getOldValue()).forEach(this::removeTree);
+				break;
+			case Notification.SET:
+			case Notification.UNSET:
+				removeTree(notification.getOldValue());
+				addTree(notification.getNewValue());
+				break;
+			default:
+				break;
+			}
+		}
+
+		private void addTree(Object value) {
+			if (!(value instanceof EObject))
+				return;
+			EObject root = (EObject) value;
+			add(root);
+			TreeIterator<EObject> iterator = root.eAllContents();
+			while (iterator.hasNext())
+				add(iterator.next());
+		}
+
+		private void removeTree(Object value) {
+			if (!(value instanceof EObject))
+				return;
+			EObject root = (EObject) value;
+			remove(root);
+			TreeIterator<EObject> iterator = root.eAllContents();
+			while (iterator.hasNext())
+				remove(iterator.next());
+		}
+
+		private void add(EObject eObject) {
+			add(eObject, getName(eObject));
+		}
+
+		private void add(EObject eObject, String name) {
+			if (name != null)
+				elements.computeIfAbsent(eObject.eClass(), c -> new HashMap<>()).computeIfAbsent(name, n -> new ArrayList<>(1)).add(eObject);
+		}
+
+		private void remove(EObject eObject) {
+			remove(eObject, getName(eObject));
+		}
+
+		private void remove(EObject eObject, String name) {
+			if (name == null)
+				return;
+			Map<String, List<EObject>> elementsByName = elements.get(eObject.eClass());
+			if (elementsByName == null)
+				return;
+			List<EObject> namedElements = elementsByName.get(name);
+			if (namedElements == null)
+				return;
+			namedElements.remove(eObject);
+			if (namedElements.isEmpty())
+				elementsByName.remove(name);
+		}
+
+		private void rename(EObject eObject, String oldName, String newName) {
+			remove(eObject, oldName);
+			add(eObject, newName);
+		}
+
+	}
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.contextmapper.dsl.contextMappingDSL.Aggregate;
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMap;
+import org.contextmapper.dsl.contextMappingDSL.Relationship;
+import org.contextmapper.dsl.contextMappingDSL.SymmetricRelationship;
+import org.contextmapper.dsl.contextMappingDSL.UpstreamDownstreamRelationship;
+import org.contextmapper.tactic.dsl.tacticdsl.SimpleDomainObject;
+import org.eclipse.xtext.EcoreUtil2;
+
+/**
+ * Precomputed reachability of domain objects: maps every Bounded Context to the
+ * names of the domain objects it can see. These are the objects of its own
+ * aggregates and the objects of all aggregates exposed to it through the
+ * relationships of the given context maps (same semantics as
+ * {@link CMLModelObjectsResolvingHelper#resolveAllAccessibleAggregates(BoundedContext, Collection)}).
+ *
+ * The relationships are evaluated once when the index is created; the visible
+ * names of a Bounded Context are computed with the first query.
+ */
+public class CMLReachabilityIndex {
+
+	private final Set<ContextMap> contextMaps;
+	private final Map<String, Set<String>> exposedDomainObjectNames = new HashMap<>();
+	private final Map<BoundedContext, Set<String>> visibleDomainObjectNames = new HashMap<>();
+
+	public CMLReachabilityIndex(Collection<ContextMap> contextMaps) {
+		this.contextMaps = Collections.unmodifiableSet(new HashSet<>(contextMaps));
+		for (ContextMap contextMap : contextMaps) {
+			for (Relationship relationship : contextMap.getRelationships())
+				indexRelationship(relationship);
+		}
+	}
+
+	/**
+	 * Returns true if this index has been built from the given context maps.
+	 */
+	public boolean isBuiltFrom(Collection<ContextMap> contextMaps) {
+		return this.contextMaps.size() == contextMaps.size() && this.contextMaps.containsAll(contextMaps);
+	}
+
+	public boolean isDomainObjectVisible(BoundedContext boundedContext, String domainObjectName) {
+		return getVisibleDomainObjectNames(boundedContext).contains(domainObjectName);
+	}
+
+	public synchronized Set<String> getVisibleDomainObjectNames(BoundedContext boundedContext) {
+		return visibleDomainObjectNames.computeIfAbsent(boundedContext, bc -> {
+			Set<String> names = new HashSet<>();
+			collectDomainObjectNames(bc, names);
+			names.addAll(exposedDomainObjectNames.getOrDefault(bc.getName(), Collections.emptySet()));
+			return Collections.unmodifiableSet(names);
+		});
+	}
+
+	private void indexRelationship(Relationship relationship) {
+		if (relationship instanceof SymmetricRelationship) {
+			SymmetricRelationship symRel = (SymmetricRelationship) relationship;
+			Set<String> names = new HashSet<>();
+			collectDomainObjectNames(symRel.getParticipant1(), names);
+			collectDomainObjectNames(symRel.getParticipant2(), names);
+			addExposedNames(symRel.getParticipant1(), names);
+			addExposedNames(symRel.getParticipant2(), names);
+		} else if (relationship instanceof UpstreamDownstreamRelationship) {
+			UpstreamDownstreamRelationship upDownRel = (UpstreamDownstreamRelationship) relationship;
+			Set<String> names = new HashSet<>();
+			List<Aggregate> exposedAggregates = upDownRel.getUpstreamExposedAggregates();
+			if (exposedAggregates != null && !exposedAggregates.isEmpty()) {
+				for (Aggregate aggregate : exposedAggregates)
+					collectDomainObjectNames(aggregate, names);
+			} else {
+				collectDomainObjectNames(upDownRel.getUpstream(), names);
+			}
+			addExposedNames(upDownRel.getDownstream(), names);
+		}
+	}
+
+	private void addExposedNames(BoundedContext downstreamContext, Set<String> names) {
+		if (downstreamContext == null || downstreamContext.getName() == null)
+			return;
+		exposedDomainObjectNames.computeIfAbsent(downstreamContext.getName(), n -> new HashSet<>()).addAll(names);
+	}
+
+	private void collectDomainObjectNames(BoundedContext boundedContext, Set<String> names) {
+		// only objects within aggregates are reachable (not the ones on module level)
+		if (boundedContext == null)
+			return;
+		for (Aggregate aggregate : EcoreUtil2.eAllOfType(boundedContext, Aggregate.class))
+			collectDomainObjectNames(aggregate, names);
+	}
+
+	private void collectDomainObjectNames(Aggregate aggregate, Set<String> names) {
+		if (aggregate == null)
+			return;
+		for (SimpleDomainObject domainObject : EcoreUtil2.eAllOfType(aggregate, SimpleDomainObject.class)) {
+			if (domainObject.getName() != null)
+				names.add(domainObject.getName());
+		}
+	}
+
+}
@@ -18,7 +18,6 @@ package org.contextmapper.dsl.cml;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.List;
 import java.util.Map;
 
 import org.contextmapper.dsl.cml.exception.ResourceIsNoCMLModelException;
@@ -33,9 +32,6 @@ import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.xtext.resource.XtextResource;
-import org.eclipse.xtext.xbase.lib.IteratorExtensions;
-
-import com.google.common.collect.Iterators;
 
 /**
  * Contains an Eclipse resource for which we can be sure that it contains a CML
@@ -58,9 +54,8 @@ public class CMLResource implements Resource {
 	}
 
 	public ContextMappingModel getContextMappingModel() {
-		List<ContextMappingModel> contextMappingModels = IteratorExtensions.<ContextMappingModel>toList(Iterators.<ContextMappingModel>filter(resource.getAllContents(), ContextMappingModel.class));
 		// CML resource only contains one ContextMappingModel
-		return contextMappingModels.get(0);
+		return RootModelResolver.getRootModel(resource, ContextMappingModel.class);
 	}
 
 	private void throwResourceIsNoCMLModelException(Resource resource) {
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.cml;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+
+/**
+ * Resolves the root model (ContextMappingModel, ServiceCutterUserRepresentationsModel,
+ * etc.) of a resource.
+ * 
+ * The root model of our DSLs is always a top-level element of the resource
+ * contents (usually the only one), so there is no need to iterate over the
+ * whole model tree to find it.
+ */
+public class RootModelResolver {
+
+	private RootModelResolver() {
+	}
+
+	/**
+	 * Returns the first top-level element of the given resource that is of the
+	 * given type, or null if there is no such element.
+	 */
+	public static <T extends EObject> T getRootModel(Resource resource, Class<T> type) {
+		if (resource == null)
+			return null;
+		for (EObject root : resource.getContents()) {
+			if (type.isInstance(root))
+				return type.cast(root);
+		}
+		return null;
+	}
+
+}
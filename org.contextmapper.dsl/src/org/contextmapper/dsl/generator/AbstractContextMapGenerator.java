@@ -15,8 +15,7 @@
  */
 package org.contextmapper.dsl.generator;
 
-import java.util.List;
-
+import org.contextmapper.dsl.cml.RootModelResolver;
 import org.contextmapper.dsl.contextMappingDSL.ContextMap;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.contextmapper.dsl.generator.exception.NoContextMapDefinedException;
@@ -27,9 +26,6 @@ import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.generator.AbstractGenerator;
 import org.eclipse.xtext.generator.IFileSystemAccess2;
 import org.eclipse.xtext.generator.IGeneratorContext;
-import org.eclipse.xtext.xbase.lib.IteratorExtensions;
-
-import com.google.common.collect.Iterators;
 
 public abstract class AbstractContextMapGenerator extends AbstractGenerator {
 
@@ -39,14 +35,12 @@ public abstract class AbstractContextMapGenerator extends AbstractGenerator {
 	@Override
 	public void doGenerate(Resource resource, IFileSystemAccess2 fsa, IGeneratorContext context) {
 		this.resourceSet = resource.getResourceSet();
-		List<ContextMappingModel> contextMappingModels = IteratorExtensions.<ContextMappingModel>toList(
-				Iterators.<ContextMappingModel>filter(resource.getAllContents(), ContextMappingModel.class));
+		// cml file can only contain one model
+		contextMappingModel = RootModelResolver.getRootModel(resource, ContextMappingModel.class);
 
-		if (contextMappingModels.isEmpty())
+		if (contextMappingModel == null)
 			throw new NoContextMapDefinedException();
 
-		// cml file can only contain one model
-		contextMappingModel = contextMappingModels.get(0);
 		EcoreUtil.resolveAll(contextMappingModel);
 
 		if (contextMappingModel.getMap() == null)
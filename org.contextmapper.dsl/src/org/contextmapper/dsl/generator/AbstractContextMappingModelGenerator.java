@@ -15,9 +15,19 @@
  */
 package org.contextmapper.dsl.generator;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
 
+import org.contextmapper.dsl.cml.RootModelResolver;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
 import org.contextmapper.dsl.generator.exception.NoContextMappingModelDefinedException;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
@@ -26,9 +36,8 @@ import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.generator.AbstractGenerator;
 import org.eclipse.xtext.generator.IFileSystemAccess2;
 import org.eclipse.xtext.generator.IGeneratorContext;
-import org.eclipse.xtext.xbase.lib.IteratorExtensions;
-
-import com.google.common.collect.Iterators;
+import org.eclipse.xtext.parser.IEncodingProvider;
+import org.eclipse.xtext.resource.XtextResource;
 
 public abstract class AbstractContextMappingModelGenerator extends AbstractGenerator {
 
@@ -36,22 +45,102 @@ public abstract class AbstractContextMappingModelGenerator extends AbstractGener
 	protected ResourceSet resourceSet;
 	protected IFileSystemAccess2 fsa;
 	protected IGeneratorContext context;
+	private boolean incrementalGeneration = false;
+	private boolean streamOutput = false;
+
+	/**
+	 * Only writes the generated files whose content changed since the last run
+	 * and deletes the files that are not generated anymore. The content hashes
+	 * of the generated files are kept in a manifest file (one per input file and
+	 * generator) in the output directory.
+	 */
+	public void setIncrementalGeneration(boolean incrementalGeneration) {
+		this.incrementalGeneration = incrementalGeneration;
+	}
+
+	/**
+	 * Streams the generated files into temporary files instead of creating their
+	 * content in memory first; the temporary files are then passed to the file
+	 * system access as binary content. This is only done if the generator writes
+	 * to the local file system (file URIs) and incremental generation is off;
+	 * otherwise the content is created in memory as usual.
+	 */
+	public void setStreamOutput(boolean streamOutput) {
+		this.streamOutput = streamOutput;
+	}
 
 	@Override
 	public void doGenerate(Resource resource, IFileSystemAccess2 fsa, IGeneratorContext context) {
 		this.resourceSet = resource.getResourceSet();
+		IncrementalFileSystemAccess incrementalFsa = null;
+		if (incrementalGeneration) {
+			incrementalFsa = new IncrementalFileSystemAccess(fsa, getManifestFileName(resource.getURI()));
+			fsa = incrementalFsa;
+		}
 		this.fsa = fsa;
 		this.context = context;
-		List<ContextMappingModel> contextMappingModels = IteratorExtensions.<ContextMappingModel>toList(Iterators.<ContextMappingModel>filter(resource.getAllContents(), ContextMappingModel.class));
+		// cml file can only contain one model
+		contextMappingModel = RootModelResolver.getRootModel(resource, ContextMappingModel.class);
 
-		if (contextMappingModels.isEmpty())
+		if (contextMappingModel == null)
 			throw new NoContextMappingModelDefinedException();
 
-		// cml file can only contain one model
-		contextMappingModel = contextMappingModels.get(0);
 		EcoreUtil.resolveAll(contextMappingModel);
 
 		this.generateFromContextMappingModel(contextMappingModel, fsa, resource.getURI());
+
+		if (incrementalFsa != null)
+			incrementalFsa.finish();
+	}
+
+	/**
+	 * Generates the given file; streams the content into the target file if
+	 * possible (see {@link #setStreamOutput(boolean)}).
+	 */
+	protected void generateFile(IFileSystemAccess2 fsa, String fileName, Consumer<Writer> content) {
+		// incremental generation needs the content to compare it with the manifest
+		URI targetURI = streamOutput && !(fsa instanceof IncrementalFileSystemAccess) ? fsa.getURI(fileName) : null;
+		if (targetURI == null || !targetURI.isFile()) {
+			StringWriter writer = new StringWriter();
+			content.accept(writer);
+			fsa.generateFile(fileName, writer.toString());
+			return;
+		}
+
+		// the file system access writes the file, so that its output configuration and callbacks apply
+		Path tempFile = null;
+		try {
+			tempFile = Files.createTempFile("cml-generator-", ".tmp");
+			try (Writer writer = Files.newBufferedWriter(tempFile, getOutputEncoding(targetURI))) {
+				content.accept(writer);
+			}
+			try (InputStream inputStream = Files.newInputStream(tempFile)) {
+				fsa.generateFile(fileName, inputStream);
+			}
+		} catch (IOException | UncheckedIOException e) {
+			throw new ContextMapperApplicationException("Could not write the file '" + targetURI.toFileString() + "'.", e);
+		} finally {
+			if (tempFile != null)
+				tempFile.toFile().delete();
+		}
+	}
+
+	/**
+	 * Returns the encoding of the given generated file; provided by the same
+	 * encoding provider the Xtext file system access uses for text files.
+	 */
+	protected Charset getOutputEncoding(URI targetURI) {
+		Resource inputResource = contextMappingModel.eResource();
+		if (inputResource instanceof XtextResource && ((XtextResource) inputResource).getResourceServiceProvider() != null) {
+			IEncodingProvider encodingProvider = ((XtextResource) inputResource).getResourceServiceProvider().get(IEncodingProvider.class);
+			if (encodingProvider != null && encodingProvider.getEncoding(targetURI) != null)
+				return Charset.forName(encodingProvider.getEncoding(targetURI));
+		}
+		return Charset.defaultCharset();
+	}
+
+	private String getManifestFileName(URI inputFileURI) {
+		return "." + inputFileURI.trimFileExtension().lastSegment() + "." + getClass().getSimpleName() + ".manifest";
 	}
 
 	protected abstract void generateFromContextMappingModel(ContextMappingModel model, IFileSystemAccess2 fsa, URI inputFileURI);
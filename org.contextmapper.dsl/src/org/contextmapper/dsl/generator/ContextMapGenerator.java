@@ -22,14 +22,24 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import org.contextmapper.contextmap.generator.model.ContextMap;
 import org.contextmapper.dsl.generator.contextmap.ContextMapFormat;
 import org.contextmapper.dsl.generator.contextmap.ContextMapModelConverter;
+import org.contextmapper.dsl.generator.contextmap.GraphvizRenderingService;
+import org.contextmapper.dsl.generator.contextmap.PositionedGraphRenderer;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.xtext.generator.IFileSystemAccess2;
 
@@ -46,6 +56,8 @@ public class ContextMapGenerator extends AbstractContextMapGenerator {
 	private boolean useWidth = true;
 	private boolean printAdditionalLabels = false;
 	private boolean clusterTeams = true;
+	private boolean layoutOnce = false;
+	private GraphvizRenderingService renderingService;
 
 	public ContextMapGenerator() {
 		this.formats = new HashSet<>();
@@ -66,18 +78,89 @@ public class ContextMapGenerator extends AbstractContextMapGenerator {
 			generator.setWidth(width);
 		else if (this.height > 0)
 			generator.setHeight(height);
-		for (ContextMapFormat format : formats) {
-			try (ByteArrayOutputStream outputstream = new ByteArrayOutputStream()) {
-				generator.generateContextMapGraphic(contextMap, getGraphvizLibFormat(format), outputstream);
-				try (InputStream inputstream = new ByteArrayInputStream(outputstream.toByteArray())) {
-					fsa.generateFile(fileName + "_ContextMap." + format.getFileExtension(), inputstream);
-				}
-			} catch (IOException e) {
-				throw new RuntimeException("An error occured while generating the Context Map!", e);
+		try {
+			if (layoutOnce && PositionedGraphRenderer.isAvailable()) {
+				generateFromSingleLayout(contextMap, generator, fsa, fileName);
+				return;
+			}
+			for (ContextMapFormat format : formats) {
+				GraphicBuffer graphic = new GraphicBuffer();
+				generateGraphic(generator, contextMap, getGraphvizLibFormat(format), graphic);
+				fsa.generateFile(getTargetFileName(fileName, format), graphic.toInputStream());
 			}
+		} catch (IOException e) {
+			throw new RuntimeException("An error occured while generating the Context Map!", e);
 		}
 	}
 
+	/**
+	 * Lays out the graph once (DOT output with positions) and renders the images
+	 * from this layout in parallel. All files are written through the file
+	 * system access.
+	 */
+	private void generateFromSingleLayout(ContextMap contextMap, org.contextmapper.contextmap.generator.ContextMapGenerator generator, IFileSystemAccess2 fsa,
+			String fileName) throws IOException {
+		GraphicBuffer layout = new GraphicBuffer();
+		generateGraphic(generator, contextMap, Format.DOT, layout);
+		String positionedGraph = layout.toString(StandardCharsets.UTF_8.name());
+
+		Map<ContextMapFormat, Future<byte[]>> renderings = new LinkedHashMap<>();
+		for (ContextMapFormat format : formats) {
+			if (format == DOT)
+				continue;
+			Callable<byte[]> rendering = createRenderJob(positionedGraph, format);
+			renderings.put(format, renderingService != null ? renderingService.submit(rendering) : ForkJoinPool.commonPool().submit(rendering));
+		}
+
+		if (formats.contains(DOT))
+			fsa.generateFile(getTargetFileName(fileName, DOT), layout.toInputStream());
+		for (Map.Entry<ContextMapFormat, Future<byte[]>> rendering : renderings.entrySet())
+			fsa.generateFile(getTargetFileName(fileName, rendering.getKey()), new ByteArrayInputStream(awaitRendering(rendering.getValue())));
+	}
+
+	private void generateGraphic(org.contextmapper.contextmap.generator.ContextMapGenerator generator, ContextMap contextMap, Format format, OutputStream output)
+			throws IOException {
+		if (renderingService == null) {
+			generator.generateContextMapGraphic(contextMap, format, output);
+			return;
+		}
+		renderingService.execute(() -> {
+			generator.generateContextMapGraphic(contextMap, format, output);
+			return null;
+		});
+	}
+
+	/**
+	 * Creates a job that renders the given format from the positioned graph,
+	 * without laying it out again.
+	 */
+	private Callable<byte[]> createRenderJob(String positionedGraph, ContextMapFormat format) {
+		int renderWidth = this.width > 0 && useWidth ? width : -1;
+		int renderHeight = renderWidth > 0 ? -1 : height;
+		if (renderingService != null)
+			return renderingService.createPositionedRenderJob(positionedGraph, getGraphvizLibFormat(format), renderWidth, renderHeight);
+		return () -> PositionedGraphRenderer.render(positionedGraph, getGraphvizLibFormat(format), renderWidth, renderHeight);
+	}
+
+	private byte[] awaitRendering(Future<byte[]> rendering) throws IOException {
+		if (renderingService != null)
+			return renderingService.getResult(rendering);
+		try {
+			return rendering.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while rendering the Context Map.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new IOException(e.getCause());
+		}
+	}
+
+	private String getTargetFileName(String fileName, ContextMapFormat format) {
+		return fileName + "_ContextMap." + format.getFileExtension();
+	}
+
 	/**
 	 * Changes the formats which will be generated when calling the generator.
 	 * 
@@ -152,6 +235,37 @@ public class ContextMapGenerator extends AbstractContextMapGenerator {
 		return clusterTeams;
 	}
 
+	/**
+	 * Defines whether the graph is laid out only once for all formats. In this
+	 * mode, the DOT output (which contains the positions of the layout) is
+	 * created first, and the PNG and SVG images are rendered from it in
+	 * parallel, without running the layout again ("neato -n2"): nodes, edges
+	 * and clusters are drawn exactly as in the DOT output. This requires a local
+	 * Graphviz installation; without it, every format is laid out separately.
+	 */
+	public void layoutOnce(boolean layoutOnce) {
+		this.layoutOnce = layoutOnce;
+	}
+
+	/**
+	 * Indicates whether the graph is laid out only once for all formats.
+	 * 
+	 * @return true, if the graph is laid out once, false otherwise
+	 */
+	public boolean layoutOnce() {
+		return layoutOnce;
+	}
+
+	/**
+	 * Runs all Graphviz jobs of this generator on the given rendering service
+	 * (bounded number of parallel jobs, timeouts, and render cache). Share one
+	 * service between the generators of a batch. Null (default) renders on the
+	 * calling thread (and on the common fork-join pool in the layout-once mode).
+	 */
+	public void setRenderingService(GraphvizRenderingService renderingService) {
+		this.renderingService = renderingService;
+	}
+
 	private Format getGraphvizLibFormat(ContextMapFormat format) {
 		if (format == SVG)
 			return Format.SVG;
@@ -172,4 +286,15 @@ public class ContextMapGenerator extends AbstractContextMapGenerator {
 		return false;
 	}
 
+	/**
+	 * Byte array output stream that can be read without copying its buffer.
+	 */
+	private static class GraphicBuffer extends ByteArrayOutputStream {
+
+		InputStream toInputStream() {
+			return new ByteArrayInputStream(buf, 0, count);
+		}
+
+	}
+
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generator;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import freemarker.cache.ClassTemplateLoader;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateExceptionHandler;
+
+/**
+ * Process-wide registry of the compiled Freemarker templates that are shipped
+ * with Context Mapper (located next to the classes using them).
+ *
+ * Templates are loaded directly from the classpath (no temporary files) and
+ * compiled only once. Freemarker configurations and templates are thread-safe,
+ * so the compiled templates can be shared by all text creators.
+ */
+public class FreemarkerTemplateRegistry {
+
+	private static final Map<Class<?>, Configuration> CONFIGURATIONS = new ConcurrentHashMap<>();
+	private static final Map<TemplateKey, Template> TEMPLATES = new ConcurrentHashMap<>();
+
+	private FreemarkerTemplateRegistry() {
+	}
+
+	/**
+	 * Returns the compiled template with the given name, located in the package of
+	 * the given class.
+	 * 
+	 * @throws IOException if the template cannot be found or cannot be parsed
+	 */
+	public static Template getTemplate(Class<?> templateClass, String templateName) throws IOException {
+		TemplateKey key = new TemplateKey(templateClass, templateName);
+		Template template = TEMPLATES.get(key);
+		if (template == null) {
+			// concurrent first requests may compile the template twice; both results are equivalent
+			template = getConfiguration(templateClass).getTemplate(templateName);
+			TEMPLATES.putIfAbsent(key, template);
+		}
+		return template;
+	}
+
+	private static Configuration getConfiguration(Class<?> templateClass) {
+		return CONFIGURATIONS.computeIfAbsent(templateClass, c -> {
+			Configuration configuration = new Configuration(Configuration.VERSION_2_3_22);
+			configuration.setTemplateLoader(new ClassTemplateLoader(c, ""));
+			configuration.setDefaultEncoding("UTF-8");
+			configuration.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
+			return configuration;
+		});
+	}
+
+	private static class TemplateKey {
+
+		private final Class<?> templateClass;
+		private final String templateName;
+
+		TemplateKey(Class<?> templateClass, String templateName) {
+			this.templateClass = templateClass;
+			this.templateName = templateName;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof TemplateKey))
+				return false;
+			TemplateKey other = (TemplateKey) obj;
+			return templateClass.equals(other.templateClass) && templateName.equals(other.templateName);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(templateClass, templateName);
+		}
+
+	}
+
+}
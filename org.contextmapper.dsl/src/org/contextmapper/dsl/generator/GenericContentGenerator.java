@@ -37,6 +37,7 @@ public class GenericContentGenerator extends AbstractContextMappingModelGenerato
 	private File freemarkerTemplateFile;
 	private String targetFileName;
 	private Map<String, Object> customDataMap = new HashMap<>();;
+	private boolean cacheTemplate = false;
 
 	public void setFreemarkerTemplateFile(File freemarkerTemplateFile) {
 		this.freemarkerTemplateFile = freemarkerTemplateFile;
@@ -50,6 +51,15 @@ public class GenericContentGenerator extends AbstractContextMappingModelGenerato
 		customDataMap.put(propertyName, object);
 	}
 
+	/**
+	 * Caches the compiled Freemarker template (as long as the template file is not
+	 * modified), so that subsequent generator runs with the same template do not
+	 * parse it again.
+	 */
+	public void setCacheTemplate(boolean cacheTemplate) {
+		this.cacheTemplate = cacheTemplate;
+	}
+
 	@Override
 	protected void generateFromContextMappingModel(ContextMappingModel model, IFileSystemAccess2 fsa, URI inputFileURI) {
 		if (freemarkerTemplateFile == null)
@@ -59,11 +69,11 @@ public class GenericContentGenerator extends AbstractContextMappingModelGenerato
 		if (targetFileName == null || "".equals(targetFileName))
 			throw new GeneratorInputException("Please provide a name for the file that shall be generated.");
 
-		FreemarkerTextGenerator generator = new FreemarkerTextGenerator(freemarkerTemplateFile);
+		FreemarkerTextGenerator generator = new FreemarkerTextGenerator(freemarkerTemplateFile, cacheTemplate);
 		for (Map.Entry<String, Object> customDataEntry : customDataMap.entrySet()) {
 			generator.registerCustomModelProperty(customDataEntry.getKey(), customDataEntry.getValue());
 		}
-		fsa.generateFile(targetFileName, generator.generate(model));
+		generateFile(fsa, targetFileName, writer -> generator.generate(model, writer));
 	}
 
 }
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generator;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.commons.io.IOUtils;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.xtext.generator.IFileSystemAccess2;
+import org.eclipse.xtext.util.RuntimeIOException;
+
+/**
+ * File system access that only writes files whose content changed since the
+ * last generator run.
+ *
+ * The content hashes (SHA-256) of all generated files (text and binary, in
+ * all output configurations) are kept in a manifest file next to the generated
+ * files of the default output configuration. A file is skipped if its new
+ * content has the same hash as recorded in the manifest and the file still
+ * exists. Files that are listed in the manifest but have not been generated
+ * again are deleted (orphans) when the run is finished.
+ */
+class IncrementalFileSystemAccess implements IFileSystemAccess2 {
+
+	private final IFileSystemAccess2 delegate;
+	private final String manifestFileName;
+	private final Map<String, Map<String, String>> previousHashes;
+	private final Map<String, Map<String, String>> hashes = new TreeMap<>();
+
+	IncrementalFileSystemAccess(IFileSystemAccess2 delegate, String manifestFileName) {
+		this.delegate = delegate;
+		this.manifestFileName = manifestFileName;
+		this.previousHashes = readManifest();
+	}
+
+	@Override
+	public void generateFile(String fileName, CharSequence contents) {
+		if (!isUnchanged(DEFAULT_OUTPUT, fileName, hash(contents.toString().getBytes(StandardCharsets.UTF_8))))
+			delegate.generateFile(fileName, contents);
+	}
+
+	@Override
+	public void generateFile(String fileName, String outputConfigurationName, CharSequence contents) {
+		if (!isUnchanged(outputConfigurationName, fileName, hash(contents.toString().getBytes(StandardCharsets.UTF_8))))
+			delegate.generateFile(fileName, outputConfigurationName, contents);
+	}
+
+	@Override
+	public void generateFile(String fileName, String outputCfgName, InputStream content) throws RuntimeIOException {
+		byte[] bytes = readContent(content);
+		if (!isUnchanged(outputCfgName, fileName, hash(bytes)))
+			delegate.generateFile(fileName, outputCfgName, new ByteArrayInputStream(bytes));
+	}
+
+	@Override
+	public void generateFile(String fileName, InputStream content) throws RuntimeIOException {
+		byte[] bytes = readContent(content);
+		if (!isUnchanged(DEFAULT_OUTPUT, fileName, hash(bytes)))
+			delegate.generateFile(fileName, new ByteArrayInputStream(bytes));
+	}
+
+	/**
+	 * Deletes the orphaned files of the previous run and updates the manifest.
+	 */
+	void finish() {
+		for (Map.Entry<String, Map<String, String>> previousOutput : previousHashes.entrySet()) {
+			Map<String, String> outputHashes = hashes.getOrDefault(previousOutput.getKey(), Collections.emptyMap());
+			for (String previousFile : previousOutput.getValue().keySet()) {
+				if (!outputHashes.containsKey(previousFile) && isFile(previousFile, previousOutput.getKey()))
+					deleteFile(previousFile, previousOutput.getKey());
+			}
+		}
+		if (!hashes.equals(previousHashes) || !delegate.isFile(manifestFileName))
+			delegate.generateFile(manifestFileName, createManifest());
+	}
+
+	/**
+	 * Records the hash of the given file and checks whether the file exists with
+	 * the same content already.
+	 */
+	private boolean isUnchanged(String outputConfigurationName, String fileName, String hash) {
+		hashes.computeIfAbsent(outputConfigurationName, outputConfiguration -> new TreeMap<>()).put(fileName, hash);
+		String previousHash = previousHashes.getOrDefault(outputConfigurationName, Collections.emptyMap()).get(fileName);
+		return hash.equals(previousHash) && isFile(fileName, outputConfigurationName);
+	}
+
+	@Override
+	public void deleteFile(String fileName) {
+		delegate.deleteFile(fileName);
+	}
+
+	@Override
+	public void deleteFile(String fileName, String outputConfigurationName) {
+		if (DEFAULT_OUTPUT.equals(outputConfigurationName))
+			delegate.deleteFile(fileName);
+		else
+			delegate.deleteFile(fileName, outputConfigurationName);
+	}
+
+	@Override
+	public URI getURI(String path, String outputConfiguration) {
+		return delegate.getURI(path, outputConfiguration);
+	}
+
+	@Override
+	public URI getURI(String path) {
+		return delegate.getURI(path);
+	}
+
+	@Override
+	public InputStream readBinaryFile(String fileName, String outputCfgName) throws RuntimeIOException {
+		return delegate.readBinaryFile(fileName, outputCfgName);
+	}
+
+	@Override
+	public InputStream readBinaryFile(String fileName) throws RuntimeIOException {
+		return delegate.readBinaryFile(fileName);
+	}
+
+	@Override
+	public CharSequence readTextFile(String fileName, String outputCfgName) throws RuntimeIOException {
+		return delegate.readTextFile(fileName, outputCfgName);
+	}
+
+	@Override
+	public CharSequence readTextFile(String fileName) throws RuntimeIOException {
+		return delegate.readTextFile(fileName);
+	}
+
+	@Override
+	public boolean isFile(String path, String outputConfigurationName) throws RuntimeIOException {
+		if (DEFAULT_OUTPUT.equals(outputConfigurationName))
+			return delegate.isFile(path);
+		return delegate.isFile(path, outputConfigurationName);
+	}
+
+	@Override
+	public boolean isFile(String path) throws RuntimeIOException {
+		return delegate.isFile(path);
+	}
+
+	/**
+	 * Reads the manifest; one line per file: hash, output configuration and file
+	 * name, separated by spaces.
+	 */
+	private Map<String, Map<String, String>> readManifest() {
+		Map<String, Map<String, String>> manifest = new TreeMap<>();
+		if (!delegate.isFile(manifestFileName))
+			return manifest;
+		for (String line : delegate.readTextFile(manifestFileName).toString().split("\\r?\\n")) {
+			int hashEnd = line.indexOf(' ');
+			int outputConfigurationEnd = hashEnd > 0 ? line.indexOf(' ', hashEnd + 1) : -1;
+			if (outputConfigurationEnd > hashEnd + 1)
+				manifest.computeIfAbsent(line.substring(hashEnd + 1, outputConfigurationEnd), outputConfiguration -> new TreeMap<>())
+						.put(line.substring(outputConfigurationEnd + 1), line.substring(0, hashEnd));
+		}
+		return manifest;
+	}
+
+	private String createManifest() {
+		StringBuilder manifest = new StringBuilder();
+		for (Map.Entry<String, Map<String, String>> outputHashes : hashes.entrySet()) {
+			for (Map.Entry<String, String> hash : outputHashes.getValue().entrySet())
+				manifest.append(hash.getValue()).append(' ').append(outputHashes.getKey()).append(' ').append(hash.getKey()).append("\n");
+		}
+		return manifest.toString();
+	}
+
+	private byte[] readContent(InputStream content) {
+		try (InputStream input = content) {
+			return IOUtils.toByteArray(input);
+		} catch (IOException e) {
+			throw new RuntimeIOException(e);
+		}
+	}
+
+	private String hash(byte[] content) {
+		try {
+			StringBuilder hash = new StringBuilder();
+			for (byte b : MessageDigest.getInstance("SHA-256").digest(content))
+				hash.append(String.format("%02x", b));
+			return hash.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new ContextMapperApplicationException("SHA-256 is not supported by this JVM.", e);
+		}
+	}
+
+}
@@ -15,6 +15,8 @@
  */
 package org.contextmapper.dsl.generator;
 
+import java.io.File;
+
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
 import org.contextmapper.dsl.generator.mdsl.MDSLAPIDescriptionCreator;
 import org.contextmapper.dsl.generator.mdsl.MDSLModelCreator;
@@ -28,9 +30,20 @@ public class MDSLContractsGenerator extends AbstractContextMappingModelGenerator
 
 	private static final String MDSL_FILE_EXT = "mdsl";
 
+	private boolean parallelGeneration = false;
+
+	/**
+	 * Creates the service specifications of the upstream APIs in parallel; see
+	 * {@link MDSLModelCreator#setParallelGeneration(boolean)}.
+	 */
+	public void setParallelGeneration(boolean parallelGeneration) {
+		this.parallelGeneration = parallelGeneration;
+	}
+
 	@Override
 	protected void generateFromContextMappingModel(ContextMappingModel model, IFileSystemAccess2 fsa, URI inputFileURI) {
 		MDSLModelCreator mdslModelCreator = new MDSLModelCreator(model);
+		mdslModelCreator.setParallelGeneration(parallelGeneration);
 		for (ServiceSpecification serviceSpecification : mdslModelCreator.createServiceSpecifications()) {
 			String mdslFileName = inputFileURI.trimFileExtension().lastSegment() + "_" + serviceSpecification.getName() + "." + MDSL_FILE_EXT;
 			ProtectedRegionContext protectedRegionContext = createProtectedRegionContext(mdslFileName, fsa);
@@ -41,10 +54,13 @@ public class MDSLContractsGenerator extends AbstractContextMappingModelGenerator
 
 	private ProtectedRegionContext createProtectedRegionContext(String mdslFileName, IFileSystemAccess2 fsa) {
 		ProtectedRegionContextFactory factory = new ProtectedRegionContextFactory();
-		if (fsa.isFile(mdslFileName)) {
-			return factory.createProtectedRegionContextForExistingMDSLFile(fsa.readTextFile(mdslFileName).toString());
-		} else {
+		if (!fsa.isFile(mdslFileName))
 			return factory.createProtectedRegionContextForNewMDSLFile();
-		}
+
+		// scan local files directly instead of reading them into memory first
+		URI mdslFileURI = fsa.getURI(mdslFileName);
+		if (mdslFileURI != null && mdslFileURI.isFile())
+			return factory.createProtectedRegionContextForExistingMDSLFile(new File(mdslFileURI.toFileString()), getOutputEncoding(mdslFileURI));
+		return factory.createProtectedRegionContextForExistingMDSLFile(fsa.readTextFile(mdslFileName).toString());
 	}
 }
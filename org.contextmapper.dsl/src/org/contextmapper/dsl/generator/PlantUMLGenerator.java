@@ -15,10 +15,17 @@
  */
 package org.contextmapper.dsl.generator;
 
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
 
+import org.contextmapper.dsl.cml.CMLImportGraph;
 import org.contextmapper.dsl.cml.CMLModelDomainAndSubdomainResolver;
+import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.Aggregate;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
@@ -33,6 +40,7 @@ import org.contextmapper.dsl.generator.exception.GeneratorInputException;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLAggregateClassDiagramCreator;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLBoundedContextClassDiagramCreator;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLComponentDiagramCreator;
+import org.contextmapper.dsl.generator.plantuml.PlantUMLDiagramCreator;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLModuleClassDiagramCreator;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLStakeholderMapGenerator;
 import org.contextmapper.dsl.generator.plantuml.PlantUMLStateDiagramCreator4Aggregate;
@@ -44,6 +52,8 @@ import org.contextmapper.dsl.generator.plantuml.PlantUMLValueImpactMapGenerator;
 import org.contextmapper.tactic.dsl.tacticdsl.ServiceOperation;
 import org.contextmapper.tactic.dsl.tacticdsl.StateTransition;
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.generator.IFileSystemAccess2;
 
@@ -54,120 +64,161 @@ public class PlantUMLGenerator extends AbstractContextMappingModelGenerator {
 	private static final String PLANT_UML_FILE_EXT = "puml";
 
 	private CMLModelDomainAndSubdomainResolver subdomainResolver;
+	private List<DiagramJob> diagramJobs;
+	private boolean parallelGeneration = false;
+
+	/**
+	 * Creates the diagrams in parallel (common fork-join pool). The diagram
+	 * creators only read the model; the files are still written one after
+	 * another and in the same order (and with the same content) as in the
+	 * sequential mode.
+	 */
+	public void setParallelGeneration(boolean parallelGeneration) {
+		this.parallelGeneration = parallelGeneration;
+	}
 
 	@Override
 	protected void generateFromContextMappingModel(ContextMappingModel model, IFileSystemAccess2 fsa,
 			URI inputFileURI) {
 		this.subdomainResolver = new CMLModelDomainAndSubdomainResolver(this.contextMappingModel);
+		this.diagramJobs = Lists.newArrayList();
 		checkPreconditions();
 		String fileName = inputFileURI.trimFileExtension().lastSegment();
 
-		generateComponentDiagramIfContextMapAvailable(model, fsa, fileName);
-		generateClassAndStateDiagramsForBoundedContexts(model, fsa, fileName);
-		generateClassDiagramsForSubdomains(fsa, fileName);
-		generateUseCaseDiagram(model, fsa, fileName);
-		generateSequenceDiagramsForUseCases(model, fsa, fileName);
-		generateStakeholderDiagrams(model, fsa, fileName);
-		generateValueImpactMapsForValueRegisters(model, fsa, fileName);
+		generateComponentDiagramIfContextMapAvailable(model, fileName);
+		generateClassAndStateDiagramsForBoundedContexts(model, fileName);
+		generateClassDiagramsForSubdomains(fileName);
+		generateUseCaseDiagram(model, fileName);
+		generateSequenceDiagramsForUseCases(model, fileName);
+		generateStakeholderDiagrams(model, fileName);
+		generateValueImpactMapsForValueRegisters(model, fileName);
+
+		if (parallelGeneration)
+			writeDiagramsCreatedInParallel(model, fsa);
+		else
+			writeDiagrams(fsa);
+	}
+
+	private void writeDiagrams(IFileSystemAccess2 fsa) {
+		for (DiagramJob job : diagramJobs)
+			generateFile(fsa, job.fileName, job.diagram);
 	}
 
-	private void generateStakeholderDiagrams(ContextMappingModel model, IFileSystemAccess2 fsa, String fileName) {
+	private void writeDiagramsCreatedInParallel(ContextMappingModel model, IFileSystemAccess2 fsa) {
+		resolveImportedModels(model);
+		List<ForkJoinTask<String>> tasks = Lists.newArrayList();
+		for (DiagramJob job : diagramJobs)
+			tasks.add(ForkJoinPool.commonPool().submit(job::createDiagram));
+		for (int i = 0; i < diagramJobs.size(); i++)
+			fsa.generateFile(diagramJobs.get(i).fileName, tasks.get(i).join());
+	}
+
+	/**
+	 * Resolving proxies modifies the model (and may load imported resources);
+	 * this must not happen concurrently.
+	 */
+	private void resolveImportedModels(ContextMappingModel model) {
+		if (model.eResource() == null || model.eResource().getResourceSet() == null)
+			return;
+		for (CMLResource importedResource : CMLImportGraph.get(model.eResource().getResourceSet()).getTransitiveImports(model.eResource()))
+			EcoreUtil.resolveAll(importedResource);
+	}
+
+	private <T extends EObject> void addDiagram(String fileName, PlantUMLDiagramCreator<T> diagramCreator, T modelObject) {
+		diagramJobs.add(new DiagramJob(fileName, output -> diagramCreator.createDiagram(modelObject, output)));
+	}
+
+	private void generateStakeholderDiagrams(ContextMappingModel model, String fileName) {
 		int index = 1;
 		for (Stakeholders stakeholders : model.getStakeholders()) {
 			PlantUMLStakeholderMapGenerator stakeholderDiagramGenerator = new PlantUMLStakeholderMapGenerator();
-			fsa.generateFile(fileName + "_BC_"
+			addDiagram(fileName + "_BC_"
 					+ stakeholderDiagramGenerator.getStakeholderDiagramContextName(stakeholders.getContexts())
 							.replace(", ", "-").replace(" ", "-")
 					+ "_StakeholderMap-" + index++ + "." + PLANT_UML_FILE_EXT,
-					stakeholderDiagramGenerator.createDiagram(stakeholders));
+					stakeholderDiagramGenerator, stakeholders);
 		}
 	}
 
-	private void generateValueImpactMapsForValueRegisters(ContextMappingModel model, IFileSystemAccess2 fsa,
-			String fileName) {
+	private void generateValueImpactMapsForValueRegisters(ContextMappingModel model, String fileName) {
 		for (ValueRegister valueRegister : model.getValueRegisters()) {
 			if (!(valueRegister.getValueClusters().isEmpty() && valueRegister.getValues().isEmpty())
 					&& !EcoreUtil2.eAllOfType(valueRegister, ValueElicitation.class).isEmpty()) {
-				fsa.generateFile(
+				addDiagram(
 						fileName + "_ValueRegister_" + valueRegister.getName() + "_Value-Impact-Map" + "."
 								+ PLANT_UML_FILE_EXT,
-						new PlantUMLValueImpactMapGenerator().createDiagram(valueRegister));
+						new PlantUMLValueImpactMapGenerator(), valueRegister);
 			}
 		}
 	}
 
-	private void generateSequenceDiagramsForUseCases(ContextMappingModel model, IFileSystemAccess2 fsa,
-			String fileName) {
+	private void generateSequenceDiagramsForUseCases(ContextMappingModel model, String fileName) {
 		for (UserRequirement userRequirement : model.getUserRequirements()) {
 			if (userRequirement instanceof UseCase && !userRequirement.getFeatures().isEmpty()) {
-				fsa.generateFile(
+				addDiagram(
 						fileName + "_UseCase_" + userRequirement.getName() + "_Interactions." + PLANT_UML_FILE_EXT,
-						new PlantUMLUseCaseInteractionsSequenceDiagramCreator()
-								.createDiagram((UseCase) userRequirement));
+						new PlantUMLUseCaseInteractionsSequenceDiagramCreator(), (UseCase) userRequirement);
 			}
 		}
 	}
 
-	private void generateUseCaseDiagram(ContextMappingModel model, IFileSystemAccess2 fsa, String fileName) {
+	private void generateUseCaseDiagram(ContextMappingModel model, String fileName) {
 		if (!model.getUserRequirements().isEmpty())
-			fsa.generateFile(fileName + "_UseCases." + PLANT_UML_FILE_EXT,
-					new PlantUMLUseCaseDiagramCreator().createDiagram(model));
+			addDiagram(fileName + "_UseCases." + PLANT_UML_FILE_EXT,
+					new PlantUMLUseCaseDiagramCreator(), model);
 	}
 
-	private void generateClassDiagramsForSubdomains(IFileSystemAccess2 fsa, String fileName) {
+	private void generateClassDiagramsForSubdomains(String fileName) {
 		subdomainResolver.resolveAllSubdomains().stream().filter(subdomain -> !subdomain.getEntities().isEmpty())
 				.forEach(subdomain -> {
-					fsa.generateFile(fileName + "_SD_" + subdomain.getName() + "." + PLANT_UML_FILE_EXT,
-							new PlantUMLSubdomainClassDiagramCreator(
-									subdomainResolver.resolveDomain4Subdomain(subdomain.getName()).getName())
-									.createDiagram(subdomain));
+					String domainName = subdomainResolver.resolveDomain4Subdomain(subdomain.getName()).getName();
+					addDiagram(fileName + "_SD_" + subdomain.getName() + "." + PLANT_UML_FILE_EXT,
+							new PlantUMLSubdomainClassDiagramCreator(domainName), subdomain);
 				});
 	}
 
-	private void generateClassAndStateDiagramsForBoundedContexts(ContextMappingModel model, IFileSystemAccess2 fsa,
-			String fileName) {
+	private void generateClassAndStateDiagramsForBoundedContexts(ContextMappingModel model, String fileName) {
 		for (BoundedContext boundedContext : model.getBoundedContexts()) {
 
 			// class diagram for complete BC
-			fsa.generateFile(fileName + "_BC_" + boundedContext.getName() + "." + PLANT_UML_FILE_EXT,
-					new PlantUMLBoundedContextClassDiagramCreator().createDiagram(boundedContext));
+			addDiagram(fileName + "_BC_" + boundedContext.getName() + "." + PLANT_UML_FILE_EXT,
+					new PlantUMLBoundedContextClassDiagramCreator(), boundedContext);
 
 			// class diagram for aggregates
 			for (Aggregate aggregate : boundedContext.getAggregates()) {
-				fsa.generateFile(
+				addDiagram(
 						fileName + "_BC_" + boundedContext.getName() + "_" + aggregate.getName() + "."
 								+ PLANT_UML_FILE_EXT,
-						new PlantUMLAggregateClassDiagramCreator().createDiagram(aggregate));
+						new PlantUMLAggregateClassDiagramCreator(), aggregate);
 			}
 
 			// class diagram for modules
 			for (SculptorModule module : boundedContext.getModules()) {
-				fsa.generateFile(fileName + "_BC_" + boundedContext.getName() + "_" + module.getName() + "."
-						+ PLANT_UML_FILE_EXT, new PlantUMLModuleClassDiagramCreator().createDiagram(module));
+				addDiagram(fileName + "_BC_" + boundedContext.getName() + "_" + module.getName() + "."
+						+ PLANT_UML_FILE_EXT, new PlantUMLModuleClassDiagramCreator(), module);
 			}
 
 			// state diagram for aggregates
 			List<Aggregate> aggregatesWithStates = getAggregatesWithStatesAndTransitions(boundedContext);
 			for (Aggregate aggregate : aggregatesWithStates) {
-				fsa.generateFile(
+				addDiagram(
 						fileName + "_BC_" + boundedContext.getName() + "_" + aggregate.getName() + "_StateDiagram" + "."
 								+ PLANT_UML_FILE_EXT,
-						new PlantUMLStateDiagramCreator4Aggregate().createDiagram(aggregate));
+						new PlantUMLStateDiagramCreator4Aggregate(), aggregate);
 			}
 
 			// state diagram for flows
 			for (Flow flow : getFlowsWithStates(boundedContext)) {
-				fsa.generateFile(fileName + "_BC_" + boundedContext.getName() + "_" + flow.getName() + "_StateDiagram."
-						+ PLANT_UML_FILE_EXT, new PlantUMLStateDiagramCreator4Flow().createDiagram(flow));
+				addDiagram(fileName + "_BC_" + boundedContext.getName() + "_" + flow.getName() + "_StateDiagram."
+						+ PLANT_UML_FILE_EXT, new PlantUMLStateDiagramCreator4Flow(), flow);
 			}
 		}
 	}
 
-	private void generateComponentDiagramIfContextMapAvailable(ContextMappingModel model, IFileSystemAccess2 fsa,
-			String fileName) {
+	private void generateComponentDiagramIfContextMapAvailable(ContextMappingModel model, String fileName) {
 		if (model.getMap() != null)
-			fsa.generateFile(fileName + "_ContextMap." + PLANT_UML_FILE_EXT,
-					new PlantUMLComponentDiagramCreator().createDiagram(model.getMap()));
+			addDiagram(fileName + "_ContextMap." + PLANT_UML_FILE_EXT,
+					new PlantUMLComponentDiagramCreator(), model.getMap());
 	}
 
 	private void checkPreconditions() {
@@ -210,4 +261,22 @@ public class PlantUMLGenerator extends AbstractContextMappingModelGenerator {
 				.findAny().isPresent();
 	}
 
+	private static class DiagramJob {
+
+		private final String fileName;
+		private final Consumer<Writer> diagram;
+
+		DiagramJob(String fileName, Consumer<Writer> diagram) {
+			this.fileName = fileName;
+			this.diagram = diagram;
+		}
+
+		String createDiagram() {
+			StringWriter writer = new StringWriter();
+			diagram.accept(writer);
+			return writer.toString();
+		}
+
+	}
+
 }
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generator.contextmap;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+
+import guru.nidi.graphviz.engine.Format;
+import guru.nidi.graphviz.engine.Graphviz;
+
+/**
+ * Runs Graphviz rendering jobs on a bounded pool of worker threads.
+ *
+ * At most {@code workers} jobs run at the same time and at most
+ * {@code queueCapacity} further jobs wait for a worker; submitting a job
+ * blocks while the queue is full (back-pressure). Every job is cancelled
+ * (interrupted) if it runs longer than the configured timeout; it keeps its
+ * place until its worker is released. Renderings of
+ * DOT text can be cached on disk, keyed by the SHA-256 hash of the DOT text,
+ * the format and the requested size.
+ *
+ * One service is meant to be shared by all generator runs of a batch (see
+ * {@code ContextMapGenerator.setRenderingService}); call {@link #close()} when
+ * the batch is done.
+ */
+public class GraphvizRenderingService implements AutoCloseable {
+
+	private static final AtomicInteger SERVICE_COUNTER = new AtomicInteger();
+
+	private final ThreadPoolExecutor executor;
+	private final ScheduledExecutorService timeoutScheduler;
+	private final Semaphore capacity;
+	private final long timeout;
+	private final TimeUnit timeoutUnit;
+	private final File cacheDirectory;
+	private final AtomicLong cacheHitCount = new AtomicLong();
+
+	/**
+	 * @param workers        maximum number of jobs that run in parallel
+	 * @param queueCapacity  maximum number of jobs waiting for a worker
+	 * @param timeout        maximum duration of a single job
+	 * @param timeoutUnit    unit of the timeout
+	 * @param cacheDirectory directory of the render cache; null disables the
+	 *                       cache
+	 */
+	public GraphvizRenderingService(int workers, int queueCapacity, long timeout, TimeUnit timeoutUnit, File cacheDirectory) {
+		if (workers < 1 || queueCapacity < 0 || timeout < 1)
+			throw new IllegalArgumentException("Please specify at least one worker, a queue capacity of at least 0, and a positive timeout.");
+		ThreadFactory threadFactory = createThreadFactory("graphviz-renderer-" + SERVICE_COUNTER.incrementAndGet());
+		this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory);
+		this.timeoutScheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+		this.capacity = new Semaphore(workers + queueCapacity);
+		this.timeout = timeout;
+		this.timeoutUnit = timeoutUnit;
+		this.cacheDirectory = cacheDirectory;
+	}
+
+	/**
+	 * Creates a service with one worker per available processor, a queue of the
+	 * same size, and a timeout of one minute per job.
+	 */
+	public static GraphvizRenderingService createDefault(File cacheDirectory) {
+		int processors = Runtime.getRuntime().availableProcessors();
+		return new GraphvizRenderingService(processors, processors, 1, TimeUnit.MINUTES, cacheDirectory);
+	}
+
+	/**
+	 * Submits the given job; blocks while the queue of the service is full.
+	 */
+	public <T> Future<T> submit(Callable<T> job) {
+		try {
+			capacity.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ContextMapperApplicationException("Interrupted while waiting for a Graphviz worker.", e);
+		}
+		RenderTask<T> task = new RenderTask<>(job);
+		try {
+			executor.execute(task);
+		} catch (RuntimeException e) {
+			capacity.release();
+			throw e;
+		}
+		return task;
+	}
+
+	/**
+	 * Waits for the result of a job submitted to this service.
+	 */
+	public <T> T getResult(Future<T> future) {
+		try {
+			return future.get();
+		} catch (CancellationException e) {
+			throw new ContextMapperApplicationException("The Graphviz rendering has been cancelled (timeout: " + timeout + " " + timeoutUnit.name().toLowerCase() + ").", e);
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new ContextMapperApplicationException("Interrupted while waiting for the Graphviz rendering.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new ContextMapperApplicationException("The Graphviz rendering failed: " + e.getCause().getMessage(), e.getCause());
+		}
+	}
+
+	/**
+	 * Runs the given job on the worker pool and waits for its result.
+	 */
+	public <T> T execute(Callable<T> job) {
+		return getResult(submit(job));
+	}
+
+	/**
+	 * Renders the given DOT text on the worker pool (or takes the rendering from
+	 * the cache). Width and height are ignored if they are not positive; the width
+	 * wins if both are given.
+	 */
+	public byte[] render(String dot, Format format, int width, int height) {
+		return execute(createRenderJob(dot, format, width, height));
+	}
+
+	/**
+	 * Creates a job that renders the given DOT text (or takes the rendering from
+	 * the cache). The job can be submitted to this service or be part of a larger
+	 * job running on the service.
+	 */
+	public Callable<byte[]> createRenderJob(String dot, Format format, int width, int height) {
+		return createCachedJob(getCacheFile("", dot, format, width, height), () -> {
+			Graphviz graphviz = Graphviz.fromString(dot);
+			if (width > 0)
+				graphviz = graphviz.width(width);
+			else if (height > 0)
+				graphviz = graphviz.height(height);
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			graphviz.render(format).toOutputStream(output);
+			return output.toByteArray();
+		});
+	}
+
+	/**
+	 * Creates a job that renders the given DOT layout (with positions) without
+	 * laying it out again (see {@link PositionedGraphRenderer}), or takes the
+	 * rendering from the cache.
+	 */
+	public Callable<byte[]> createPositionedRenderJob(String positionedGraph, Format format, int width, int height) {
+		return createCachedJob(getCacheFile("positioned;", positionedGraph, format, width, height),
+				() -> PositionedGraphRenderer.render(positionedGraph, format, width, height));
+	}
+
+	/**
+	 * Returns the number of renderings that have been taken from the cache.
+	 */
+	public long getCacheHitCount() {
+		return cacheHitCount.get();
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+		timeoutScheduler.shutdownNow();
+	}
+
+	private Callable<byte[]> createCachedJob(Path cacheFile, Callable<byte[]> rendering) {
+		return () -> {
+			if (cacheFile != null && Files.isRegularFile(cacheFile)) {
+				cacheHitCount.incrementAndGet();
+				return Files.readAllBytes(cacheFile);
+			}
+			byte[] image = rendering.call();
+			if (cacheFile != null)
+				writeCacheFile(cacheFile, image);
+			return image;
+		};
+	}
+
+	private Path getCacheFile(String mode, String dot, Format format, int width, int height) {
+		if (cacheDirectory == null)
+			return null;
+		String key = hash(mode + format.name() + ";" + width + ";" + height + ";" + dot);
+		return cacheDirectory.toPath().resolve(key + "." + format.name().toLowerCase());
+	}
+
+	private void writeCacheFile(Path cacheFile, byte[] rendering) throws IOException {
+		Files.createDirectories(cacheFile.getParent());
+		Path tempFile = Files.createTempFile(cacheFile.getParent(), "rendering", ".tmp");
+		Files.write(tempFile, rendering);
+		Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private String hash(String content) {
+		try {
+			StringBuilder hash = new StringBuilder();
+			for (byte b : MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8)))
+				hash.append(String.format("%02x", b));
+			return hash.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new ContextMapperApplicationException("SHA-256 is not supported by this JVM.", e);
+		}
+	}
+
+	private static ThreadFactory createThreadFactory(String namePrefix) {
+		AtomicInteger threadCounter = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, namePrefix + "-" + threadCounter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * Cancels itself if it runs longer than the timeout. Frees its place in the
+	 * queue when the worker leaves the task (a cancelled job may still block its
+	 * worker for a while), or when it is cancelled before a worker started it.
+	 */
+	private class RenderTask<T> extends FutureTask<T> {
+
+		private final AtomicBoolean started = new AtomicBoolean();
+		private final AtomicBoolean permitReleased = new AtomicBoolean();
+
+		RenderTask(Callable<T> job) {
+			super(job);
+		}
+
+		@Override
+		public void run() {
+			started.set(true);
+			ScheduledFuture<?> timeoutGuard = timeoutScheduler.schedule(() -> cancel(true), timeout, timeoutUnit);
+			try {
+				super.run();
+			} finally {
+				timeoutGuard.cancel(false);
+				releasePermit();
+			}
+		}
+
+		@Override
+		protected void done() {
+			if (isCancelled() && !started.get())
+				releasePermit();
+		}
+
+		private void releasePermit() {
+			if (permitReleased.compareAndSet(false, true))
+				capacity.release();
+		}
+
+	}
+
+}
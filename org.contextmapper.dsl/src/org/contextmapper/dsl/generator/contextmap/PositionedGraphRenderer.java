@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generator.contextmap;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import guru.nidi.graphviz.engine.Format;
+import guru.nidi.graphviz.engine.GraphvizException;
+import guru.nidi.graphviz.service.CommandRunner;
+import guru.nidi.graphviz.service.SystemUtils;
+
+/**
+ * Renders a graph that has already been laid out (DOT output of Graphviz with
+ * "pos" and "bb" attributes) without running the layout again: the Graphviz
+ * executable is called with "neato -n2", which draws the nodes, edge splines,
+ * labels and clusters at the positions of the given layout.
+ *
+ * Graphviz-java always passes its own layout engine and cannot pass the "-n2"
+ * flag; therefore this renderer requires a local Graphviz installation (see
+ * {@link #isAvailable()}).
+ */
+public class PositionedGraphRenderer {
+
+	private static final Pattern BOUNDING_BOX = Pattern.compile("\\bbb=\"?(-?[\\d.]+),(-?[\\d.]+),(-?[\\d.]+),(-?[\\d.]+)\"?");
+	private static final double POINTS_PER_INCH = 72.0;
+
+	private PositionedGraphRenderer() {
+	}
+
+	/**
+	 * Indicates whether the Graphviz executable is installed.
+	 */
+	public static boolean isAvailable() {
+		String envPath = Optional.ofNullable(System.getenv("PATH")).orElse("");
+		return CommandRunner.isExecutableFound(SystemUtils.executableName("dot"), envPath);
+	}
+
+	/**
+	 * Renders the positioned graph in the given format (PNG or SVG). Width and
+	 * height are ignored if they are not positive; the width wins if both are
+	 * given. The image is scaled by its resolution, the layout is not changed.
+	 */
+	public static byte[] render(String positionedGraph, Format format, int width, int height) throws IOException {
+		Path inputFile = Files.createTempFile("cml-context-map-", ".gv");
+		Path outputFile = Files.createTempFile("cml-context-map-", "." + getFormatName(format));
+		try {
+			Files.write(inputFile, positionedGraph.getBytes(StandardCharsets.UTF_8));
+			List<String> command = new ArrayList<>();
+			command.add(SystemUtils.executableName("dot"));
+			command.add("-Kneato");
+			command.add("-n2");
+			command.add("-T" + getFormatName(format));
+			getResolution(positionedGraph, width, height).ifPresent(dpi -> command.add("-Gdpi=" + String.format(Locale.ROOT, "%.2f", dpi)));
+			command.add("-o" + outputFile.toAbsolutePath());
+			command.add(inputFile.toAbsolutePath().toString());
+			runGraphviz(command);
+			return Files.readAllBytes(outputFile);
+		} finally {
+			Files.deleteIfExists(inputFile);
+			Files.deleteIfExists(outputFile);
+		}
+	}
+
+	/**
+	 * Waits for the process interruptibly (messages go into a file), so that the
+	 * timeout of the rendering service can stop it.
+	 */
+	private static void runGraphviz(List<String> command) throws IOException {
+		Path messagesFile = Files.createTempFile("cml-context-map-", ".log");
+		Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(messagesFile.toFile()).start();
+		try {
+			if (process.waitFor() != 0)
+				throw new GraphvizException("Graphviz could not render the positioned graph: "
+						+ new String(Files.readAllBytes(messagesFile), Charset.defaultCharset()).trim());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while rendering the positioned graph.", e);
+		} finally {
+			process.destroy();
+			Files.deleteIfExists(messagesFile);
+		}
+	}
+
+	private static Optional<Double> getResolution(String positionedGraph, int width, int height) {
+		if (width < 1 && height < 1)
+			return Optional.empty();
+		Matcher boundingBox = BOUNDING_BOX.matcher(positionedGraph);
+		if (!boundingBox.find())
+			return Optional.empty();
+		double graphWidth = Double.parseDouble(boundingBox.group(3)) - Double.parseDouble(boundingBox.group(1));
+		double graphHeight = Double.parseDouble(boundingBox.group(4)) - Double.parseDouble(boundingBox.group(2));
+		if (width > 0)
+			return graphWidth > 0 ? Optional.of(POINTS_PER_INCH * width / graphWidth) : Optional.empty();
+		return graphHeight > 0 ? Optional.of(POINTS_PER_INCH * height / graphHeight) : Optional.empty();
+	}
+
+	private static String getFormatName(Format format) {
+		if (format == Format.SVG)
+			return "svg";
+		if (format == Format.PNG)
+			return "png";
+		throw new IllegalArgumentException("The positioned graph can only be rendered as PNG or SVG.");
+	}
+
+}
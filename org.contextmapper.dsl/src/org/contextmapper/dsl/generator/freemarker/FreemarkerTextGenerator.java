@@ -15,13 +15,19 @@
  */
 package org.contextmapper.dsl.generator.freemarker;
 
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.contextmapper.dsl.contextMappingDSL.CommandInvokation;
 import org.contextmapper.dsl.contextMappingDSL.CommandInvokationStep;
@@ -76,27 +82,53 @@ import freemarker.template.TemplateExceptionHandler;
  */
 public class FreemarkerTextGenerator {
 
+	private static final Map<String, CachedTemplate> TEMPLATE_CACHE = new ConcurrentHashMap<>();
+
 	private File templateFile;
+	private boolean cacheTemplate;
 	private Map<String, Object> dataMap;
 
 	public FreemarkerTextGenerator(File templateFile) {
+		this(templateFile, false);
+	}
+
+	/**
+	 * @param templateFile  the Freemarker template
+	 * @param cacheTemplate if true, the compiled template is cached (process-wide)
+	 *                      and reused as long as the template file is not
+	 *                      modified
+	 */
+	public FreemarkerTextGenerator(File templateFile, boolean cacheTemplate) {
 		this.templateFile = templateFile;
+		this.cacheTemplate = cacheTemplate;
 		dataMap = new HashMap<>();
 	}
 
 	public String generate(ContextMappingModel contextMappingModel) {
-		String result = "";
-		try {
-			Configuration configuration = configureFreemarker();
-			Template template = configuration.getTemplate(templateFile.getName());
+		StringWriter writer = new StringWriter();
+		generate(contextMappingModel, writer);
+		return writer.toString();
+	}
 
-			StringWriter writer = new StringWriter();
-			template.process(prepareModelData(contextMappingModel), writer);
-			result = writer.toString();
+	/**
+	 * Renders the template directly into the given writer (the output is not
+	 * kept in memory). The writer is flushed, but not closed.
+	 */
+	public void generate(ContextMappingModel contextMappingModel, Writer writer) {
+		try {
+			getTemplate().process(prepareModelData(contextMappingModel), writer);
+			writer.flush();
 		} catch (Exception e) {
 			throw new ContextMapperApplicationException("Freemarker template exception: " + e.getMessage(), e);
 		}
-		return result;
+	}
+
+	/**
+	 * Renders the template directly into the given output stream, encoded with
+	 * the given charset. The stream is flushed, but not closed.
+	 */
+	public void generate(ContextMappingModel contextMappingModel, OutputStream outputStream, Charset charset) {
+		generate(contextMappingModel, new BufferedWriter(new OutputStreamWriter(outputStream, charset)));
 	}
 
 	public void registerCustomModelProperty(String propertyName, Object object) {
@@ -181,6 +213,21 @@ public class FreemarkerTextGenerator {
 		return classMap;
 	}
 
+	private Template getTemplate() throws IOException {
+		if (!cacheTemplate)
+			return configureFreemarker().getTemplate(templateFile.getName());
+
+		String path = templateFile.getAbsolutePath();
+		long lastModified = templateFile.lastModified();
+		CachedTemplate cachedTemplate = TEMPLATE_CACHE.get(path);
+		if (cachedTemplate != null && cachedTemplate.lastModified == lastModified)
+			return cachedTemplate.template;
+
+		Template template = configureFreemarker().getTemplate(templateFile.getName());
+		TEMPLATE_CACHE.put(path, new CachedTemplate(template, lastModified));
+		return template;
+	}
+
 	private Configuration configureFreemarker() throws IOException {
 		Configuration configuration = new Configuration(Configuration.VERSION_2_3_22);
 		configuration.setDirectoryForTemplateLoading(templateFile.getParentFile());
@@ -189,4 +236,16 @@ public class FreemarkerTextGenerator {
 		return configuration;
 	}
 
+	private static class CachedTemplate {
+
+		private final Template template;
+		private final long lastModified;
+
+		CachedTemplate(Template template, long lastModified) {
+			this.template = template;
+			this.lastModified = lastModified;
+		}
+
+	}
+
 }
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generator.mdsl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.contextmapper.dsl.generator.mdsl.model.DataType;
+import org.contextmapper.dsl.generator.mdsl.model.DataTypeAttribute;
+import org.contextmapper.tactic.dsl.tacticdsl.Attribute;
+import org.contextmapper.tactic.dsl.tacticdsl.CollectionType;
+import org.contextmapper.tactic.dsl.tacticdsl.CommandEvent;
+import org.contextmapper.tactic.dsl.tacticdsl.DomainEvent;
+import org.contextmapper.tactic.dsl.tacticdsl.DomainObject;
+import org.contextmapper.tactic.dsl.tacticdsl.Entity;
+import org.contextmapper.tactic.dsl.tacticdsl.Enum;
+import org.contextmapper.tactic.dsl.tacticdsl.EnumValue;
+import org.contextmapper.tactic.dsl.tacticdsl.Reference;
+import org.contextmapper.tactic.dsl.tacticdsl.SimpleDomainObject;
+import org.contextmapper.tactic.dsl.tacticdsl.ValueObject;
+
+import com.google.common.collect.Maps;
+
+/**
+ * Model-wide registry of the MDSL data types of domain objects and enums.
+ *
+ * The data type of a domain object (its attributes and references, including
+ * the ones inherited over the 'extends' chain) is created once and shared by
+ * all {@link MDSLDataTypeCreator}s (and thus by all service specifications)
+ * that use the registry. The registry is keyed by the identity of the domain
+ * objects and can be used by multiple threads.
+ */
+public class MDSLDataTypeRegistry {
+
+	private static final String BASE_TYPE = "Object";
+
+	private final Map<SimpleDomainObject, RegisteredDataType> dataTypes = new ConcurrentHashMap<>();
+	private final Map<SimpleDomainObject, RegisteredDataType> pendingDataTypes = Maps.newHashMap();
+	private final MDSLNameEncoder mdslNameEncoder = new MDSLNameEncoder();
+
+	/**
+	 * Returns the data type of the given domain object or enum; creates it if it
+	 * has not been requested before (or if the domain object has been renamed
+	 * since).
+	 */
+	public RegisteredDataType getDataType(SimpleDomainObject domainObject) {
+		RegisteredDataType dataType = dataTypes.get(domainObject);
+		if (dataType != null && dataType.isUpToDate(domainObject))
+			return dataType;
+
+		synchronized (this) {
+			try {
+				dataType = createDataType(domainObject);
+				// publish the data types only when all of them are complete
+				dataTypes.putAll(pendingDataTypes);
+				return dataType;
+			} finally {
+				pendingDataTypes.clear();
+			}
+		}
+	}
+
+	String getMDSLDataTypeName(String dataTypeName) {
+		if ("boolean".equals(dataTypeName.toLowerCase())) {
+			return "D<bool>";
+		} else if ("String".equals(dataTypeName)) {
+			return "D<string>";
+		} else if ("int".equals(dataTypeName) || "Integer".equals(dataTypeName)) {
+			return "D<int>";
+		} else if ("long".equals(dataTypeName.toLowerCase())) {
+			return "D<long>";
+		} else if ("double".equals(dataTypeName.toLowerCase())) {
+			return "D<double>";
+		} else if ("Blob".equals(dataTypeName)) {
+			return "D<raw>";
+		} else if ("Date".equals(dataTypeName)) {
+			return "D<string>";
+		}
+		return BASE_TYPE; // default case: we have to define a data type
+	}
+
+	boolean isPrimitiveType(String dataTypeName) {
+		return !BASE_TYPE.equals(dataTypeName);
+	}
+
+	DataTypeAttribute createAttribute(String attributeName, String attributeType, boolean isCollection, boolean isNullable) {
+		DataTypeAttribute attribute = new DataTypeAttribute();
+		attribute.setName(mdslNameEncoder.encodeName(attributeName));
+		attribute.setType(mdslNameEncoder.encodeName(attributeType));
+		attribute.setIsCollection(isCollection);
+		attribute.setIsNullable(isNullable);
+		return attribute;
+	}
+
+	boolean isCollection(CollectionType collectionType) {
+		return collectionType != CollectionType.NONE;
+	}
+
+	private RegisteredDataType createDataType(SimpleDomainObject domainObject) {
+		RegisteredDataType dataType = pendingDataTypes.containsKey(domainObject) ? pendingDataTypes.get(domainObject) : dataTypes.get(domainObject);
+		if (dataType != null && dataType.isUpToDate(domainObject))
+			return dataType;
+
+		dataType = new RegisteredDataType(domainObject.getName(), mdslNameEncoder.encodeName(domainObject.getName()));
+		// registered before the attributes are created, so that cyclic references end here
+		pendingDataTypes.put(domainObject, dataType);
+
+		if (domainObject instanceof Enum) {
+			dataType.dataType.setIsEnumType(true);
+			dataType.dataType.addAttributes(createAttributesForEnum((Enum) domainObject));
+		} else if (domainObject instanceof DomainObject) {
+			DomainObject object = (DomainObject) domainObject;
+			dataType.dataType.addAttributes(createAttributes4AttributeList(dataType, getDomainObjectAttributes(object)));
+			dataType.dataType.addAttributes(createAttributes4ReferencesList(dataType, getDomainObjectReferences(object)));
+		}
+		return dataType;
+	}
+
+	private List<DataTypeAttribute> createAttributesForEnum(Enum enumm) {
+		List<DataTypeAttribute> attributes = new ArrayList<>();
+		for (EnumValue value : enumm.getValues()) {
+			DataTypeAttribute attribute = new DataTypeAttribute();
+			attribute.setName(mdslNameEncoder.encodeName(value.getName()));
+			attribute.setType(mdslNameEncoder.encodeName(enumm.getName()));
+			attributes.add(attribute);
+		}
+		return attributes;
+	}
+
+	private List<DataTypeAttribute> createAttributes4AttributeList(RegisteredDataType owner, List<Attribute> attributes) {
+		List<DataTypeAttribute> mdslAttributes = new ArrayList<>();
+		for (Attribute attribute : attributes) {
+			mdslAttributes.add(createAttribute(attribute.getName(), mapAbstractDataType(owner, attribute.getType()), isCollection(attribute.getCollectionType()),
+					attribute.isNullable()));
+		}
+		return mdslAttributes;
+	}
+
+	private List<DataTypeAttribute> createAttributes4ReferencesList(RegisteredDataType owner, List<Reference> references) {
+		List<DataTypeAttribute> mdslAttributes = new ArrayList<>();
+		for (Reference reference : references) {
+			String referencedTypeName = getMDSLDataTypeName(reference.getDomainObjectType().getName());
+			if (!isPrimitiveType(referencedTypeName)) {
+				RegisteredDataType referencedType = createDataType(reference.getDomainObjectType());
+				owner.referencedTypes.add(referencedType);
+				referencedTypeName = referencedType.getDataType().getName();
+			}
+			mdslAttributes.add(createAttribute(reference.getName(), referencedTypeName, isCollection(reference.getCollectionType()), reference.isNullable()));
+		}
+		return mdslAttributes;
+	}
+
+	private String mapAbstractDataType(RegisteredDataType owner, String dataTypeName) {
+		String mdslTypeName = getMDSLDataTypeName(dataTypeName);
+		if (isPrimitiveType(mdslTypeName))
+			return mdslTypeName;
+
+		// not a primitive type: the service specification needs (at least) an abstract data type
+		String encodedDataTypeName = mdslNameEncoder.encodeName(dataTypeName);
+		DataType abstractDataType = new DataType();
+		abstractDataType.setName(mdslNameEncoder.encodeName(encodedDataTypeName));
+		owner.abstractTypes.add(abstractDataType);
+		return encodedDataTypeName;
+	}
+
+	private List<Attribute> getDomainObjectAttributes(DomainObject domainObject) {
+		List<Attribute> attributes = new ArrayList<>();
+
+		DomainObject extendsType = getExtendsType(domainObject);
+		while (extendsType != null) {
+			attributes.addAll(extendsType.getAttributes());
+			extendsType = getExtendsType(extendsType);
+		}
+		attributes.addAll(domainObject.getAttributes());
+
+		return attributes;
+	}
+
+	private List<Reference> getDomainObjectReferences(DomainObject domainObject) {
+		List<Reference> references = new ArrayList<>();
+
+		DomainObject extendsType = getExtendsType(domainObject);
+		while (extendsType != null) {
+			references.addAll(extendsType.getReferences());
+			extendsType = getExtendsType(extendsType);
+		}
+		references.addAll(domainObject.getReferences());
+
+		return references;
+	}
+
+	private DomainObject getExtendsType(DomainObject domainObject) {
+		if (domainObject instanceof Entity) {
+			return ((Entity) domainObject).getExtends();
+		} else if (domainObject instanceof CommandEvent) {
+			return ((CommandEvent) domainObject).getExtends();
+		} else if (domainObject instanceof DomainEvent) {
+			return ((DomainEvent) domainObject).getExtends();
+		} else if (domainObject instanceof ValueObject) {
+			return ((ValueObject) domainObject).getExtends();
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * The data type of a domain object, together with the data types its
+	 * attributes refer to: the data types of referenced domain objects and the
+	 * abstract data types of non-primitive attribute types.
+	 */
+	public static class RegisteredDataType {
+
+		private final String domainObjectName;
+		private final DataType dataType;
+		private final List<RegisteredDataType> referencedTypes = new ArrayList<>();
+		private final List<DataType> abstractTypes = new ArrayList<>();
+
+		RegisteredDataType(String domainObjectName, String dataTypeName) {
+			this.domainObjectName = domainObjectName;
+			this.dataType = new DataType();
+			this.dataType.setName(dataTypeName);
+		}
+
+		public DataType getDataType() {
+			return dataType;
+		}
+
+		public List<RegisteredDataType> getReferencedTypes() {
+			return Collections.unmodifiableList(referencedTypes);
+		}
+
+		public List<DataType> getAbstractTypes() {
+			return Collections.unmodifiableList(abstractTypes);
+		}
+
+		private boolean isUpToDate(SimpleDomainObject domainObject) {
+			return domainObjectName.equals(domainObject.getName());
+		}
+
+	}
+
+}
@@ -16,12 +16,18 @@
 package org.contextmapper.dsl.generator.mdsl;
 
 import java.security.InvalidParameterException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
+import org.contextmapper.dsl.cml.CMLImportGraph;
+import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.Aggregate;
 import org.contextmapper.dsl.contextMappingDSL.Application;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
@@ -39,6 +45,7 @@ import org.contextmapper.dsl.contextMappingDSL.FlowStep;
 import org.contextmapper.dsl.contextMappingDSL.InclusiveAlternativeCommandInvokation;
 import org.contextmapper.dsl.contextMappingDSL.InclusiveAlternativeEventProduction;
 import org.contextmapper.dsl.contextMappingDSL.MultipleEventProduction;
+import org.contextmapper.dsl.contextMappingDSL.Relationship;
 import org.contextmapper.dsl.contextMappingDSL.SingleCommandInvokation;
 import org.contextmapper.dsl.contextMappingDSL.SingleEventProduction;
 import org.contextmapper.dsl.contextMappingDSL.UpstreamDownstreamRelationship;
@@ -68,6 +75,8 @@ import org.contextmapper.tactic.dsl.tacticdsl.SimpleDomainObject;
 import org.contextmapper.tactic.dsl.tacticdsl.TacticdslFactory;
 import org.contextmapper.tactic.dsl.tacticdsl.Visibility;
 import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -82,30 +91,89 @@ public class MDSLModelCreator {
 	private static final String PROTOCOL_STRING_IF_NOT_DEFINED = "tbd";
 	private static final String PROTOCOL_NOT_DEFINED_COMMENT = "The protocol is generated if you specify the implementation technology in CML";
 
+	private static final int INITIAL_PORT = 8000;
+
 	private ContextMappingModel model;
-	private int initialPort = 8000;
+	private int initialPort;
+	private MDSLDataTypeRegistry dataTypeRegistry;
 	private MDSLDataTypeCreator dataTypeCreator;
 	private MDSLNameEncoder mdslEncoder;
+	private Map<String, UpstreamAPIContext> upstreamContexts;
+	private boolean parallelGeneration = false;
 
 	public MDSLModelCreator(ContextMappingModel model) {
+		this(model, INITIAL_PORT, new MDSLDataTypeRegistry());
+	}
+
+	private MDSLModelCreator(ContextMappingModel model, int initialPort, MDSLDataTypeRegistry dataTypeRegistry) {
 		this.model = model;
-		this.dataTypeCreator = new MDSLDataTypeCreator();
+		this.initialPort = initialPort;
+		this.dataTypeRegistry = dataTypeRegistry;
+		this.dataTypeCreator = new MDSLDataTypeCreator(dataTypeRegistry);
 		this.mdslEncoder = new MDSLNameEncoder();
 	}
 
+	/**
+	 * Creates the service specifications (one per upstream API) in parallel
+	 * (common fork-join pool). The specifications are returned in the same order
+	 * and with the same content as in the sequential mode.
+	 */
+	public void setParallelGeneration(boolean parallelGeneration) {
+		this.parallelGeneration = parallelGeneration;
+	}
+
 	public List<ServiceSpecification> createServiceSpecifications() {
-		checkPreconditions();
+		Map<String, UpstreamAPIContext> upstreamContexts = getUpstreamContexts();
+		checkPreconditions(upstreamContexts);
 
-		List<ServiceSpecification> specs = Lists.newArrayList();
-		Map<String, UpstreamAPIContext> upstreamContexts = collectUpstreamContexts();
-		for (String apiName : upstreamContexts.keySet()) {
-			UpstreamAPIContext context = upstreamContexts.get(apiName);
-			specs.add(createServiceSpecification(context.getApiName(), context));
+		// every API gets its own creator (data types) and range of endpoint ports; the
+		// data types of the domain objects are shared
+		List<Supplier<ServiceSpecification>> jobs = Lists.newArrayList();
+		int port = initialPort;
+		for (UpstreamAPIContext context : upstreamContexts.values()) {
+			MDSLModelCreator apiCreator = new MDSLModelCreator(model, port, dataTypeRegistry);
+			jobs.add(() -> apiCreator.createServiceSpecification(context.getApiName(), context));
+			port += getNumberOfEndpoints(context);
 		}
 
+		if (parallelGeneration)
+			return createServiceSpecificationsInParallel(jobs);
+		List<ServiceSpecification> specs = Lists.newArrayList();
+		for (Supplier<ServiceSpecification> job : jobs)
+			specs.add(job.get());
+		return specs;
+	}
+
+	private List<ServiceSpecification> createServiceSpecificationsInParallel(List<Supplier<ServiceSpecification>> jobs) {
+		resolveAllReferences();
+		List<ForkJoinTask<ServiceSpecification>> tasks = Lists.newArrayList();
+		for (Supplier<ServiceSpecification> job : jobs)
+			tasks.add(ForkJoinPool.commonPool().submit(job::get));
+		List<ServiceSpecification> specs = Lists.newArrayList();
+		for (ForkJoinTask<ServiceSpecification> task : tasks)
+			specs.add(task.join());
 		return specs;
 	}
 
+	/**
+	 * Resolving proxies modifies the model (and may load imported resources);
+	 * this must not happen concurrently.
+	 */
+	private void resolveAllReferences() {
+		Resource resource = model.eResource();
+		if (resource == null)
+			return;
+		EcoreUtil.resolveAll(resource);
+		if (resource.getResourceSet() == null)
+			return;
+		for (CMLResource importedResource : CMLImportGraph.get(resource.getResourceSet()).getTransitiveImports(resource))
+			EcoreUtil.resolveAll(importedResource);
+	}
+
+	private int getNumberOfEndpoints(UpstreamAPIContext context) {
+		return context.getExposedAggregates().size() + (context.getApplicationLayer() != null ? 1 : 0);
+	}
+
 	private ServiceSpecification createServiceSpecification(String apiName, UpstreamAPIContext context) {
 				
 		ServiceSpecification specification = new ServiceSpecification();
@@ -424,13 +492,19 @@ public class MDSLModelCreator {
 		return client;
 	}
 
+	private Map<String, UpstreamAPIContext> getUpstreamContexts() {
+		if (upstreamContexts == null)
+			upstreamContexts = collectUpstreamContexts();
+		return upstreamContexts;
+	}
+
 	private Map<String, UpstreamAPIContext> collectUpstreamContexts() {
 		Map<String, UpstreamAPIContext> upstreamContextMap = Maps.newHashMap();
-		List<UpstreamDownstreamRelationship> upstreamDownstreamRelationships = Lists.newLinkedList();
-		if (model.getMap() != null)
-			upstreamDownstreamRelationships = model.getMap().getRelationships().stream().filter(rel -> rel instanceof UpstreamDownstreamRelationship)
-					.map(rel -> (UpstreamDownstreamRelationship) rel).collect(Collectors.toList());
-		for (UpstreamDownstreamRelationship relationship : upstreamDownstreamRelationships) {
+		List<Relationship> relationships = model.getMap() != null ? model.getMap().getRelationships() : Collections.emptyList();
+		for (Relationship rel : relationships) {
+			if (!(rel instanceof UpstreamDownstreamRelationship))
+				continue;
+			UpstreamDownstreamRelationship relationship = (UpstreamDownstreamRelationship) rel;
 			if (relationship.getUpstreamExposedAggregates().isEmpty())
 				continue;
 
@@ -445,10 +519,8 @@ public class MDSLModelCreator {
 				upstreamContextMap.put(upstreamAPIName, context);
 			}
 			context.getUpstreamRoles().addAll(relationship.getUpstreamRoles());
-			for (Aggregate exposedAggregate : relationship.getUpstreamExposedAggregates()) {
-				if (!context.getExposedAggregates().stream().map(agg -> agg.getName()).collect(Collectors.toList()).contains(exposedAggregate.getName()))
-					context.getExposedAggregates().add(exposedAggregate);
-			}
+			for (Aggregate exposedAggregate : relationship.getUpstreamExposedAggregates())
+				context.addExposedAggregate(exposedAggregate);
 			if (relationship.getUpstream().getApplication() != null)
 				context.setApplicationLayer(relationship.getUpstream().getApplication());
 			context.addDownstreamContext4Relationship(relationship);
@@ -464,16 +536,15 @@ public class MDSLModelCreator {
 			UpstreamAPIContext context = new UpstreamAPIContext();
 			context.setApiName(apiName);
 			context.setUpstreamContext(bc);
-			context.getExposedAggregates().addAll(bc.getAggregates());
+			for (Aggregate aggregate : bc.getAggregates())
+				context.addExposedAggregate(aggregate);
 			context.setApplicationLayer(bc.getApplication());
 			upstreamContextMap.put(apiName, context);
 		}
 		return upstreamContextMap;
 	}
 
-	private void checkPreconditions() {
-		Map<String, UpstreamAPIContext> upstreamContexts = collectUpstreamContexts();
-
+	private void checkPreconditions(Map<String, UpstreamAPIContext> upstreamContexts) {
 		List<Aggregate> exposedAggregates = Lists.newArrayList();
 		List<Application> applications = Lists.newArrayList();
 		for (UpstreamAPIContext context : upstreamContexts.values()) {
@@ -15,6 +15,13 @@
  */
 package org.contextmapper.dsl.generator.mdsl;
 
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+
 public class ProtectedRegionContextFactory {
 
 	public ProtectedRegionContext createProtectedRegionContextForNewMDSLFile() {
@@ -27,32 +34,15 @@ public class ProtectedRegionContextFactory {
 	}
 
 	public ProtectedRegionContext createProtectedRegionContextForExistingMDSLFile(String fileContent) {
-		ProtectedRegionContext context = new ProtectedRegionContext();
-		ProtectedRegionReader reader = new ProtectedRegionReader();
-
-		String protectedSectionDataTypes = reader.getProtectedRegionContent(fileContent, ProtectedRegionIdentifier.DATA_TYPE_REGION);
-		String protectedSectionEndpoints = reader.getProtectedRegionContent(fileContent, ProtectedRegionIdentifier.ENDPOINT_REGION);
-		String protectedSectionProviders = reader.getProtectedRegionContent(fileContent, ProtectedRegionIdentifier.PROVIDER_REGION);
-		String protectedSectionClient = reader.getProtectedRegionContent(fileContent, ProtectedRegionIdentifier.CLIENT_REGION);
-
-		context.setProtectedDataTypeRegion(protectedSectionDataTypes);
-		context.setProtectedEndpointRegion(protectedSectionEndpoints);
-		context.setProtectedProviderRegion(protectedSectionProviders);
-		context.setProtectedClientRegion(protectedSectionClient);
-
-		if (protectedSectionDataTypes != null)
-			context.addDataTypeIdentifiers(reader.getIdentifiersInProtectedRegion(protectedSectionDataTypes, ProtectedRegionIdentifier.DATA_TYPE_REGION));
-
-		if (protectedSectionEndpoints != null)
-			context.addEndpointIdentifiers(reader.getIdentifiersInProtectedRegion(protectedSectionEndpoints, ProtectedRegionIdentifier.ENDPOINT_REGION));
-
-		if (protectedSectionProviders != null)
-			context.addProviderIdentifiers(reader.getIdentifiersInProtectedRegion(protectedSectionProviders, ProtectedRegionIdentifier.PROVIDER_REGION));
-
-		if (protectedSectionClient != null)
-			context.addClientIdentifiers(reader.getIdentifiersInProtectedRegion(protectedSectionClient, ProtectedRegionIdentifier.CLIENT_REGION));
+		try {
+			return new ProtectedRegionScanner().scan(new BufferedReader(new StringReader(fileContent)));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
 
-		return context;
+	public ProtectedRegionContext createProtectedRegionContextForExistingMDSLFile(File mdslFile, Charset encoding) {
+		return new ProtectedRegionScanner().scan(mdslFile, encoding);
 	}
 
 }
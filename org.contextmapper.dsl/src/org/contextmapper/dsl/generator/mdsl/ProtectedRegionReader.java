@@ -15,6 +15,8 @@
  */
 package org.contextmapper.dsl.generator.mdsl;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -29,6 +31,8 @@ import com.google.common.collect.Sets;
  */
 public class ProtectedRegionReader {
 
+	private static final Map<ProtectedRegionIdentifier, Pattern> IDENTIFIER_PATTERNS = createIdentifierPatterns();
+
 	public String getProtectedRegionContent(String mdslInput, ProtectedRegionIdentifier regionIdentifier) {
 		String regionStartString = getRegionStartString(regionIdentifier);
 		if (containsProtectedRegion(mdslInput, regionIdentifier))
@@ -44,25 +48,34 @@ public class ProtectedRegionReader {
 
 	public Set<String> getIdentifiersInProtectedRegion(String protectedRegion, ProtectedRegionIdentifier regionIdentifier) {
 		Set<String> ids = Sets.newHashSet();
-		for (String line : protectedRegion.split("\\r?\\n")) {
-			Pattern pattern = Pattern.compile("^[^\\/]?" + getIdentifierKeyWord(regionIdentifier) + " ([\\^]?[a-zA-Z_]{1}[a-zA-Z0-9_]*).*$");
-			Matcher matcher = pattern.matcher(line);
-			while (matcher.find()) {
-				ids.add(matcher.group(1));
-			}
-		}
+		for (String line : protectedRegion.split("\\r?\\n"))
+			collectIdentifiers(line, regionIdentifier, ids);
 		return ids;
 	}
 
-	private String getRegionStartString(ProtectedRegionIdentifier regionIdentifier) {
+	void collectIdentifiers(String line, ProtectedRegionIdentifier regionIdentifier, Set<String> ids) {
+		Matcher matcher = IDENTIFIER_PATTERNS.get(regionIdentifier).matcher(line);
+		while (matcher.find()) {
+			ids.add(matcher.group(1));
+		}
+	}
+
+	String getRegionStartString(ProtectedRegionIdentifier regionIdentifier) {
 		return "// ** BEGIN PROTECTED REGION for " + regionIdentifier.toString();
 	}
 
-	private String getRegionEndString(ProtectedRegionIdentifier regionIdentifier) {
+	String getRegionEndString(ProtectedRegionIdentifier regionIdentifier) {
 		return "// ** END PROTECTED REGION for " + regionIdentifier.toString();
 	}
 
-	private String getIdentifierKeyWord(ProtectedRegionIdentifier regionIdentifier) {
+	private static Map<ProtectedRegionIdentifier, Pattern> createIdentifierPatterns() {
+		Map<ProtectedRegionIdentifier, Pattern> patterns = new EnumMap<>(ProtectedRegionIdentifier.class);
+		for (ProtectedRegionIdentifier regionIdentifier : ProtectedRegionIdentifier.values())
+			patterns.put(regionIdentifier, Pattern.compile("^[^\\/]?" + getIdentifierKeyWord(regionIdentifier) + " ([\\^]?[a-zA-Z_]{1}[a-zA-Z0-9_]*).*$"));
+		return patterns;
+	}
+
+	private static String getIdentifierKeyWord(ProtectedRegionIdentifier regionIdentifier) {
 		switch (regionIdentifier) {
 		case DATA_TYPE_REGION:
 			return "data type";
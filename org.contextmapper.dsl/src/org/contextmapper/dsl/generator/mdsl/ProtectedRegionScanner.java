@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generator.mdsl;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+import org.contextmapper.dsl.generator.exception.GeneratorInputException;
+
+import com.google.common.collect.Sets;
+
+/**
+ * Reads all protected regions of an existing MDSL file (data types, endpoint
+ * types, API providers and API clients), and the identifiers declared in them,
+ * in one pass over the lines of the file.
+ *
+ * A region starts with its "BEGIN PROTECTED REGION" line and ends with the
+ * next "END PROTECTED REGION" line of the same kind. Only the first region of
+ * each kind is used.
+ */
+public class ProtectedRegionScanner {
+
+	private final ProtectedRegionReader regionReader = new ProtectedRegionReader();
+
+	/**
+	 * Scans the given file; decoded with the encoding the MDSL generator writes
+	 * it with (malformed input is replaced, as when reading it through the file
+	 * system access).
+	 */
+	public ProtectedRegionContext scan(File mdslFile, Charset encoding) {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(Files.newInputStream(mdslFile.toPath()), encoding))) {
+			return scan(reader);
+		} catch (IOException e) {
+			throw new ContextMapperApplicationException("Could not read the MDSL file '" + mdslFile.getAbsolutePath() + "'.", e);
+		}
+	}
+
+	public ProtectedRegionContext scan(BufferedReader reader) throws IOException {
+		Map<ProtectedRegionIdentifier, Region> regions = new EnumMap<>(ProtectedRegionIdentifier.class);
+		Region openRegion = null;
+		String line;
+		while ((line = reader.readLine()) != null) {
+			if (openRegion == null) {
+				openRegion = startRegion(line, regions);
+			} else if (line.trim().startsWith(regionReader.getRegionEndString(openRegion.identifier))) {
+				openRegion = null;
+			} else {
+				openRegion.content.add(line);
+				regionReader.collectIdentifiers(line, openRegion.identifier, openRegion.identifiers);
+			}
+		}
+		if (openRegion != null)
+			throw new GeneratorInputException("The protected region for " + openRegion.identifier + " is not closed. Please add the line '"
+					+ regionReader.getRegionEndString(openRegion.identifier) + "' to the existing MDSL file.");
+		return createContext(regions);
+	}
+
+	private Region startRegion(String line, Map<ProtectedRegionIdentifier, Region> regions) {
+		String trimmedLine = line.trim();
+		if (!trimmedLine.startsWith("//"))
+			return null;
+		for (ProtectedRegionIdentifier regionIdentifier : ProtectedRegionIdentifier.values()) {
+			if (!regions.containsKey(regionIdentifier) && trimmedLine.startsWith(regionReader.getRegionStartString(regionIdentifier))) {
+				Region region = new Region(regionIdentifier);
+				regions.put(regionIdentifier, region);
+				return region;
+			}
+		}
+		return null;
+	}
+
+	private ProtectedRegionContext createContext(Map<ProtectedRegionIdentifier, Region> regions) {
+		ProtectedRegionContext context = new ProtectedRegionContext();
+		context.setProtectedDataTypeRegion(getContent(regions.get(ProtectedRegionIdentifier.DATA_TYPE_REGION)));
+		context.setProtectedEndpointRegion(getContent(regions.get(ProtectedRegionIdentifier.ENDPOINT_REGION)));
+		context.setProtectedProviderRegion(getContent(regions.get(ProtectedRegionIdentifier.PROVIDER_REGION)));
+		context.setProtectedClientRegion(getContent(regions.get(ProtectedRegionIdentifier.CLIENT_REGION)));
+		for (Region region : regions.values()) {
+			switch (region.identifier) {
+			case DATA_TYPE_REGION:
+				context.addDataTypeIdentifiers(region.identifiers);
+				break;
+			case ENDPOINT_REGION:
+				context.addEndpointIdentifiers(region.identifiers);
+				break;
+			case PROVIDER_REGION:
+				context.addProviderIdentifiers(region.identifiers);
+				break;
+			default:
+				context.addClientIdentifiers(region.identifiers);
+			}
+		}
+		return context;
+	}
+
+	private String getContent(Region region) {
+		return region != null ? region.content.toString() : null;
+	}
+
+	private static class Region {
+
+		private final ProtectedRegionIdentifier identifier;
+		private final StringJoiner content = new StringJoiner(System.lineSeparator());
+		private final Set<String> identifiers = Sets.newHashSet();
+
+		Region(ProtectedRegionIdentifier identifier) {
+			this.identifier = identifier;
+		}
+
+	}
+
+}
@@ -19,6 +19,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.contextmapper.dsl.contextMappingDSL.Aggregate;
 import org.contextmapper.dsl.contextMappingDSL.Application;
@@ -28,12 +29,14 @@ import org.contextmapper.dsl.contextMappingDSL.UpstreamRole;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
 public class UpstreamAPIContext {
 	private String apiName;
 	private BoundedContext upstreamContext;
 	private List<UpstreamRole> upstreamRoles = Lists.newArrayList();
 	private List<Aggregate> exposedAggregates = Lists.newArrayList();
+	private Set<String> exposedAggregateNames = Sets.newHashSet();
 	private Application applicationLayer = null;
 	private List<String> implementationTechnologies = Lists.newArrayList();
 	private Map<String, DownstreamContext> downstreamContexts = Maps.newHashMap();
@@ -62,6 +65,11 @@ public class UpstreamAPIContext {
 		return exposedAggregates;
 	}
 
+	public void addExposedAggregate(Aggregate aggregate) {
+		if (exposedAggregateNames.add(aggregate.getName()))
+			this.exposedAggregates.add(aggregate);
+	}
+
 	public void setApplicationLayer(Application applicationLayer) {
 		this.applicationLayer = applicationLayer;
 	}
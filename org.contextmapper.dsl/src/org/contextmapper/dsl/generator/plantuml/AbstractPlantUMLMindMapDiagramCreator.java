@@ -19,18 +19,25 @@ import org.eclipse.emf.ecore.EObject;
 
 public abstract class AbstractPlantUMLMindMapDiagramCreator<T extends EObject> implements PlantUMLDiagramCreator<T> {
 
-	protected StringBuilder sb;
+	protected PlantUMLDiagramWriter sb;
 
 	public AbstractPlantUMLMindMapDiagramCreator() {
-		this.sb = new StringBuilder();
+		this.sb = new PlantUMLDiagramWriter(new StringBuilder());
 	}
 
 	@Override
 	public String createDiagram(T modelObject) {
+		StringBuilder diagram = new StringBuilder();
+		createDiagram(modelObject, diagram);
+		return diagram.toString();
+	}
+
+	@Override
+	public void createDiagram(T modelObject, Appendable output) {
+		this.sb = new PlantUMLDiagramWriter(output);
 		printHeader();
 		printDiagramContent(modelObject);
 		printFooter();
-		return sb.toString();
 	}
 
 	/*
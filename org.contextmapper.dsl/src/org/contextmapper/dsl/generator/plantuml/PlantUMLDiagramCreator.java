@@ -15,10 +15,25 @@
  */
 package org.contextmapper.dsl.generator.plantuml;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 import org.eclipse.emf.ecore.EObject;
 
 public interface PlantUMLDiagramCreator<T extends EObject> {
 
 	public String createDiagram(T modelObject);
 
+	/**
+	 * Writes the diagram into the given output (a buffered file writer, for
+	 * example) instead of returning it as a string.
+	 */
+	public default void createDiagram(T modelObject, Appendable output) {
+		try {
+			output.append(createDiagram(modelObject));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.generator.plantuml;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Appends the text of a PlantUML diagram to an {@link Appendable} (a
+ * StringBuilder or a buffered file writer, for example). Offers the append
+ * methods of a StringBuilder, so that the diagram creators do not have to
+ * handle I/O exceptions.
+ */
+public class PlantUMLDiagramWriter {
+
+	private final Appendable output;
+
+	public PlantUMLDiagramWriter(Appendable output) {
+		this.output = output;
+	}
+
+	public PlantUMLDiagramWriter append(CharSequence text) {
+		try {
+			output.append(text == null ? "null" : text);
+			return this;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public PlantUMLDiagramWriter append(char c) {
+		try {
+			output.append(c);
+			return this;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public PlantUMLDiagramWriter append(Object object) {
+		return append(String.valueOf(object));
+	}
+
+}
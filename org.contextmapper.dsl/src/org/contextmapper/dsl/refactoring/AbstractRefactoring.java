@@ -16,8 +16,10 @@
 package org.contextmapper.dsl.refactoring;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import org.contextmapper.dsl.cml.CMLImportResolver;
@@ -33,7 +35,6 @@ import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
-import org.eclipse.xtext.resource.SaveOptions;
 import org.eclipse.xtext.serializer.ISerializer;
 
 import com.google.common.collect.Lists;
@@ -49,9 +50,13 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 	private Map<ContextMap, CMLResource> contextMapMap = Maps.newHashMap();
 	private Map<Domain, CMLResource> domainMap = Maps.newHashMap();
 	private Map<UserRequirement, CMLResource> userRequirementMap = Maps.newHashMap();
+	private Map<String, List<BoundedContext>> boundedContextsByName = Maps.newHashMap();
+	private Map<String, List<Domain>> domainsByName = Maps.newHashMap();
+	private Map<String, List<UserRequirement>> userRequirementsByName = Maps.newHashMap();
 
 	protected ResourceSet consistencyCheckResources;
 	protected Set<CMLResource> additionalResourcesToCheck = Sets.newHashSet();
+	private Set<EList<?>> modifiedLists = Sets.newIdentityHashSet();
 
 	@Override
 	public void refactor(CMLResource resource) {
@@ -60,7 +65,12 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 		this.model = resource.getContextMappingModel();
 		enableModificationTracking(resource);
 		resolveRootElements();
-		doRefactor();
+		try {
+			doRefactor();
+			refreshModifiedLists();
+		} finally {
+			modifiedLists.clear();
+		}
 	}
 
 	@Override
@@ -108,63 +118,87 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 	}
 
 	protected Set<BoundedContext> getAllBoundedContexts() {
-		return Sets.newHashSet(this.boundedContextsMap.keySet());
+		return Collections.unmodifiableSet(this.boundedContextsMap.keySet());
 	}
 
 	protected Set<ContextMap> getAllContextMaps() {
-		return Sets.newHashSet(this.contextMapMap.keySet());
+		return Collections.unmodifiableSet(this.contextMapMap.keySet());
 	}
 
 	protected Set<Domain> getAllDomains() {
-		return Sets.newHashSet(this.domainMap.keySet());
+		return Collections.unmodifiableSet(this.domainMap.keySet());
 	}
 
 	protected Set<UserRequirement> getAllUserRequirements() {
-		return Sets.newHashSet(this.userRequirementMap.keySet());
+		return Collections.unmodifiableSet(this.userRequirementMap.keySet());
+	}
+
+	/**
+	 * Finds the Bounded Context with the given name. If the root resource and
+	 * imported resources contain multiple Bounded Contexts with that name, the one
+	 * of the root resource is returned.
+	 * 
+	 * The name index is built when the refactoring starts; Bounded Contexts
+	 * created or renamed by the refactoring itself are not reflected.
+	 */
+	protected Optional<BoundedContext> findBoundedContext(String name) {
+		return getBoundedContexts(name).stream().findFirst();
+	}
+
+	/**
+	 * Returns all Bounded Contexts with the given name (the root resource and
+	 * imported resources may contain multiple instances).
+	 */
+	protected List<BoundedContext> getBoundedContexts(String name) {
+		return getElementsByName(boundedContextsByName, name);
+	}
+
+	protected Optional<Domain> findDomain(String name) {
+		return getElementsByName(domainsByName, name).stream().findFirst();
+	}
+
+	protected Optional<UserRequirement> findUserRequirement(String name) {
+		return getElementsByName(userRequirementsByName, name).stream().findFirst();
 	}
 
 	private void persistResource(CMLResource resource, ISerializer serializer) {
-		Set<String> serializationErrors = serializationDryRun(resource, serializer);
+		// the formatted text of the serialization check is the text we persist
+		CMLResourceWriter writer = new CMLResourceWriter(serializer);
+		Set<String> serializationErrors = Sets.newHashSet();
+		String cml = writer.serialize(resource, serializationErrors);
 		if (!serializationErrors.isEmpty())
 			throw new RefactoringSerializationException(serializationErrors);
 
 		try {
-			resource.save(SaveOptions.newBuilder().format().getOptions().toOptionsMap());
+			writer.write(resource, cml);
 		} catch (IOException e) {
 			throw new RuntimeException("Document cannot be formatted.");
 		}
 	}
 
-	/**
-	 * Tries to serialize a CML resource and returns a set of error messages if it
-	 * does not work.
-	 * 
-	 * @param resource the resource that shall be persisted
-	 * @return an empty set, if there was no error, a non-empty set (with error
-	 *         messages) otherwise
-	 */
-	private Set<String> serializationDryRun(CMLResource resource, ISerializer serializer) {
-		Set<String> errors = Sets.newHashSet();
-		try {
-			serializer.serialize(resource.getContextMappingModel());
-		} catch (Exception e) {
-			errors.add(e.getMessage());
-		}
-		return errors;
-	}
-
 	protected CMLResource getResource(BoundedContext bc) {
 		CMLResource result = this.boundedContextsMap.get(bc);
 		return result;
 	}
 
 	private void resolveRootElements() {
+		clearRootElements();
 		resolveAllRootElements(rootResource);
 		for (CMLResource importedResource : importedResources) {
 			resolveAllRootElements(importedResource);
 		}
 	}
 
+	private void clearRootElements() {
+		this.boundedContextsMap.clear();
+		this.contextMapMap.clear();
+		this.domainMap.clear();
+		this.userRequirementMap.clear();
+		this.boundedContextsByName.clear();
+		this.domainsByName.clear();
+		this.userRequirementsByName.clear();
+	}
+
 	private void resolveAllRootElements(CMLResource importedResource) {
 		resolveBoundedContexts(importedResource);
 		resolveContextMaps(importedResource);
@@ -175,6 +209,7 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 	private void resolveBoundedContexts(CMLResource resource) {
 		for (BoundedContext bc : resource.getContextMappingModel().getBoundedContexts()) {
 			this.boundedContextsMap.put(bc, resource);
+			indexByName(boundedContextsByName, bc.getName(), bc);
 		}
 	}
 
@@ -190,15 +225,27 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 	private void resolveDomains(CMLResource resource) {
 		for (Domain domain : resource.getContextMappingModel().getDomains()) {
 			this.domainMap.put(domain, resource);
+			indexByName(domainsByName, domain.getName(), domain);
 		}
 	}
 
 	private void resolveUserRequirements(CMLResource resource) {
 		for (UserRequirement userRequirement : resource.getContextMappingModel().getUserRequirements()) {
 			this.userRequirementMap.put(userRequirement, resource);
+			indexByName(userRequirementsByName, userRequirement.getName(), userRequirement);
 		}
 	}
 
+	private <T> void indexByName(Map<String, List<T>> index, String name, T element) {
+		if (name != null)
+			index.computeIfAbsent(name, key -> Lists.newArrayList()).add(element);
+	}
+
+	private <T> List<T> getElementsByName(Map<String, List<T>> index, String name) {
+		List<T> elements = index.get(name);
+		return elements != null ? Collections.unmodifiableList(elements) : Collections.emptyList();
+	}
+
 	/**
 	 * Checks whether source contains an import statement to target.
 	 */
@@ -211,27 +258,33 @@ public abstract class AbstractRefactoring implements SemanticCMLRefactoring {
 	}
 
 	protected <T> void addElementsToEList(EList<T> list, List<T> elementsToAdd) {
-		// ugly workaround (clear list and add all again); otherwise list is not
-		// properly updated when saving ecore model :(
-		List<T> tempList = Lists.newArrayList(list);
-		list.clear();
-		list.addAll(tempList);
 		list.addAll(elementsToAdd);
+		modifiedLists.add(list);
 	}
 
 	protected <T> void addElementToEList(EList<T> list, T elementToAdd) {
-		// ugly workaround (clear list and add all again); otherwise list is not
-		// properly updated when saving ecore model :(
-		List<T> tempList = Lists.newArrayList(list);
-		list.clear();
-		list.addAll(tempList);
 		list.add(elementToAdd);
+		modifiedLists.add(list);
 	}
 
 	protected <T> void removeElementFromEList(EList<T> list, T object) {
+		list.remove(object);
+		modifiedLists.add(list);
+	}
+
+	/**
+	 * Re-adds the elements of all lists changed with the methods above, once per
+	 * list after the refactoring has been applied (instead of after every
+	 * single change).
+	 */
+	private void refreshModifiedLists() {
+		for (EList<?> list : modifiedLists)
+			refreshList(list);
+	}
+
+	private <T> void refreshList(EList<T> list) {
 		// ugly workaround (clear list and add all again); otherwise list is not
 		// properly updated when saving ecore model :(
-		list.remove(object);
 		List<T> tempList = Lists.newArrayList(list);
 		list.clear();
 		list.addAll(tempList);
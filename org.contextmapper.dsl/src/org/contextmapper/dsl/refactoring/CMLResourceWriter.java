@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import org.contextmapper.dsl.cml.CMLResource;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.xtext.parser.IEncodingProvider;
+import org.eclipse.xtext.resource.SaveOptions;
+import org.eclipse.xtext.resource.XtextResource;
+import org.eclipse.xtext.serializer.ISerializer;
+
+import com.google.common.collect.Sets;
+
+/**
+ * Persists refactored CML resources with a single (formatting) serialization:
+ * the text that is produced to check whether a resource can be serialized is
+ * the text that is written to its file.
+ */
+class CMLResourceWriter {
+
+	private final ISerializer serializer;
+
+	CMLResourceWriter(ISerializer serializer) {
+		this.serializer = serializer;
+	}
+
+	/**
+	 * Serializes and formats the CML model of the given resource.
+	 *
+	 * @param resource the resource that shall be persisted
+	 * @param errors   the set to which the error message is added, if the model
+	 *                 cannot be serialized
+	 * @return the formatted CML, or null if the model cannot be serialized
+	 */
+	String serialize(Resource resource, Set<String> errors) {
+		CMLResource cmlResource = new CMLResource(resource);
+		try {
+			return serializer.serialize(cmlResource.getContextMappingModel(), SaveOptions.newBuilder().format().getOptions());
+		} catch (RuntimeException e) {
+			// report the errors of the plain serialization (as before); a failure that
+			// only occurs while formatting is not a serialization error
+			Set<String> serializationErrors = serializationDryRun(cmlResource);
+			if (serializationErrors.isEmpty())
+				throw e;
+			errors.addAll(serializationErrors);
+			return null;
+		}
+	}
+
+	/**
+	 * Writes the (serialized) CML to the file of the given resource.
+	 */
+	void write(Resource resource, String cml) throws IOException {
+		URIConverter uriConverter = resource.getResourceSet() != null ? resource.getResourceSet().getURIConverter() : URIConverter.INSTANCE;
+		byte[] bytes = cml.getBytes(getEncoding(resource));
+		try (OutputStream outputStream = uriConverter.createOutputStream(resource.getURI())) {
+			outputStream.write(bytes);
+		}
+		resource.setModified(false);
+	}
+
+	private Set<String> serializationDryRun(CMLResource resource) {
+		Set<String> errors = Sets.newHashSet();
+		try {
+			serializer.serialize(resource.getContextMappingModel());
+		} catch (Exception e) {
+			errors.add(e.getMessage());
+		}
+		return errors;
+	}
+
+	private String getEncoding(Resource resource) {
+		if (resource instanceof CMLResource && resource.getResourceSet() != null)
+			resource = resource.getResourceSet().getResource(resource.getURI(), false);
+		// resources without a registered language have no resource service provider
+		if (resource instanceof XtextResource && ((XtextResource) resource).getResourceServiceProvider() != null) {
+			IEncodingProvider encodingProvider = ((XtextResource) resource).getResourceServiceProvider().get(IEncodingProvider.class);
+			if (encodingProvider != null && encodingProvider.getEncoding(resource.getURI()) != null)
+				return encodingProvider.getEncoding(resource.getURI());
+		}
+		return StandardCharsets.UTF_8.name();
+	}
+
+}
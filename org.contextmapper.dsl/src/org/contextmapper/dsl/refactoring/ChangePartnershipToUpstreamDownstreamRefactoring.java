@@ -89,7 +89,7 @@ public class ChangePartnershipToUpstreamDownstreamRefactoring extends AbstractRe
 	}
 
 	private BoundedContext getBoundedContext(String name) {
-		return getAllBoundedContexts().stream().filter(bc -> bc.getName().equals(name)).findFirst().get();
+		return findBoundedContext(name).get();
 	}
 
 	private SymmetricRelationship getMatchingRelationship() {
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
+import org.contextmapper.dsl.contextMappingDSL.ContextMap;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLPackage;
+import org.contextmapper.dsl.contextMappingDSL.Relationship;
+import org.contextmapper.dsl.contextMappingDSL.SymmetricRelationship;
+import org.contextmapper.dsl.contextMappingDSL.UpstreamDownstreamRelationship;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Index of the relationships on a Context Map by the names of the Bounded
+ * Contexts they involve.
+ *
+ * The index is attached to the Context Map (and to its relationships and
+ * their participants) as an adapter and kept in sync with the model: added
+ * and removed relationships and replaced participants update the index
+ * directly; renamed Bounded Contexts cause the index to be rebuilt on the
+ * next query. The index detaches itself from removed relationships and from
+ * Bounded Contexts that are neither participants of an indexed relationship
+ * nor contained in the Context Map anymore.
+ */
+public class ContextMapRelationshipIndex extends AdapterImpl {
+
+	private final ContextMap contextMap;
+	private final Map<String, Set<Relationship>> relationshipsByContextName = new HashMap<>();
+	// participants per relationship at the time it has been indexed
+	private final Map<Relationship, List<BoundedContext>> indexedRelationships = new HashMap<>();
+	// number of references (participations and 'contains') per observed context
+	private final Map<BoundedContext, Integer> observedContexts = new HashMap<>();
+	private List<BoundedContext> contextMapContexts;
+	private Set<String> contextMapContextNames;
+	private Map<Relationship, Integer> relationshipPositions;
+	private boolean upToDate = false;
+
+	private ContextMapRelationshipIndex(ContextMap contextMap) {
+		this.contextMap = contextMap;
+	}
+
+	/**
+	 * Returns the relationship index of the given Context Map. Creates and
+	 * registers the index if the Context Map has none yet.
+	 */
+	public static ContextMapRelationshipIndex get(ContextMap contextMap) {
+		ContextMapRelationshipIndex index = (ContextMapRelationshipIndex) EcoreUtil.getExistingAdapter(contextMap, ContextMapRelationshipIndex.class);
+		if (index == null) {
+			index = new ContextMapRelationshipIndex(contextMap);
+			contextMap.eAdapters().add(index);
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the relationships that involve a Bounded Context with the given
+	 * name, in the order of the relationships on the Context Map.
+	 */
+	public Set<Relationship> getRelationships(String boundedContextName) {
+		ensureUpToDate();
+		Set<Relationship> relationships = relationshipsByContextName.get(boundedContextName);
+		if (relationships == null)
+			return Collections.emptySet();
+		if (relationships.size() < 2)
+			return Collections.unmodifiableSet(relationships);
+		Map<Relationship, Integer> positions = getRelationshipPositions();
+		return Collections.unmodifiableSet(relationships.stream().sorted(Comparator.comparing(positions::get))
+				.collect(Collectors.toCollection(LinkedHashSet::new)));
+	}
+
+	/**
+	 * Checks whether the Context Map contains ('contains' keyword) a Bounded
+	 * Context with the given name.
+	 */
+	public boolean containsBoundedContext(String boundedContextName) {
+		if (contextMapContextNames == null) {
+			contextMapContexts = Lists.newArrayList(contextMap.getBoundedContexts());
+			contextMapContextNames = new HashSet<>();
+			for (BoundedContext bc : contextMapContexts) {
+				observe(bc);
+				contextMapContextNames.add(bc.getName());
+			}
+		}
+		return contextMapContextNames.contains(boundedContextName);
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == ContextMapRelationshipIndex.class;
+	}
+
+	@Override
+	public void notifyChanged(Notification notification) {
+		if (notification.isTouch())
+			return;
+		Object feature = notification.getFeature();
+		if (feature == ContextMappingDSLPackage.Literals.CONTEXT_MAP__RELATIONSHIPS) {
+			relationshipsChanged(notification);
+		} else if (feature == ContextMappingDSLPackage.Literals.CONTEXT_MAP__BOUNDED_CONTEXTS) {
+			invalidateContextMapContexts();
+		} else if (feature == ContextMappingDSLPackage.Literals.BOUNDED_CONTEXT__NAME) {
+			upToDate = false;
+			invalidateContextMapContexts();
+		} else if (isParticipantFeature(feature) && notification.getEventType() != Notification.RESOLVE) {
+			participantChanged((Relationship) notification.getNotifier());
+		}
+	}
+
+	@Override
+	public void setTarget(Notifier newTarget) {
+		// the index is registered on the relationships and Bounded Contexts too, but
+		// its target remains the Context Map
+		if (newTarget == contextMap)
+			super.setTarget(newTarget);
+	}
+
+	@Override
+	public void unsetTarget(Notifier oldTarget) {
+		if (oldTarget == contextMap)
+			super.unsetTarget(oldTarget);
+	}
+
+	private void relationshipsChanged(Notification notification) {
+		relationshipPositions = null;
+		// removed relationships are released even if the index is rebuilt anyway
+		switch (notification.getEventType()) {
+		case Notification.ADD:
+			if (upToDate)
+				index((Relationship) notification.getNewValue());
+			break;
+		case Notification.ADD_MANY:
+			if (upToDate)
+				for (Object relationship : (Collection<?>) notification.getNewValue())
+					index((Relationship) relationship);
+			break;
+		case Notification.SET:
+			unindex((Relationship) notification.getOldValue());
+			if (upToDate)
+				index((Relationship) notification.getNewValue());
+			break;
+		case Notification.REMOVE:
+			unindex((Relationship) notification.getOldValue());
+			break;
+		case Notification.REMOVE_MANY:
+			for (Object relationship : (Collection<?>) notification.getOldValue())
+				unindex((Relationship) relationship);
+			break;
+		case Notification.MOVE:
+			break;
+		default:
+			upToDate = false;
+		}
+	}
+
+	private void participantChanged(Relationship relationship) {
+		if (!indexedRelationships.containsKey(relationship))
+			return;
+		unindex(relationship);
+		index(relationship);
+	}
+
+	private void ensureUpToDate() {
+		if (upToDate)
+			return;
+		clear();
+		for (Relationship relationship : contextMap.getRelationships())
+			index(relationship);
+		upToDate = true;
+	}
+
+	private Map<Relationship, Integer> getRelationshipPositions() {
+		if (relationshipPositions == null) {
+			relationshipPositions = new HashMap<>();
+			List<Relationship> relationships = contextMap.getRelationships();
+			for (int i = 0; i < relationships.size(); i++)
+				relationshipPositions.put(relationships.get(i), i);
+		}
+		return relationshipPositions;
+	}
+
+	private void invalidateContextMapContexts() {
+		if (contextMapContexts != null)
+			contextMapContexts.forEach(this::release);
+		contextMapContexts = null;
+		contextMapContextNames = null;
+	}
+
+	private void clear() {
+		for (Relationship relationship : Lists.newArrayList(indexedRelationships.keySet()))
+			unindex(relationship);
+		relationshipsByContextName.clear();
+		relationshipPositions = null;
+	}
+
+	private void index(Relationship relationship) {
+		if (relationship == null || indexedRelationships.containsKey(relationship))
+			return;
+		List<BoundedContext> participants = getParticipants(relationship);
+		indexedRelationships.put(relationship, participants);
+		relationship.eAdapters().add(this);
+		for (BoundedContext participant : participants) {
+			observe(participant);
+			relationshipsByContextName.computeIfAbsent(participant.getName(), name -> new LinkedHashSet<>()).add(relationship);
+		}
+	}
+
+	private void unindex(Relationship relationship) {
+		List<BoundedContext> participants = indexedRelationships.remove(relationship);
+		if (participants == null)
+			return;
+		relationship.eAdapters().remove(this);
+		for (BoundedContext participant : participants) {
+			Set<Relationship> relationships = relationshipsByContextName.get(participant.getName());
+			if (relationships != null)
+				relationships.remove(relationship);
+			release(participant);
+		}
+	}
+
+	private void observe(BoundedContext bc) {
+		// renamed Bounded Contexts invalidate the index
+		if (observedContexts.merge(bc, 1, Integer::sum) == 1)
+			bc.eAdapters().add(this);
+	}
+
+	private void release(BoundedContext bc) {
+		Integer references = observedContexts.get(bc);
+		if (references == null)
+			return;
+		if (references > 1) {
+			observedContexts.put(bc, references - 1);
+		} else {
+			observedContexts.remove(bc);
+			bc.eAdapters().remove(this);
+		}
+	}
+
+	private List<BoundedContext> getParticipants(Relationship relationship) {
+		List<BoundedContext> participants = Lists.newArrayList();
+		if (relationship instanceof SymmetricRelationship) {
+			addParticipant(participants, ((SymmetricRelationship) relationship).getParticipant1());
+			addParticipant(participants, ((SymmetricRelationship) relationship).getParticipant2());
+		} else if (relationship instanceof UpstreamDownstreamRelationship) {
+			addParticipant(participants, ((UpstreamDownstreamRelationship) relationship).getUpstream());
+			addParticipant(participants, ((UpstreamDownstreamRelationship) relationship).getDownstream());
+		}
+		return participants;
+	}
+
+	private void addParticipant(List<BoundedContext> participants, BoundedContext participant) {
+		if (participant != null && participant.getName() != null)
+			participants.add(participant);
+	}
+
+	private boolean isParticipantFeature(Object feature) {
+		return feature == ContextMappingDSLPackage.Literals.SYMMETRIC_RELATIONSHIP__PARTICIPANT1
+				|| feature == ContextMappingDSLPackage.Literals.SYMMETRIC_RELATIONSHIP__PARTICIPANT2
+				|| feature == ContextMappingDSLPackage.Literals.UPSTREAM_DOWNSTREAM_RELATIONSHIP__UPSTREAM
+				|| feature == ContextMappingDSLPackage.Literals.UPSTREAM_DOWNSTREAM_RELATIONSHIP__DOWNSTREAM;
+	}
+
+}
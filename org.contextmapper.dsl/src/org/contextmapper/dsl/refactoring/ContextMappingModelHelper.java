@@ -32,9 +32,11 @@ import com.google.common.collect.Lists;
 public class ContextMappingModelHelper {
 
 	private ContextMap contextMap;
+	private ContextMapRelationshipIndex relationshipIndex;
 
 	public ContextMappingModelHelper(ContextMap contextMap) {
 		this.contextMap = contextMap;
+		this.relationshipIndex = ContextMapRelationshipIndex.get(contextMap);
 	}
 
 	/**
@@ -42,7 +44,7 @@ public class ContextMappingModelHelper {
 	 */
 	public List<Relationship> findAnyRelationshipsBetweenTwoContexts(BoundedContext bc1, BoundedContext bc2) {
 		List<Relationship> relationships = Lists.newArrayList();
-		for (Relationship relationship : contextMap.getRelationships()) {
+		for (Relationship relationship : relationshipIndex.getRelationships(bc1.getName())) {
 			if (relationship instanceof SymmetricRelationship) {
 				SymmetricRelationship symRelationship = (SymmetricRelationship) relationship;
 				if ((symRelationship.getParticipant1().getName().equals(bc1.getName()) && symRelationship.getParticipant2().getName().equals(bc2.getName()))
@@ -62,19 +64,7 @@ public class ContextMappingModelHelper {
 	 * Finds all relationships that involve a specific Bounded Context.
 	 */
 	public List<Relationship> findAnyRelationshipsInvolvingContext(BoundedContext bc) {
-		List<Relationship> relationships = Lists.newArrayList();
-		for (Relationship relationship : contextMap.getRelationships()) {
-			if (relationship instanceof SymmetricRelationship) {
-				SymmetricRelationship symRelationship = (SymmetricRelationship) relationship;
-				if (symRelationship.getParticipant1().getName().endsWith(bc.getName()) || symRelationship.getParticipant2().getName().equals(bc.getName()))
-					relationships.add(symRelationship);
-			} else if (relationship instanceof UpstreamDownstreamRelationship) {
-				UpstreamDownstreamRelationship upDownRelationship = (UpstreamDownstreamRelationship) relationship;
-				if (upDownRelationship.getUpstream().getName().equals(bc.getName()) || upDownRelationship.getDownstream().getName().equals(bc.getName()))
-					relationships.add(upDownRelationship);
-			}
-		}
-		return relationships;
+		return Lists.newArrayList(relationshipIndex.getRelationships(bc.getName()));
 	}
 
 	/**
@@ -84,7 +74,8 @@ public class ContextMappingModelHelper {
 	 */
 	public boolean replaceBCInAllRelationships(BoundedContext originalBC, BoundedContext replacementBC) {
 		boolean replacedAtLeastInOneRelationship = false;
-		for (Relationship relationship : contextMap.getRelationships()) {
+		// copy: replacing the participants updates the index
+		for (Relationship relationship : Lists.newArrayList(relationshipIndex.getRelationships(originalBC.getName()))) {
 			if (relationship instanceof SymmetricRelationship) {
 				SymmetricRelationship symRelationship = (SymmetricRelationship) relationship;
 				if (symRelationship.getParticipant1().getName().equals(originalBC.getName())) {
@@ -107,7 +98,7 @@ public class ContextMappingModelHelper {
 				}
 			}
 		}
-		if (replacedAtLeastInOneRelationship && !contextMap.getBoundedContexts().stream().map(bc -> bc.getName()).collect(Collectors.toSet()).contains(replacementBC.getName()))
+		if (replacedAtLeastInOneRelationship && !relationshipIndex.containsBoundedContext(replacementBC.getName()))
 			contextMap.getBoundedContexts().add(replacementBC);
 		return replacedAtLeastInOneRelationship;
 	}
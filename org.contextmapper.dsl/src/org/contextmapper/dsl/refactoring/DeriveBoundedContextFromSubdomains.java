@@ -221,8 +221,7 @@ public class DeriveBoundedContextFromSubdomains extends AbstractRefactoring impl
 	}
 
 	private BoundedContext createOrGetBoundedContext(String boundedContextName) {
-		Optional<BoundedContext> optContext = getAllBoundedContexts().stream()
-				.filter(bc -> boundedContextName.equals(bc.getName())).findFirst();
+		Optional<BoundedContext> optContext = findBoundedContext(boundedContextName);
 		if (optContext.isPresent())
 			return optContext.get();
 		BoundedContext newBC = ContextMappingDSLFactory.eINSTANCE.createBoundedContext();
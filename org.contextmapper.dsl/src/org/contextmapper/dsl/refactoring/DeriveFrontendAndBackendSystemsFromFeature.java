@@ -55,7 +55,7 @@ public class DeriveFrontendAndBackendSystemsFromFeature extends AbstractRefactor
 		checkPreconditions();
 		deleteExistingContexts();
 
-		BoundedContext featureContext = getAllBoundedContexts().stream().filter(bc -> bc.getName().equals(featureBoundedContextName)).findFirst().get();
+		BoundedContext featureContext = findBoundedContext(featureBoundedContextName).get();
 
 		BoundedContext backend = EcoreUtil.copy(featureContext);
 		backend.setType(BoundedContextType.SYSTEM);
@@ -135,7 +135,7 @@ public class DeriveFrontendAndBackendSystemsFromFeature extends AbstractRefactor
 	}
 
 	private void checkPreconditions() {
-		Optional<BoundedContext> optFeatureBC = getAllBoundedContexts().stream().filter(bc -> bc.getName().equals(featureBoundedContextName)).findFirst();
+		Optional<BoundedContext> optFeatureBC = findBoundedContext(featureBoundedContextName);
 		if (!optFeatureBC.isPresent())
 			throw new RefactoringInputException("A Bounded Context with the name '" + featureBoundedContextName + "' does not exist!");
 		BoundedContext featureBC = optFeatureBC.get();
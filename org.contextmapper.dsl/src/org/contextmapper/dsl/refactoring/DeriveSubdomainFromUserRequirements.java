@@ -205,7 +205,7 @@ public class DeriveSubdomainFromUserRequirements extends AbstractRefactoring imp
 		if (domainName == null || "".equals(domainName))
 			throw new RefactoringInputException("Please provide a name for the domain where the new subdomain shall be added.");
 
-		Optional<Domain> optDomain = getAllDomains().stream().filter(d -> domainName.equals(d.getName())).findFirst();
+		Optional<Domain> optDomain = findDomain(domainName);
 		if (optDomain.isPresent())
 			return optDomain.get();
 
@@ -231,9 +231,8 @@ public class DeriveSubdomainFromUserRequirements extends AbstractRefactoring imp
 
 	private Set<UserRequirement> collectUserRequirements() {
 		Set<UserRequirement> userRequirements = Sets.newHashSet();
-		Set<UserRequirement> allUserRequirements = getAllUserRequirements();
 		for (String urName : this.userRequiremendIds) {
-			Optional<UserRequirement> optUR = allUserRequirements.stream().filter(ur -> urName.equals(ur.getName())).findFirst();
+			Optional<UserRequirement> optUR = findUserRequirement(urName);
 			if (optUR.isPresent())
 				userRequirements.add(optUR.get());
 		}
@@ -17,7 +17,6 @@ package org.contextmapper.dsl.refactoring;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import org.contextmapper.dsl.contextMappingDSL.Aggregate;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
@@ -70,7 +69,7 @@ public class ExtractAggregatesByCohesion extends AbstractRefactoring implements
 	}
 
 	private void initOriginalBC() {
-		List<BoundedContext> bcsWithGivenInputName = getAllBoundedContexts().stream().filter(bc -> bc.getName().equals(boundedContextName)).collect(Collectors.toList());
+		List<BoundedContext> bcsWithGivenInputName = getBoundedContexts(boundedContextName);
 		this.originalBC = bcsWithGivenInputName.get(0);
 	}
 
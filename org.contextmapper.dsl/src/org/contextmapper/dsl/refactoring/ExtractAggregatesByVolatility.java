@@ -71,7 +71,7 @@ public class ExtractAggregatesByVolatility extends AbstractRefactoring implement
 	}
 
 	private void initOriginalBC() {
-		List<BoundedContext> bcsWithGivenInputName = getAllBoundedContexts().stream().filter(bc -> bc.getName().equals(boundedContextName)).collect(Collectors.toList());
+		List<BoundedContext> bcsWithGivenInputName = getBoundedContexts(boundedContextName);
 		this.originalBC = bcsWithGivenInputName.get(0);
 	}
 
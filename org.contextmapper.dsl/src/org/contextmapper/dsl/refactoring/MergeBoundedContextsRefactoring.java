@@ -54,8 +54,8 @@ public class MergeBoundedContextsRefactoring extends AbstractRefactoring impleme
 		if (boundedContext1.equals(boundedContext2))
 			return;
 
-		Optional<BoundedContext> optionalBC1 = getAllBoundedContexts().stream().filter(bc -> bc.getName().equals(boundedContext1)).findFirst();
-		Optional<BoundedContext> optionalBC2 = getAllBoundedContexts().stream().filter(bc -> bc.getName().equals(boundedContext2)).findFirst();
+		Optional<BoundedContext> optionalBC1 = findBoundedContext(boundedContext1);
+		Optional<BoundedContext> optionalBC2 = findBoundedContext(boundedContext2);
 
 		// do nothing if one of the BCs does not exist
 		if (!optionalBC1.isPresent() || !optionalBC2.isPresent())
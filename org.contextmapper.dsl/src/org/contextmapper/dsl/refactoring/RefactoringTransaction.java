@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.refactoring;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+import org.contextmapper.dsl.exception.RefactoringSerializationException;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.xtext.serializer.ISerializer;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+/**
+ * Applies a sequence of refactorings to a CML model in memory and persists the
+ * result once.
+ *
+ * Other than calling 'persistChanges' after every refactoring, the
+ * transaction serializes (and formats) each modified resource exactly once, on
+ * {@link #commit(ISerializer)}. The serialization of all modified resources is
+ * checked before the first file is written; if one of them cannot be
+ * serialized, no file is written and the transaction is rolled back.
+ *
+ * A rollback reloads the modified resources from their files. Model elements
+ * obtained before the rollback are not part of the reloaded resources anymore;
+ * use {@link CMLResource#getContextMappingModel()} to get the model again.
+ */
+public class RefactoringTransaction {
+
+	private final CMLResource resource;
+	private final ResourceSet consistencyCheckResources;
+	private boolean completed = false;
+
+	/**
+	 * @param resource the resource with the CML model that shall be refactored
+	 */
+	public RefactoringTransaction(CMLResource resource) {
+		this(resource, null);
+	}
+
+	/**
+	 * @param resource                  the resource with the CML model that shall
+	 *                                  be refactored
+	 * @param consistencyCheckResources the resources that contain Context Maps
+	 *                                  which potentially have to be corrected
+	 *                                  after refactoring (see
+	 *                                  {@link SemanticCMLRefactoring#refactor(CMLResource, ResourceSet)})
+	 */
+	public RefactoringTransaction(CMLResource resource, ResourceSet consistencyCheckResources) {
+		this.resource = resource;
+		this.consistencyCheckResources = consistencyCheckResources;
+	}
+
+	/**
+	 * Applies the refactoring to the model in memory; nothing is persisted before
+	 * {@link #commit(ISerializer)} is called. If the refactoring fails, the
+	 * transaction is rolled back and the exception is rethrown.
+	 *
+	 * @param refactoring the refactoring that shall be applied
+	 * @return this transaction, to apply further refactorings
+	 */
+	public RefactoringTransaction apply(SemanticCMLRefactoring refactoring) {
+		checkNotCompleted();
+		try {
+			if (consistencyCheckResources != null)
+				refactoring.refactor(resource, consistencyCheckResources);
+			else
+				refactoring.refactor(resource);
+		} catch (RuntimeException e) {
+			rollback();
+			throw e;
+		}
+		return this;
+	}
+
+	/**
+	 * Serializes and formats all resources modified by the applied refactorings
+	 * and writes them to their files.
+	 *
+	 * @param serializer the serializer that is used to persist the model
+	 * @throws RefactoringSerializationException if one of the modified resources
+	 *                                           cannot be serialized (the
+	 *                                           transaction is rolled back in
+	 *                                           this case)
+	 */
+	public void commit(ISerializer serializer) {
+		checkNotCompleted();
+		CMLResourceWriter writer = new CMLResourceWriter(serializer);
+		Map<Resource, String> serializedResources = Maps.newLinkedHashMap();
+		Set<String> serializationErrors = Sets.newLinkedHashSet();
+		try {
+			for (Resource modifiedResource : getModifiedResources())
+				serializedResources.put(modifiedResource, writer.serialize(modifiedResource, serializationErrors));
+		} catch (RuntimeException e) {
+			rollback();
+			throw e;
+		}
+		if (!serializationErrors.isEmpty()) {
+			rollback();
+			throw new RefactoringSerializationException(serializationErrors);
+		}
+
+		for (Map.Entry<Resource, String> serializedResource : serializedResources.entrySet()) {
+			try {
+				writer.write(serializedResource.getKey(), serializedResource.getValue());
+			} catch (IOException e) {
+				throw new ContextMapperApplicationException("The CML file '" + serializedResource.getKey().getURI() + "' could not be written.", e);
+			}
+		}
+		completed = true;
+	}
+
+	/**
+	 * Discards the changes of all applied refactorings by reloading the modified
+	 * resources from their files.
+	 */
+	public void rollback() {
+		checkNotCompleted();
+		completed = true;
+		for (Resource modifiedResource : getModifiedResources()) {
+			modifiedResource.unload();
+			try {
+				modifiedResource.load(modifiedResource.getResourceSet() != null ? modifiedResource.getResourceSet().getLoadOptions() : null);
+			} catch (IOException e) {
+				throw new ContextMapperApplicationException("The CML file '" + modifiedResource.getURI() + "' could not be reloaded.", e);
+			}
+		}
+	}
+
+	private Collection<Resource> getModifiedResources() {
+		Map<URI, Resource> modifiedResources = Maps.newLinkedHashMap();
+		if (resource.getResourceSet() == null && resource.isModified())
+			modifiedResources.put(resource.getURI(), resource);
+		if (resource.getResourceSet() != null)
+			collectModifiedResources(resource.getResourceSet(), modifiedResources);
+		if (consistencyCheckResources != null)
+			collectModifiedResources(consistencyCheckResources, modifiedResources);
+		return modifiedResources.values();
+	}
+
+	private void collectModifiedResources(ResourceSet resourceSet, Map<URI, Resource> modifiedResources) {
+		for (Resource resourceInSet : resourceSet.getResources()) {
+			if (resourceInSet.isModified())
+				modifiedResources.putIfAbsent(resourceInSet.getURI(), resourceInSet);
+		}
+	}
+
+	private void checkNotCompleted() {
+		if (completed)
+			throw new IllegalStateException("The refactoring transaction has already been committed or rolled back.");
+	}
+
+}
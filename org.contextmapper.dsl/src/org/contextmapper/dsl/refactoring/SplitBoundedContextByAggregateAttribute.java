@@ -20,7 +20,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -90,11 +89,8 @@ public class SplitBoundedContextByAggregateAttribute extends AbstractRefactoring
 	}
 
 	private void initOriginalBC() {
-		Set<BoundedContext> allBCs = getAllBoundedContexts();
-		Set<BoundedContext> bcsWithGivenInputName = allBCs.stream().filter(bc -> bc.getName().equals(boundedContextName)).collect(Collectors.toSet());
-
 		// xtext validators must ensure that we get only one BC here:
-		this.originalBC = bcsWithGivenInputName.iterator().next();
+		this.originalBC = getBoundedContexts(boundedContextName).get(0);
 	}
 
 	private void adjustContextMaps(BoundedContext newBC, List<Aggregate> extractedAggregates) {
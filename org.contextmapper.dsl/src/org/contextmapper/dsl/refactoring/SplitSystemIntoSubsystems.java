@@ -58,7 +58,7 @@ public class SplitSystemIntoSubsystems extends AbstractRefactoring implements Se
 		checkPreconditions();
 		deleteExistingContexts();
 
-		BoundedContext systemContext = getAllBoundedContexts().stream().filter(bc -> bc.getName().equals(systemExistingBoundedContextName)).findFirst().get();
+		BoundedContext systemContext = findBoundedContext(systemExistingBoundedContextName).get();
 		renameBoundedContext(systemContext.getName(), existingSubsystemName);
 
 		BoundedContext newSubsystemContext = createNewSubsystemBC(systemContext);
@@ -92,7 +92,7 @@ public class SplitSystemIntoSubsystems extends AbstractRefactoring implements Se
 	}
 
 	private void renameBoundedContext(String currentName, String newName) {
-		List<BoundedContext> allInstances = getAllBoundedContexts().stream().filter(bc -> bc.getName().equals(systemExistingBoundedContextName)).collect(Collectors.toList());
+		List<BoundedContext> allInstances = Lists.newArrayList(getBoundedContexts(systemExistingBoundedContextName));
 		for (ContextMap contextMap : getAllContextMaps()) {
 			allInstances.addAll(contextMap.getBoundedContexts().stream().filter(bc -> bc.getName().equals(systemExistingBoundedContextName)).collect(Collectors.toList()));
 			allInstances.addAll(getAllRelationshipContextsByName(contextMap, currentName));
@@ -165,7 +165,7 @@ public class SplitSystemIntoSubsystems extends AbstractRefactoring implements Se
 	}
 
 	private void checkPreconditions() {
-		Optional<BoundedContext> optSystemBC = getAllBoundedContexts().stream().filter(bc -> bc.getName().equals(systemExistingBoundedContextName)).findFirst();
+		Optional<BoundedContext> optSystemBC = findBoundedContext(systemExistingBoundedContextName);
 		if (!optSystemBC.isPresent())
 			throw new RefactoringInputException("A Bounded Context with the name '" + systemExistingBoundedContextName + "' does not exist!");
 		BoundedContext systemBC = optSystemBC.get();
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.standalone;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * Loads a batch of CML files in two phases:
+ *
+ * 1. Parsing: every distinct file is parsed on the given executor, each one
+ * into its own resource set. Cross-references are not resolved yet (Xtext
+ * links lazily), so the parser workers are independent of each other.
+ *
+ * 2. Linking: the parsed resources are moved into one shared resource set in
+ * the order of the given files and all cross-references are resolved on the
+ * calling thread. Imports that are part of the batch are therefore resolved to
+ * the already parsed resources; all other imports are loaded into the shared
+ * resource set on demand.
+ */
+class CMLBatchLoader {
+
+	private final Executor executor;
+
+	CMLBatchLoader(Executor executor) {
+		this.executor = executor;
+	}
+
+	List<CMLResource> loadAll(Collection<File> cmlFiles) {
+		Map<Path, CompletableFuture<Resource>> parsedFiles = new LinkedHashMap<>();
+		for (File file : cmlFiles) {
+			Path path = file.getAbsoluteFile().toPath().normalize();
+			if (!parsedFiles.containsKey(path))
+				parsedFiles.put(path, CompletableFuture.supplyAsync(() -> parse(path), executor));
+		}
+
+		ResourceSet resourceSet = new ResourceSetImpl();
+		for (CompletableFuture<Resource> parsedFile : parsedFiles.values())
+			resourceSet.getResources().add(await(parsedFile));
+		EcoreUtil.resolveAll(resourceSet);
+
+		List<CMLResource> resources = new ArrayList<>();
+		for (File file : cmlFiles)
+			resources.add(new CMLResource(await(parsedFiles.get(file.getAbsoluteFile().toPath().normalize()))));
+		return resources;
+	}
+
+	private Resource parse(Path path) {
+		return new ResourceSetImpl().getResource(URI.createFileURI(path.toString()), true);
+	}
+
+	private Resource await(CompletableFuture<Resource> parsedFile) {
+		try {
+			return parsedFile.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new ContextMapperApplicationException("Could not load CML file.", e.getCause());
+		}
+	}
+
+}
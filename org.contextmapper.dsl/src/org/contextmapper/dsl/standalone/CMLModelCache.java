@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.standalone;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+
+/**
+ * Cache of parsed CML models, backed by one shared resource set.
+ *
+ * Every file resource loaded through the shared resource set (the requested
+ * models as well as their imports) is cached under its absolute path and
+ * reused as long as the modification time and size of the file do not change.
+ * Stale resources are unloaded and parsed again. The files are checked once
+ * per {@link #getResource(File)} call.
+ *
+ * Note that the cached models are shared: changes made to a model loaded
+ * through the cache are visible to all other users of the cache. The cache is
+ * thread-safe, but the returned models are not.
+ */
+public class CMLModelCache {
+
+	private static final CMLModelCache SHARED_INSTANCE = new CMLModelCache();
+
+	private final CachingResourceSet resourceSet = new CachingResourceSet();
+	private final Map<Path, CacheEntry> entries = new HashMap<>();
+	private long generation = 0;
+	private long hitCount = 0;
+	private long missCount = 0;
+
+	/**
+	 * Returns the cache shared by all users within this JVM.
+	 */
+	public static CMLModelCache getSharedInstance() {
+		return SHARED_INSTANCE;
+	}
+
+	/**
+	 * Returns the (cached) resource of the given file. The file is parsed only if
+	 * it is not cached yet or has been changed since it has been parsed.
+	 */
+	public synchronized Resource getResource(File file) {
+		return getResource(URI.createFileURI(file.getAbsolutePath()));
+	}
+
+	/**
+	 * Returns the (cached) resource of the given URI. File URIs (including
+	 * relative ones) are served from the cache like files; other URIs are loaded
+	 * into the shared resource set without change detection.
+	 */
+	public synchronized Resource getResource(URI uri) {
+		generation++;
+		return resourceSet.getResource(uri, true);
+	}
+
+	/**
+	 * Returns the shared resource set into which all models are loaded.
+	 */
+	public ResourceSet getResourceSet() {
+		return resourceSet;
+	}
+
+	/**
+	 * Returns the number of file loads that have been served from the cache.
+	 */
+	public synchronized long getHitCount() {
+		return hitCount;
+	}
+
+	/**
+	 * Returns the number of file loads that required parsing the file.
+	 */
+	public synchronized long getMissCount() {
+		return missCount;
+	}
+
+	/**
+	 * Returns the number of cached resources.
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Unloads all cached resources and resets the statistics.
+	 */
+	public synchronized void clear() {
+		for (CacheEntry entry : entries.values())
+			evict(entry);
+		entries.clear();
+		hitCount = 0;
+		missCount = 0;
+	}
+
+	private void evict(CacheEntry entry) {
+		entry.resource.unload();
+		resourceSet.getResources().remove(entry.resource);
+	}
+
+	private static class CacheEntry {
+
+		private final Resource resource;
+		private final long lastModified;
+		private final long size;
+		private long checkedInGeneration;
+
+		CacheEntry(Resource resource, long lastModified, long size, long generation) {
+			this.resource = resource;
+			this.lastModified = lastModified;
+			this.size = size;
+			this.checkedInGeneration = generation;
+		}
+
+		boolean isUpToDate(File file) {
+			return resource.isLoaded() && lastModified == file.lastModified() && size == file.length();
+		}
+
+	}
+
+	/**
+	 * Resource set that serves file resources from the cache entries. All loads
+	 * go through {@link #getResource(URI, boolean)}, including the ones of
+	 * imported models and of resolved proxies.
+	 */
+	private class CachingResourceSet extends ResourceSetImpl {
+
+		@Override
+		public Resource getResource(URI uri, boolean loadOnDemand) {
+			if (!uri.isFile() || !loadOnDemand)
+				return super.getResource(uri, loadOnDemand);
+
+			synchronized (CMLModelCache.this) {
+				File file = new File(uri.toFileString()).getAbsoluteFile();
+				Path path = file.toPath().normalize();
+				CacheEntry entry = entries.get(path);
+				if (entry != null) {
+					if (entry.checkedInGeneration == generation)
+						return entry.resource;
+					if (entry.isUpToDate(file)) {
+						entry.checkedInGeneration = generation;
+						hitCount++;
+						return entry.resource;
+					}
+					entries.remove(path);
+					evict(entry);
+				}
+
+				long lastModified = file.lastModified();
+				long size = file.length();
+				Resource resource = super.getResource(URI.createFileURI(path.toString()), true);
+				missCount++;
+				entries.put(path, new CacheEntry(resource, lastModified, size, generation));
+				return resource;
+			}
+		}
+
+	}
+
+}
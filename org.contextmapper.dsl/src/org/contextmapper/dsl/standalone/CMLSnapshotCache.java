@@ -0,0 +1,285 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.standalone;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.log4j.Logger;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.contextmapper.dsl.contextMappingDSL.Import;
+import org.contextmapper.dsl.exception.ContextMapperApplicationException;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl.EObjectInputStream;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl.EObjectOutputStream;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * Persistent cache of linked CML models in EMF's binary resource format.
+ *
+ * For every CML file that has been parsed and linked without errors, a
+ * snapshot is written into the cache directory. The snapshot records the
+ * content hashes (SHA-256) of the file and of all its transitive imports. A
+ * snapshot is only used if all these hashes still match; otherwise the file
+ * is parsed again and the snapshot is replaced.
+ *
+ * Models loaded from a snapshot are regular CML resources without node model
+ * (the original formatting and comments are not available). References to
+ * imported models are resolved through the same cache. Snapshots that cannot
+ * be written (e.g. read-only cache directory) are logged and skipped.
+ */
+public class CMLSnapshotCache {
+
+	private static final Logger LOG = Logger.getLogger(CMLSnapshotCache.class);
+	private static final int FORMAT_VERSION = 1;
+	private static final String SNAPSHOT_FILE_EXTENSION = ".cmlbin";
+
+	private final File cacheDirectory;
+	private final AtomicLong hitCount = new AtomicLong();
+	private final AtomicLong missCount = new AtomicLong();
+
+	public CMLSnapshotCache(File cacheDirectory) {
+		this.cacheDirectory = cacheDirectory;
+	}
+
+	/**
+	 * Returns the resource of the given file; loaded from its snapshot if the
+	 * snapshot is up to date, parsed otherwise.
+	 */
+	public synchronized Resource getResource(File file) {
+		return getResource(toURI(file));
+	}
+
+	/**
+	 * Returns the resource of the given URI. File URIs (including relative ones)
+	 * are loaded like files; other URIs are always parsed.
+	 */
+	public synchronized Resource getResource(URI uri) {
+		SnapshotResourceSet resourceSet = new SnapshotResourceSet();
+		Resource resource = resourceSet.getResource(uri, true);
+		if (!resourceSet.parsedResources.isEmpty())
+			writeSnapshots(resourceSet);
+		return resource;
+	}
+
+	/**
+	 * Returns the number of files that have been loaded from a snapshot.
+	 */
+	public long getHitCount() {
+		return hitCount.get();
+	}
+
+	/**
+	 * Returns the number of files that had to be parsed.
+	 */
+	public long getMissCount() {
+		return missCount.get();
+	}
+
+	private void writeSnapshots(SnapshotResourceSet resourceSet) {
+		Map<Resource, Set<Resource>> imports = new HashMap<>();
+		for (int i = 0; i < resourceSet.getResources().size(); i++) {
+			Resource resource = resourceSet.getResources().get(i);
+			if (isCMLFileResource(resource))
+				imports.put(resource, resolveImports(resourceSet, resource));
+		}
+		EcoreUtil.resolveAll(resourceSet);
+
+		for (Resource resource : resourceSet.parsedResources) {
+			if (!resource.getErrors().isEmpty() || !imports.containsKey(resource))
+				continue;
+			Set<Resource> dependencies = new HashSet<>();
+			if (!collectDependencies(resource, imports, dependencies))
+				continue;
+			try {
+				writeSnapshot(resource, dependencies);
+			} catch (IOException | RuntimeException e) {
+				// the cache is optional: the parsed model is returned anyway
+				LOG.warn("Could not write the snapshot of '" + resource.getURI().toFileString() + "'.", e);
+			}
+		}
+	}
+
+	/**
+	 * Returns the imported CML file resources of the given resource, or null if
+	 * one of the imports cannot be loaded.
+	 */
+	private Set<Resource> resolveImports(SnapshotResourceSet resourceSet, Resource resource) {
+		Set<Resource> importedResources = new HashSet<>();
+		for (Import cmlImport : ((ContextMappingModel) resource.getContents().get(0)).getImports()) {
+			try {
+				Resource importedResource = resourceSet.getResource(URI.createURI(cmlImport.getImportURI()).resolve(resource.getURI()), true);
+				if (importedResource != null && isCMLFileResource(importedResource))
+					importedResources.add(importedResource);
+			} catch (RuntimeException e) {
+				return null;
+			}
+		}
+		return importedResources;
+	}
+
+	private boolean collectDependencies(Resource resource, Map<Resource, Set<Resource>> imports, Set<Resource> dependencies) {
+		if (!dependencies.add(resource))
+			return true;
+		Set<Resource> importedResources = imports.get(resource);
+		if (importedResources == null)
+			return false;
+		for (Resource importedResource : importedResources) {
+			if (!collectDependencies(importedResource, imports, dependencies))
+				return false;
+		}
+		return true;
+	}
+
+	private void writeSnapshot(Resource resource, Set<Resource> dependencies) throws IOException {
+		Map<String, String> hashes = new LinkedHashMap<>();
+		for (Resource dependency : dependencies)
+			hashes.put(dependency.getURI().toFileString(), hash(new File(dependency.getURI().toFileString())));
+
+		Files.createDirectories(cacheDirectory.toPath());
+		Path snapshot = getSnapshotFile(resource.getURI());
+		Path tempFile = Files.createTempFile(cacheDirectory.toPath(), "snapshot", ".tmp");
+		try {
+			try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+				DataOutputStream header = new DataOutputStream(out);
+				header.writeInt(FORMAT_VERSION);
+				header.writeInt(hashes.size());
+				for (Map.Entry<String, String> hash : hashes.entrySet()) {
+					header.writeUTF(hash.getKey());
+					header.writeUTF(hash.getValue());
+				}
+				header.flush();
+				EObjectOutputStream modelOut = new EObjectOutputStream(out, Collections.emptyMap());
+				modelOut.saveResource(resource);
+				modelOut.flush();
+			}
+			Files.move(tempFile, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			// drop the partial snapshot if it could not be written completely
+			Files.deleteIfExists(tempFile);
+		}
+	}
+
+	private boolean loadSnapshot(Resource resource) {
+		Path snapshot = getSnapshotFile(resource.getURI());
+		if (!Files.isRegularFile(snapshot))
+			return false;
+
+		try (InputStream in = new BufferedInputStream(Files.newInputStream(snapshot))) {
+			DataInputStream header = new DataInputStream(in);
+			if (header.readInt() != FORMAT_VERSION)
+				return false;
+			int numberOfDependencies = header.readInt();
+			for (int i = 0; i < numberOfDependencies; i++) {
+				File dependency = new File(header.readUTF());
+				String expectedHash = header.readUTF();
+				if (!dependency.isFile() || !expectedHash.equals(hash(dependency)))
+					return false;
+			}
+			new EObjectInputStream(in, Collections.emptyMap()).loadResource(resource);
+			return true;
+		} catch (IOException | RuntimeException e) {
+			// corrupt or incompatible snapshot: fall back to parsing
+			resource.getContents().clear();
+			return false;
+		}
+	}
+
+	private Path getSnapshotFile(URI uri) {
+		return cacheDirectory.toPath().resolve(hash(uri.toFileString().getBytes(StandardCharsets.UTF_8)) + SNAPSHOT_FILE_EXTENSION);
+	}
+
+	private String hash(File file) throws IOException {
+		return hash(Files.readAllBytes(file.toPath()));
+	}
+
+	private String hash(byte[] content) {
+		try {
+			StringBuilder hash = new StringBuilder();
+			for (byte b : MessageDigest.getInstance("SHA-256").digest(content))
+				hash.append(String.format("%02x", b));
+			return hash.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new ContextMapperApplicationException("SHA-256 is not supported by this JVM.", e);
+		}
+	}
+
+	private boolean isCMLFileResource(Resource resource) {
+		return resource.getURI().isFile() && !resource.getContents().isEmpty() && resource.getContents().get(0) instanceof ContextMappingModel;
+	}
+
+	private URI toURI(File file) {
+		return URI.createFileURI(file.getAbsoluteFile().toPath().normalize().toString());
+	}
+
+	/**
+	 * Resource set that loads CML file resources from their snapshots if
+	 * possible, including the resources of imported models.
+	 */
+	private class SnapshotResourceSet extends ResourceSetImpl {
+
+		private final List<Resource> parsedResources = new ArrayList<>();
+
+		@Override
+		public Resource getResource(URI uri, boolean loadOnDemand) {
+			if (!uri.isFile())
+				return super.getResource(uri, loadOnDemand);
+
+			URI fileURI = toURI(new File(uri.toFileString()));
+			Resource resource = super.getResource(fileURI, false);
+			if (resource != null || !loadOnDemand)
+				return resource;
+
+			resource = createResource(fileURI);
+			if (resource != null && loadSnapshot(resource)) {
+				hitCount.incrementAndGet();
+				return resource;
+			}
+			if (resource != null)
+				getResources().remove(resource);
+
+			resource = super.getResource(fileURI, true);
+			parsedResources.add(resource);
+			missCount.incrementAndGet();
+			return resource;
+		}
+
+	}
+
+}
@@ -15,6 +15,8 @@
  */
 package org.contextmapper.dsl.standalone;
 
+import java.io.File;
+
 /**
  * Factory method to get an StandaloneContextMapperAPI instance.
  * 
@@ -26,4 +28,23 @@ public class ContextMapperStandaloneSetup {
 		return new StandaloneContextMapper();
 	}
 
+	/**
+	 * Returns a standalone API that loads all models through the JVM-wide
+	 * {@link CMLModelCache}: repeatedly loaded files and shared imports are only
+	 * parsed once (as long as they do not change).
+	 */
+	public static StandaloneContextMapperAPI getStandaloneAPIWithModelCache() {
+		return StandaloneContextMapper.withModelCache(CMLModelCache.getSharedInstance());
+	}
+
+	/**
+	 * Returns a standalone API that loads all models from binary snapshots in the
+	 * given cache directory, as long as the files and their imports have not
+	 * changed. Files without (up-to-date) snapshot are parsed and their snapshots
+	 * are written.
+	 */
+	public static StandaloneContextMapperAPI getStandaloneAPIWithSnapshotCache(File cacheDirectory) {
+		return StandaloneContextMapper.withSnapshotCache(new CMLSnapshotCache(cacheDirectory));
+	}
+
 }
@@ -16,10 +16,15 @@
 package org.contextmapper.dsl.standalone;
 
 import java.io.File;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 import org.contextmapper.dsl.ContextMappingDSLStandaloneSetup;
 import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLFactory;
+import org.contextmapper.dsl.refactoring.RefactoringTransaction;
 import org.contextmapper.dsl.refactoring.SemanticCMLRefactoring;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.resource.Resource;
@@ -36,21 +41,66 @@ public class StandaloneContextMapper implements StandaloneContextMapperAPI {
 	@Inject
 	private ISerializer serializer;
 
+	private final CMLModelCache modelCache;
+	private final CMLSnapshotCache snapshotCache;
+
 	public StandaloneContextMapper() {
+		this(null, null);
+	}
+
+	/**
+	 * Creates a standalone Context Mapper that loads all models through the given
+	 * cache (shared resource set). Use the default constructor to load every model
+	 * into a new resource set.
+	 */
+	public static StandaloneContextMapper withModelCache(CMLModelCache modelCache) {
+		return new StandaloneContextMapper(modelCache, null);
+	}
+
+	/**
+	 * Creates a standalone Context Mapper that loads all models from the
+	 * snapshots of the given cache, if they are up to date. Use the default
+	 * constructor to parse every model.
+	 */
+	public static StandaloneContextMapper withSnapshotCache(CMLSnapshotCache snapshotCache) {
+		return new StandaloneContextMapper(null, snapshotCache);
+	}
+
+	private StandaloneContextMapper(CMLModelCache modelCache, CMLSnapshotCache snapshotCache) {
+		this.modelCache = modelCache;
+		this.snapshotCache = snapshotCache;
 		Injector injector = new ContextMappingDSLStandaloneSetup().createInjectorAndDoEMFRegistration();
 		injector.injectMembers(this);
 	}
 
 	@Override
 	public CMLResource loadCML(String filepath) {
-		return new CMLResource(new ResourceSetImpl().getResource(URI.createURI(filepath), true));
+		// the path is interpreted as URI, with or without cache
+		URI uri = URI.createURI(filepath);
+		if (modelCache != null)
+			return new CMLResource(modelCache.getResource(uri));
+		if (snapshotCache != null)
+			return new CMLResource(snapshotCache.getResource(uri));
+		return new CMLResource(new ResourceSetImpl().getResource(uri, true));
 	}
 
 	@Override
 	public CMLResource loadCML(File cmlFile) {
+		if (modelCache != null)
+			return new CMLResource(modelCache.getResource(cmlFile));
+		if (snapshotCache != null)
+			return new CMLResource(snapshotCache.getResource(cmlFile));
 		return new CMLResource(new ResourceSetImpl().getResource(URI.createFileURI(cmlFile.getAbsolutePath()), true));
 	}
 
+	@Override
+	public List<CMLResource> loadAll(Collection<File> cmlFiles, Executor executor) {
+		// the caches are not thread-safe; files are loaded one by one
+		if (modelCache != null || snapshotCache != null)
+			return cmlFiles.stream().map(this::loadCML).collect(Collectors.toList());
+		return new CMLBatchLoader(executor).loadAll(cmlFiles);
+	}
+
 	@Override
 	public void callGenerator(CMLResource cml, IGenerator2 generator) {
 		generator.doGenerate(cml, FileSystemHelper.getFileSystemAccess(), new GeneratorContext());
@@ -83,4 +133,12 @@ public class StandaloneContextMapper implements StandaloneContextMapperAPI {
 		refactoring.persistChanges(serializer);
 	}
 
+	@Override
+	public void applyRefactorings(CMLResource cml, List<SemanticCMLRefactoring> refactorings) {
+		RefactoringTransaction transaction = new RefactoringTransaction(cml);
+		for (SemanticCMLRefactoring refactoring : refactorings)
+			transaction.apply(refactoring);
+		transaction.commit(serializer);
+	}
+
 }
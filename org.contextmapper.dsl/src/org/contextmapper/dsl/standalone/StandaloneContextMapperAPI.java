@@ -16,6 +16,9 @@
 package org.contextmapper.dsl.standalone;
 
 import java.io.File;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 import org.contextmapper.dsl.cml.CMLResource;
 import org.contextmapper.dsl.refactoring.SemanticCMLRefactoring;
@@ -45,6 +48,19 @@ public interface StandaloneContextMapperAPI {
 	 */
 	CMLResource loadCML(File cmlFile);
 
+	/**
+	 * Loads multiple CML models, given a collection of *.cml files. The files are
+	 * parsed concurrently on the given executor; afterwards, all models are linked
+	 * in one shared resource set (imports between the given files are resolved to
+	 * the loaded models).
+	 * 
+	 * @param cmlFiles the *.cml files
+	 * @param executor the executor on which the files shall be parsed
+	 * @return the CMLResources loaded from the *.cml files (in the order of the
+	 *         given files)
+	 */
+	List<CMLResource> loadAll(Collection<File> cmlFiles, Executor executor);
+
 	/**
 	 * Creates a new CML model.
 	 * 
@@ -96,4 +112,16 @@ public interface StandaloneContextMapperAPI {
 	 * @param refactoring the refactoring that shall be applied
 	 */
 	void applyRefactoring(CMLResource cml, SemanticCMLRefactoring refactoring);
+
+	/**
+	 * Applies a sequence of refactorings on a CML model and persists the changes
+	 * once, after the last refactoring. If one of the refactorings fails (or the
+	 * resulting model cannot be serialized), none of the changes are persisted
+	 * and the model is reloaded from its file.
+	 * 
+	 * @param cml          the model on which the refactorings shall be applied
+	 * @param refactorings the refactorings that shall be applied (in the given
+	 *                     order)
+	 */
+	void applyRefactorings(CMLResource cml, List<SemanticCMLRefactoring> refactorings);
 }
@@ -20,13 +20,13 @@ import static org.contextmapper.dsl.validation.ValidationMessages.PRIMITIVE_ID_T
 import static org.contextmapper.dsl.validation.ValidationMessages.REFERENCE_IS_AMBIGUOUS;
 import static org.contextmapper.dsl.validation.ValidationMessages.REFERENCE_TO_NOT_REACHABLE_TYPE;
 
-import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.contextmapper.dsl.cml.CMLModelObjectsResolvingHelper;
+import org.contextmapper.dsl.cml.CMLNameIndex;
+import org.contextmapper.dsl.cml.CMLReachabilityIndex;
 import org.contextmapper.dsl.cml.CMLTypeChecker;
-import org.contextmapper.dsl.contextMappingDSL.Aggregate;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.ContextMap;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
@@ -43,13 +43,14 @@ import org.eclipse.xtext.validation.AbstractDeclarativeValidator;
 import org.eclipse.xtext.validation.Check;
 import org.eclipse.xtext.validation.EValidatorRegistrar;
 
-import com.google.common.collect.Sets;
 import com.google.inject.Inject;
 
 public class DomainObjectValidator extends AbstractDeclarativeValidator {
 
 	public static final String ID_IS_PRIMITIVE_CODE = "primitive-id-detected";
 
+	private static final String REACHABILITY_INDEX_CONTEXT_KEY = DomainObjectValidator.class.getName() + ".reachabilityIndex";
+
 	private CMLTypeChecker typeChecker;
 	@Inject
 	ProjectAwareVisibleContextMapsProvider visibleContextMapsProvider;
@@ -84,17 +85,13 @@ public class DomainObjectValidator extends AbstractDeclarativeValidator {
 	public void checkForAmbiguousReferences(Reference reference) {
 		if (reference.getDomainObjectType() == null)
 			return;
-		List<SimpleDomainObject> referencedObjects = EcoreUtil2.eAllOfType(EcoreUtil2.getRootContainer(reference), SimpleDomainObject.class).stream()
-				.filter(o -> o.getName().equals(reference.getDomainObjectType().getName())).collect(Collectors.toList());
-		if (referencedObjects.size() > 1)
+		if (CMLNameIndex.countElementsInResourceOf(reference, SimpleDomainObject.class, reference.getDomainObjectType().getName()) > 1)
 			warning(String.format(REFERENCE_IS_AMBIGUOUS, reference.getDomainObjectType().getName()), reference, TacticdslPackage.Literals.REFERENCE__DOMAIN_OBJECT_TYPE);
 	}
 
 	@Check
 	public void checkForDuplicateDomainNames(SimpleDomainObject simpleDomainObject) {
-		List<SimpleDomainObject> objects = EcoreUtil2.eAllOfType(EcoreUtil2.getRootContainer(simpleDomainObject), SimpleDomainObject.class).stream()
-				.filter(o -> o.getName().equals(simpleDomainObject.getName())).collect(Collectors.toList());
-		if (objects.size() > 1)
+		if (CMLNameIndex.countElementsInResourceOf(simpleDomainObject, SimpleDomainObject.class, simpleDomainObject.getName()) > 1)
 			warning(String.format(DOMAIN_OBJECT_NAME_ALREADY_EXISTS, simpleDomainObject.getName()), simpleDomainObject, TacticdslPackage.Literals.SIMPLE_DOMAIN_OBJECT__NAME);
 	}
 
@@ -111,16 +108,40 @@ public class DomainObjectValidator extends AbstractDeclarativeValidator {
 
 		Set<ContextMap> visibleContextMaps = visibleContextMapsProvider.get(reference);
 		CMLModelObjectsResolvingHelper helper = new CMLModelObjectsResolvingHelper((ContextMappingModel) rootContainer);
-		SimpleDomainObject containingObject = (SimpleDomainObject) reference.eContainer();
-		Set<String> domainObjectScope = Sets.newHashSet();
-		BoundedContext boundedContext = helper.resolveBoundedContext(containingObject);
-		for (Aggregate aggregate : helper.resolveAllAccessibleAggregates(boundedContext, visibleContextMaps))
-			domainObjectScope.addAll(EcoreUtil2.eAllOfType(aggregate, SimpleDomainObject.class).stream()
-					.map(o -> o.getName()).collect(Collectors.toSet()));
-
-		if (!domainObjectScope.contains(reference.getDomainObjectType().getName()))
+		BoundedContext boundedContext = helper.resolveBoundedContext((SimpleDomainObject) reference.eContainer());
+		if (boundedContext == null)
+			return;
+
+		if (!getReachabilityIndex(visibleContextMaps).isDomainObjectVisible(boundedContext, reference.getDomainObjectType().getName()))
 			warning(String.format(REFERENCE_TO_NOT_REACHABLE_TYPE, reference.getDomainObjectType().getName()),
 					reference, TacticdslPackage.Literals.REFERENCE__DOMAIN_OBJECT_TYPE);
 	}
 
+	/**
+	 * Builds the reachability index for the given visible context maps and
+	 * stores it in the validation context (used before the checks run in
+	 * parallel).
+	 */
+	static void prepareReachabilityIndex(Map<Object, Object> context, Set<ContextMap> visibleContextMaps) {
+		context.put(REACHABILITY_INDEX_CONTEXT_KEY, new CMLReachabilityIndex(visibleContextMaps));
+	}
+
+	/**
+	 * The reachability index is built once per validation pass (and set of
+	 * visible context maps) and stored in the validation context.
+	 */
+	private CMLReachabilityIndex getReachabilityIndex(Set<ContextMap> visibleContextMaps) {
+		Map<Object, Object> context = getContext();
+		if (context == null)
+			return new CMLReachabilityIndex(visibleContextMaps);
+
+		Object cachedIndex = context.get(REACHABILITY_INDEX_CONTEXT_KEY);
+		if (cachedIndex instanceof CMLReachabilityIndex && ((CMLReachabilityIndex) cachedIndex).isBuiltFrom(visibleContextMaps))
+			return (CMLReachabilityIndex) cachedIndex;
+
+		CMLReachabilityIndex index = new CMLReachabilityIndex(visibleContextMaps);
+		context.put(REACHABILITY_INDEX_CONTEXT_KEY, index);
+		return index;
+	}
+
 }
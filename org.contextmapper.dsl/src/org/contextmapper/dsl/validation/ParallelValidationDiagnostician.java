@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 The Context Mapper Project Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.contextmapper.dsl.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.contextmapper.dsl.cml.CMLImportGraph;
+import org.contextmapper.dsl.cml.CMLNameIndex;
+import org.contextmapper.dsl.cml.CMLResource;
+import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.eclipse.emf.common.util.BasicDiagnostic;
+import org.eclipse.emf.common.util.DiagnosticChain;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EValidator;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.xtext.validation.CancelableDiagnostician;
+
+import com.google.inject.Inject;
+
+/**
+ * Diagnostician that can validate the top-level elements of a CML model
+ * (Bounded Contexts, Domains, User Requirements, the Context Map, etc.) in
+ * parallel.
+ *
+ * The parallel mode is opt-in: set the system property
+ * {@value #PARALLEL_VALIDATION_PROPERTY} to "true". All cross-references of the
+ * model and its imports are resolved and the shared indices of the validators
+ * are built before the checks are forked, so that the checks only read the
+ * model and its adapters. The diagnostics of every top-level element are
+ * collected separately and reported in the order of the elements, which is the
+ * same order the sequential validation produces.
+ */
+public class ParallelValidationDiagnostician extends CancelableDiagnostician {
+
+	public static final String PARALLEL_VALIDATION_PROPERTY = "contextmapper.validation.parallel";
+
+	@Inject
+	private ProjectAwareVisibleContextMapsProvider visibleContextMapsProvider;
+
+	@Inject
+	public ParallelValidationDiagnostician(EValidator.Registry registry) {
+		super(registry);
+	}
+
+	@Override
+	protected boolean doValidateContents(EObject eObject, DiagnosticChain diagnostics, Map<Object, Object> context) {
+		if (!(eObject instanceof ContextMappingModel) || eObject.eContents().size() < 2 || !Boolean.getBoolean(PARALLEL_VALIDATION_PROPERTY))
+			return super.doValidateContents(eObject, diagnostics, context);
+
+		resolveAllReferences(eObject.eResource());
+		buildSharedIndices((ContextMappingModel) eObject, context);
+		Map<Object, Object> sharedContext = Collections.synchronizedMap(context);
+		List<ForkJoinTask<ElementValidationResult>> tasks = new ArrayList<>();
+		for (EObject element : eObject.eContents())
+			tasks.add(ForkJoinPool.commonPool().submit(() -> validateElement(element, diagnostics != null, sharedContext)));
+
+		boolean result = true;
+		for (ForkJoinTask<ElementValidationResult> task : tasks) {
+			ElementValidationResult elementResult = task.join();
+			result &= elementResult.valid;
+			if (diagnostics != null)
+				elementResult.diagnostics.getChildren().forEach(diagnostics::add);
+		}
+		return result;
+	}
+
+	private ElementValidationResult validateElement(EObject element, boolean collectDiagnostics, Map<Object, Object> context) {
+		BasicDiagnostic elementDiagnostics = collectDiagnostics ? new BasicDiagnostic() : null;
+		boolean valid = validate(element, elementDiagnostics, context);
+		return new ElementValidationResult(valid, elementDiagnostics);
+	}
+
+	/**
+	 * Resolving proxies modifies the model (and may load imported resources);
+	 * this must not happen concurrently.
+	 */
+	private void resolveAllReferences(Resource resource) {
+		if (resource == null)
+			return;
+		EcoreUtil.resolveAll(resource);
+		if (resource.getResourceSet() == null)
+			return;
+		for (CMLResource importedResource : CMLImportGraph.get(resource.getResourceSet()).getTransitiveImports(resource))
+			EcoreUtil.resolveAll(importedResource);
+	}
+
+	/**
+	 * The validators build their indices lazily and attach them as adapters to
+	 * the resource set, the resources and their contents. EMF adapter lists are
+	 * not thread-safe, so all indices are built here, before the checks are
+	 * forked.
+	 */
+	private void buildSharedIndices(ContextMappingModel model, Map<Object, Object> context) {
+		Resource resource = model.eResource();
+		if (resource == null)
+			return;
+		CMLNameIndex.buildIndexOf(resource);
+		if (resource.getResourceSet() != null) {
+			CMLImportGraph importGraph = CMLImportGraph.get(resource.getResourceSet());
+			importGraph.getDirectImports(resource);
+			for (CMLResource importedResource : importGraph.getTransitiveImports(resource)) {
+				importGraph.getDirectImports(importedResource);
+				CMLNameIndex.buildIndexOf(importedResource.getContextMappingModel().eResource());
+			}
+		}
+		if (visibleContextMapsProvider != null)
+			DomainObjectValidator.prepareReachabilityIndex(context, visibleContextMapsProvider.get(model));
+	}
+
+	private static class ElementValidationResult {
+
+		private final boolean valid;
+		private final BasicDiagnostic diagnostics;
+
+		ElementValidationResult(boolean valid, BasicDiagnostic diagnostics) {
+			this.valid = valid;
+			this.diagnostics = diagnostics;
+		}
+
+	}
+
+}
@@ -1,17 +1,26 @@
 package org.contextmapper.dsl.validation;
 
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
+import org.contextmapper.dsl.ContextMapperResourceDescriptionStrategy;
 import org.contextmapper.dsl.contextMappingDSL.ContextMap;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLPackage;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingModel;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.xtext.EcoreUtil2;
+import org.eclipse.xtext.resource.IResourceDescription;
 import org.eclipse.xtext.resource.impl.ResourceDescriptionsProvider;
 
+import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 
 /**
@@ -23,6 +32,9 @@ import com.google.inject.Inject;
  */
 public class ProjectAwareVisibleContextMapsProvider {
 	
+	private static final List<EClass> EXPORTED_CONTEXT_MAP_MEMBERS = List.of(
+			ContextMappingDSLPackage.eINSTANCE.getBoundedContext(), ContextMappingDSLPackage.eINSTANCE.getContextMap());
+
 	private final ResourceDescriptionsProvider descriptionsProvider;
 	
 	@Inject
@@ -37,23 +49,70 @@ public class ProjectAwareVisibleContextMapsProvider {
 			addContextMap((ContextMappingModel) rootContainer, visibleContextMaps);
 			Resource anchorResource = anchor.eResource();
 			var index = descriptionsProvider.getResourceDescriptions(anchorResource);
-			for (var desc : index.getAllResourceDescriptions()) {
-				for (var exportedObject : desc.getExportedObjects()) {
-					var exported = exportedObject.getEObjectOrProxy();
-					var exportedEclass = exported.eClass();
-					if (exportedEclass.equals(ContextMappingDSLPackage.eINSTANCE.getBoundedContext())
-							|| exportedEclass.equals(ContextMappingDSLPackage.eINSTANCE.getContextMap())) {
-						if (exported.eIsProxy()) {
-							exported = EcoreUtil.resolve(exported, anchorResource.getResourceSet());
-						}
-						ContextMappingModel contextMappingModel = (ContextMappingModel) EcoreUtil2
-								.getRootContainer(exported);
-						addContextMap(contextMappingModel, visibleContextMaps);
-					}
+			visibleContextMaps.addAll(getIndexedContextMaps(Lists.newArrayList(index.getAllResourceDescriptions()),
+					anchorResource.getResourceSet()));
+		}
+		return visibleContextMaps;
+	}
+
+	/**
+	 * The context maps found in the index are cached per resource set. Resource
+	 * descriptions are immutable and replaced by the index whenever a resource
+	 * changes, so the identity of the descriptions serves as the generation of
+	 * the index the cached context maps have been resolved from.
+	 */
+	private Set<ContextMap> getIndexedContextMaps(List<IResourceDescription> descriptions, ResourceSet resourceSet) {
+		VisibleContextMapsCache cache = VisibleContextMapsCache.get(resourceSet);
+		synchronized (cache) {
+			if (!cache.isUpToDate(descriptions))
+				cache.update(descriptions, resolveContextMaps(descriptions, resourceSet));
+			return cache.contextMaps;
+		}
+	}
+
+	private Set<ContextMap> resolveContextMaps(List<IResourceDescription> descriptions, ResourceSet resourceSet) {
+		Set<ContextMap> contextMaps = new HashSet<>();
+		for (var desc : descriptions) {
+			Optional<String> contextMapFragment = getContextMapFragment(desc);
+			if (contextMapFragment.isEmpty()) {
+				resolveContextMapsOfExportedObjects(desc, resourceSet, contextMaps);
+			} else if (!contextMapFragment.get().isEmpty()) {
+				EObject contextMap = resourceSet.getEObject(desc.getURI().appendFragment(contextMapFragment.get()), true);
+				if (contextMap instanceof ContextMap)
+					contextMaps.add((ContextMap) contextMap);
+			}
+		}
+		return contextMaps;
+	}
+
+	/**
+	 * Reads the context map membership exported by the
+	 * {@link ContextMapperResourceDescriptionStrategy}. Returns an empty optional
+	 * if the description has not been created by that strategy.
+	 */
+	private Optional<String> getContextMapFragment(IResourceDescription desc) {
+		for (EClass eClass : EXPORTED_CONTEXT_MAP_MEMBERS) {
+			for (var exportedObject : desc.getExportedObjectsByType(eClass)) {
+				String fragment = exportedObject.getUserData(ContextMapperResourceDescriptionStrategy.CONTEXT_MAP_FRAGMENT);
+				if (fragment != null)
+					return Optional.of(fragment);
+			}
+		}
+		return Optional.empty();
+	}
+
+	private void resolveContextMapsOfExportedObjects(IResourceDescription desc, ResourceSet resourceSet, Set<ContextMap> contextMaps) {
+		for (var exportedObject : desc.getExportedObjects()) {
+			var exported = exportedObject.getEObjectOrProxy();
+			if (EXPORTED_CONTEXT_MAP_MEMBERS.contains(exported.eClass())) {
+				if (exported.eIsProxy()) {
+					exported = EcoreUtil.resolve(exported, resourceSet);
 				}
+				ContextMappingModel contextMappingModel = (ContextMappingModel) EcoreUtil2
+						.getRootContainer(exported);
+				addContextMap(contextMappingModel, contextMaps);
 			}
 		}
-		return visibleContextMaps;
 	}
 
 	private void addContextMap(ContextMappingModel anchor, Set<ContextMap> visibleContextMaps) {
@@ -62,4 +121,40 @@ public class ProjectAwareVisibleContextMapsProvider {
 		}
 	}
 
+	private static class VisibleContextMapsCache extends AdapterImpl {
+
+		private List<IResourceDescription> descriptions = Collections.emptyList();
+		private Set<ContextMap> contextMaps = Collections.emptySet();
+
+		static synchronized VisibleContextMapsCache get(ResourceSet resourceSet) {
+			VisibleContextMapsCache cache = (VisibleContextMapsCache) EcoreUtil.getExistingAdapter(resourceSet, VisibleContextMapsCache.class);
+			if (cache == null) {
+				cache = new VisibleContextMapsCache();
+				resourceSet.eAdapters().add(cache);
+			}
+			return cache;
+		}
+
+		boolean isUpToDate(List<IResourceDescription> currentDescriptions) {
+			if (currentDescriptions.size() != descriptions.size())
+				return false;
+			for (int i = 0; i < descriptions.size(); i++) {
+				if (currentDescriptions.get(i) != descriptions.get(i))
+					return false;
+			}
+			return contextMaps.stream().noneMatch(map -> map.eIsProxy() || map.eResource() == null);
+		}
+
+		void update(List<IResourceDescription> currentDescriptions, Set<ContextMap> currentContextMaps) {
+			this.descriptions = currentDescriptions;
+			this.contextMaps = Collections.unmodifiableSet(currentContextMaps);
+		}
+
+		@Override
+		public boolean isAdapterForType(Object type) {
+			return type == VisibleContextMapsCache.class;
+		}
+
+	}
+
 }
@@ -34,6 +34,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.contextmapper.dsl.cml.CMLModelObjectsResolvingHelper;
+import org.contextmapper.dsl.cml.CMLNameIndex;
 import org.contextmapper.dsl.contextMappingDSL.Aggregate;
 import org.contextmapper.dsl.contextMappingDSL.BoundedContext;
 import org.contextmapper.dsl.contextMappingDSL.ContextMappingDSLPackage;
@@ -46,10 +47,10 @@ import org.contextmapper.dsl.contextMappingDSL.UserRequirement;
 import org.contextmapper.tactic.dsl.tacticdsl.Service;
 import org.contextmapper.tactic.dsl.tacticdsl.SimpleDomainObject;
 import org.contextmapper.tactic.dsl.tacticdsl.TacticdslPackage;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.xtext.EcoreUtil2;
 import org.eclipse.xtext.validation.Check;
 import org.eclipse.xtext.validation.EValidatorRegistrar;
-import org.eclipse.xtext.xbase.lib.Functions.Function1;
 import org.eclipse.xtext.xbase.lib.IteratorExtensions;
 
 import com.google.common.collect.Sets;
@@ -64,12 +65,7 @@ public class UniquenessValidator extends AbstractCMLValidator {
 	@Check
 	public void validateThatBoundedContextNameIsUnique(final BoundedContext bc) {
 		if (bc != null) {
-			Iterator<BoundedContext> allBoundedContexts = new CMLModelObjectsResolvingHelper(getRootCMLModel(bc)).resolveAllObjectsOfType(BoundedContext.class).iterator();
-			Iterator<BoundedContext> duplicateBoundedContexts = IteratorExtensions.filter(allBoundedContexts,
-					((Function1<BoundedContext, Boolean>) (BoundedContext boundedcontext) -> {
-						return boundedcontext.getName().equals(bc.getName());
-					}));
-			if (IteratorExtensions.size(duplicateBoundedContexts) > 1)
+			if (countObjectsWithNameInModelAndImports(bc, BoundedContext.class, bc.getName()) > 1)
 				error(String.format(BOUNDED_CONTEXT_NAME_NOT_UNIQUE, bc.getName()), bc, ContextMappingDSLPackage.Literals.BOUNDED_CONTEXT__NAME);
 		}
 	}
@@ -77,11 +73,7 @@ public class UniquenessValidator extends AbstractCMLValidator {
 	@Check
 	public void validateThatDomainNameIsUnique(final Domain domain) {
 		if (domain != null) {
-			Iterator<Domain> allDomains = new CMLModelObjectsResolvingHelper(getRootCMLModel(domain)).resolveAllObjectsOfType(Domain.class).iterator();
-			Iterator<Domain> duplicateDomains = IteratorExtensions.filter(allDomains, ((Function1<Domain, Boolean>) (Domain d) -> {
-				return domain.getName().equals(d.getName());
-			}));
-			if (IteratorExtensions.size(duplicateDomains) > 1)
+			if (countObjectsWithNameInModelAndImports(domain, Domain.class, domain.getName()) > 1)
 				error(String.format(DOMAIN_NOT_UNIQUE, domain.getName()), domain, ContextMappingDSLPackage.Literals.DOMAIN_PART__NAME);
 		}
 	}
@@ -89,11 +81,7 @@ public class UniquenessValidator extends AbstractCMLValidator {
 	@Check
 	public void validateThatSubdomainNameIsUnique(final Subdomain subdomain) {
 		if (subdomain != null) {
-			Iterator<Subdomain> allSubdomains = new CMLModelObjectsResolvingHelper(getRootCMLModel(subdomain)).resolveAllObjectsOfType(Subdomain.class).iterator();
-			Iterator<Subdomain> duplicateSubdomains = IteratorExtensions.filter(allSubdomains, ((Function1<Subdomain, Boolean>) (Subdomain sd) -> {
-				return subdomain.getName().equals(sd.getName());
-			}));
-			if (IteratorExtensions.size(duplicateSubdomains) > 1)
+			if (countObjectsWithNameInModelAndImports(subdomain, Subdomain.class, subdomain.getName()) > 1)
 				error(String.format(SUBDOMAIN_OBJECT_NOT_UNIQUE, subdomain.getName()), subdomain, ContextMappingDSLPackage.Literals.DOMAIN_PART__NAME);
 		}
 	}
@@ -101,11 +89,7 @@ public class UniquenessValidator extends AbstractCMLValidator {
 	@Check
 	public void validateThatModuleNameIsUnique(final SculptorModule module) {
 		if (module != null) {
-			Iterator<SculptorModule> allModules = new CMLModelObjectsResolvingHelper(getRootCMLModel(module)).resolveAllObjectsOfType(SculptorModule.class).iterator();
-			Iterator<SculptorModule> duplicateModules = IteratorExtensions.filter(allModules, ((Function1<SculptorModule, Boolean>) (SculptorModule m) -> {
-				return m.getName().equals(module.getName());
-			}));
-			if (IteratorExtensions.size(duplicateModules) > 1)
+			if (countObjectsWithNameInModelAndImports(module, SculptorModule.class, module.getName()) > 1)
 				error(String.format(MODULE_NAME_NOT_UNIQUE, module.getName()), module, ContextMappingDSLPackage.Literals.SCULPTOR_MODULE__NAME);
 		}
 	}
@@ -113,11 +97,7 @@ public class UniquenessValidator extends AbstractCMLValidator {
 	@Check
 	public void validateThatAggregateNameIsUnique(final Aggregate aggregate) {
 		if (aggregate != null) {
-			Iterator<Aggregate> allAggregates = new CMLModelObjectsResolvingHelper(getRootCMLModel(aggregate)).resolveAllObjectsOfType(Aggregate.class).iterator();
-			Iterator<Aggregate> duplicateAggregates = IteratorExtensions.filter(allAggregates, ((Function1<Aggregate, Boolean>) (Aggregate a) -> {
-				return a.getName().equals(aggregate.getName());
-			}));
-			if (IteratorExtensions.size(duplicateAggregates) > 1)
+			if (countObjectsWithNameInModelAndImports(aggregate, Aggregate.class, aggregate.getName()) > 1)
 				error(String.format(AGGREGATE_NAME_NOT_UNIQUE, aggregate.getName()), aggregate, ContextMappingDSLPackage.Literals.AGGREGATE__NAME);
 		}
 	}
@@ -153,11 +133,7 @@ public class UniquenessValidator extends AbstractCMLValidator {
 	@Check
 	public void validateThatUseCaseNameIsUnique(final UserRequirement uc) {
 		if (uc != null) {
-			Iterator<UserRequirement> allUseCases = new CMLModelObjectsResolvingHelper(getRootCMLModel(uc)).resolveAllObjectsOfType(UserRequirement.class).iterator();
-			Iterator<UserRequirement> duplicateUseCases = IteratorExtensions.filter(allUseCases, ((Function1<UserRequirement, Boolean>) (UserRequirement u) -> {
-				return u.getName().equals(uc.getName());
-			}));
-			if (IteratorExtensions.size(duplicateUseCases) > 1)
+			if (countObjectsWithNameInModelAndImports(uc, UserRequirement.class, uc.getName()) > 1)
 				error(String.format(USE_CASE_NAME_NOT_UNIQUE, uc.getName()), uc, ContextMappingDSLPackage.Literals.USER_REQUIREMENT__NAME);
 		}
 	}
@@ -186,11 +162,7 @@ public class UniquenessValidator extends AbstractCMLValidator {
 	@Check
 	public void validateThatFlowNameIsUnique(final Flow flow) {
 		if (flow != null) {
-			Iterator<Flow> allFlows = EcoreUtil2.eAllOfType(getRootCMLModel(flow), Flow.class).iterator();
-			Iterator<Flow> duplicateFlows = IteratorExtensions.filter(allFlows, ((Function1<Flow, Boolean>) (Flow f) -> {
-				return f.getName().equals(flow.getName());
-			}));
-			if (IteratorExtensions.size(duplicateFlows) > 1)
+			if (countObjectsWithNameInModel(flow, Flow.class, flow.getName()) > 1)
 				error(String.format(FLOW_NAME_NOT_UNIQUE, flow.getName()), flow, ContextMappingDSLPackage.Literals.FLOW__NAME);
 		}
 	}
@@ -198,15 +170,19 @@ public class UniquenessValidator extends AbstractCMLValidator {
 	@Check
 	public void validateThatCoordinationNameIsUnique(final Coordination coordination) {
 		if (coordination != null) {
-			Iterator<Coordination> allCoordinations = EcoreUtil2.eAllOfType(getRootCMLModel(coordination), Coordination.class).iterator();
-			Iterator<Coordination> duplicateCoordinations = IteratorExtensions.filter(allCoordinations, ((Function1<Coordination, Boolean>) (Coordination c) -> {
-				return c.getName().equals(coordination.getName());
-			}));
-			if (IteratorExtensions.size(duplicateCoordinations) > 1)
+			if (countObjectsWithNameInModel(coordination, Coordination.class, coordination.getName()) > 1)
 				error(String.format(COORDINATION_NAME_NOT_UNIQUE, coordination.getName()), coordination, ContextMappingDSLPackage.Literals.COORDINATION__NAME);
 		}
 	}
 	
+	private int countObjectsWithNameInModelAndImports(EObject object, Class<? extends EObject> type, String name) {
+		return new CMLModelObjectsResolvingHelper(getRootCMLModel(object)).countObjectsOfTypeWithName(type, name);
+	}
+
+	private int countObjectsWithNameInModel(EObject object, Class<? extends EObject> type, String name) {
+		return CMLNameIndex.countElementsInResourceOf(getRootCMLModel(object), type, name);
+	}
+
 	private void checkDomainObjectUnique(List<SimpleDomainObject> domainObjects) {
 		Set<String> usedNames = new HashSet<>();
 		for (SimpleDomainObject o : domainObjects) {
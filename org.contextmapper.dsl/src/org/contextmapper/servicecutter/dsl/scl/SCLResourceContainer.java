@@ -15,14 +15,10 @@
  */
 package org.contextmapper.servicecutter.dsl.scl;
 
-import java.util.List;
-
+import org.contextmapper.dsl.cml.RootModelResolver;
 import org.contextmapper.servicecutter.dsl.scl.exception.ResourceIsNoSCLModelException;
 import org.contextmapper.servicecutter.dsl.serviceCutterConfigurationDSL.ServiceCutterUserRepresentationsModel;
 import org.eclipse.emf.ecore.resource.Resource;
-import org.eclipse.xtext.xbase.lib.IteratorExtensions;
-
-import com.google.common.collect.Iterators;
 
 /**
  * Contains an Eclipse resource for which we can be sure that it contains an SCL
@@ -49,10 +45,8 @@ public class SCLResourceContainer {
 	}
 
 	public ServiceCutterUserRepresentationsModel getServiceCutterConfigurationModel() {
-		List<ServiceCutterUserRepresentationsModel> serviceCutterModels = IteratorExtensions
-				.<ServiceCutterUserRepresentationsModel>toList(Iterators.<ServiceCutterUserRepresentationsModel>filter(resource.getAllContents(), ServiceCutterUserRepresentationsModel.class));
 		// SCL resource only contains one ContextMappingModel
-		return serviceCutterModels.get(0);
+		return RootModelResolver.getRootModel(resource, ServiceCutterUserRepresentationsModel.class);
 	}
 
 	private void throwResourceIsNoSCLModelException(Resource resource) {